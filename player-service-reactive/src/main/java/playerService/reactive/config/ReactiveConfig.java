@@ -0,0 +1,25 @@
+package playerService.reactive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ReactiveConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashingScheduler(
+            @Value("${player-service.reactive.hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${player-service.reactive.hashing.queued-tasks:1000}") int queuedTasks) {
+        return Schedulers.newBoundedElastic(threads, queuedTasks, "hashing");
+    }
+}
@@ -0,0 +1,37 @@
+package playerService.reactive.controller;
+
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.dto.TimeLimitDto;
+import playerService.reactive.model.Player;
+import playerService.reactive.service.PlayerService;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/players")
+public class PlayerController {
+
+    private final PlayerService playerService;
+
+    @Autowired
+    public PlayerController(PlayerService playerService) {
+        this.playerService = playerService;
+    }
+
+    @PostMapping("/register")
+    public Mono<ResponseEntity<Player>> registerPlayer(@Valid @RequestBody PlayerRegistrationDto registrationDto) {
+        return playerService.registerPlayer(registrationDto)
+                .map(registeredPlayer -> new ResponseEntity<>(registeredPlayer, HttpStatus.CREATED));
+    }
+
+    @PostMapping("/time-limit")
+    public Mono<ResponseEntity<Player>> setTimeLimit(@Valid @RequestBody TimeLimitDto timeLimitDto) {
+        return playerService.setTimeLimit(timeLimitDto)
+                .map(player -> new ResponseEntity<>(player, HttpStatus.OK));
+    }
+}
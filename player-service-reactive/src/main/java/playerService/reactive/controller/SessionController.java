@@ -0,0 +1,35 @@
+package playerService.reactive.controller;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.SessionResponseDto;
+import playerService.reactive.service.SessionService;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/sessions")
+public class SessionController {
+
+    private final SessionService sessionService;
+
+    @Autowired
+    public SessionController(SessionService sessionService) {
+        this.sessionService = sessionService;
+    }
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<SessionResponseDto>> login(@Valid @RequestBody LoginRequestDto loginRequest) {
+        return sessionService.login(loginRequest)
+                .map(sessionResponse -> new ResponseEntity<>(sessionResponse, HttpStatus.OK));
+    }
+
+    @PostMapping("/logout/{sessionId}")
+    public Mono<ResponseEntity<Void>> logout(@PathVariable String sessionId) {
+        return sessionService.logout(sessionId)
+                .thenReturn(new ResponseEntity<>(HttpStatus.OK));
+    }
+}
@@ -0,0 +1,131 @@
+package playerService.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Table("player")
+public class Player {
+    @Id
+    private Long id;
+
+    private String email;
+
+    private String password;
+
+    private String name;
+
+    private String surname;
+
+    private LocalDate dateOfBirth;
+
+    private String address;
+
+    private Integer dailyTimeLimit;
+
+    private boolean active = false;
+
+    private LocalDateTime lastSessionStart;
+
+    private Long todaySessionTime = 0L;
+
+    private LocalDateTime lastDailyReset;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSurname() {
+        return surname;
+    }
+
+    public void setSurname(String surname) {
+        this.surname = surname;
+    }
+
+    public LocalDate getDateOfBirth() {
+        return dateOfBirth;
+    }
+
+    public void setDateOfBirth(LocalDate dateOfBirth) {
+        this.dateOfBirth = dateOfBirth;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public Integer getDailyTimeLimit() {
+        return dailyTimeLimit;
+    }
+
+    public void setDailyTimeLimit(Integer dailyTimeLimit) {
+        this.dailyTimeLimit = dailyTimeLimit;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getLastSessionStart() {
+        return lastSessionStart;
+    }
+
+    public void setLastSessionStart(LocalDateTime lastSessionStart) {
+        this.lastSessionStart = lastSessionStart;
+    }
+
+    public Long getTodaySessionTime() {
+        return todaySessionTime;
+    }
+
+    public void setTodaySessionTime(Long todaySessionTime) {
+        this.todaySessionTime = todaySessionTime;
+    }
+
+    public LocalDateTime getLastDailyReset() {
+        return lastDailyReset;
+    }
+
+    public void setLastDailyReset(LocalDateTime lastDailyReset) {
+        this.lastDailyReset = lastDailyReset;
+    }
+}
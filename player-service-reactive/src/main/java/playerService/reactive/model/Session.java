@@ -0,0 +1,82 @@
+package playerService.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Table("session")
+public class Session implements Persistable<String> {
+    @Id
+    private String id;
+
+    private Long playerId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime loggedOutAt;
+
+    @Transient
+    private boolean newSession;
+
+    public static Session open(Long playerId, LocalDateTime now) {
+        Session session = new Session();
+        session.setId(UUID.randomUUID().toString());
+        session.setPlayerId(playerId);
+        session.setCreatedAt(now);
+        session.setExpiresAt(now.plusHours(24));
+        session.newSession = true;
+        return session;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newSession;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getLoggedOutAt() {
+        return loggedOutAt;
+    }
+
+    public void setLoggedOutAt(LocalDateTime loggedOutAt) {
+        this.loggedOutAt = loggedOutAt;
+    }
+}
@@ -0,0 +1,21 @@
+package playerService.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import playerService.reactive.model.Player;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface PlayerRepository extends R2dbcRepository<Player, Long> {
+    Mono<Player> findByEmail(String email);
+
+    Mono<Boolean> existsByEmail(String email);
+
+    @Modifying
+    @Query("UPDATE player SET last_session_start = :sessionStart WHERE id = :id")
+    Mono<Integer> updateLastSessionStart(Long id, LocalDateTime sessionStart);
+}
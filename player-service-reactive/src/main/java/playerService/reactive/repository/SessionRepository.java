@@ -0,0 +1,16 @@
+package playerService.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import playerService.reactive.model.Session;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface SessionRepository extends R2dbcRepository<Session, String> {
+    Mono<Session> findByIdAndLoggedOutAtIsNull(String id);
+
+    Flux<Session> findByPlayerIdAndLoggedOutAtIsNull(Long playerId);
+
+    Flux<Session> findByLoggedOutAtIsNull();
+}
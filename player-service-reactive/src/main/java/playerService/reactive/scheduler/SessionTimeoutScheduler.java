@@ -0,0 +1,23 @@
+package playerService.reactive.scheduler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import playerService.reactive.service.SessionService;
+import reactor.core.publisher.Mono;
+
+@Component
+public class SessionTimeoutScheduler {
+
+    private final SessionService sessionService;
+
+    @Autowired
+    public SessionTimeoutScheduler(SessionService sessionService) {
+        this.sessionService = sessionService;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public Mono<Long> checkTimeLimits() {
+        return sessionService.checkAndLogoutTimeLimitExceededPlayers();
+    }
+}
@@ -0,0 +1,123 @@
+package playerService.reactive.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.dto.TimeLimitDto;
+import playerService.exception.PlayerAlreadyExistsException;
+import playerService.exception.PlayerInactiveException;
+import playerService.exception.PlayerNotFoundException;
+import playerService.reactive.model.Player;
+import playerService.reactive.repository.PlayerRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Service
+public class PlayerService {
+
+    private final PlayerRepository playerRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler passwordHashingScheduler;
+
+    @Autowired
+    public PlayerService(PlayerRepository playerRepository,
+                         PasswordEncoder passwordEncoder,
+                         @Qualifier("passwordHashingScheduler") Scheduler passwordHashingScheduler) {
+        this.playerRepository = playerRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingScheduler = passwordHashingScheduler;
+    }
+
+    public Mono<Player> registerPlayer(PlayerRegistrationDto registrationDto) {
+        return playerRepository.existsByEmail(registrationDto.getEmail())
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.error(new PlayerAlreadyExistsException("Player with email " + registrationDto.getEmail() + " already exists"));
+                    }
+                    return encodePassword(registrationDto.getPassword())
+                            .map(encodedPassword -> newPlayer(registrationDto, encodedPassword))
+                            .flatMap(playerRepository::save);
+                });
+    }
+
+    public Mono<Player> getPlayerById(Long id) {
+        return playerRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new PlayerNotFoundException("Player not found with id: " + id)));
+    }
+
+    public Mono<Player> getPlayerByEmail(String email) {
+        return playerRepository.findByEmail(email)
+                .switchIfEmpty(Mono.error(() -> new PlayerNotFoundException("Player not found with email: " + email)));
+    }
+
+    public Mono<Player> setTimeLimit(TimeLimitDto timeLimitDto) {
+        return getPlayerById(timeLimitDto.getPlayerId())
+                .flatMap(player -> {
+                    if (!player.isActive()) {
+                        return Mono.error(new PlayerInactiveException("Cannot set time limit for inactive player"));
+                    }
+                    player.setDailyTimeLimit(timeLimitDto.getDailyLimitMinutes());
+                    return playerRepository.save(player);
+                });
+    }
+
+    public Mono<Player> updatePlayerSessionTime(Player player, long sessionTimeSeconds) {
+        if (player.getLastDailyReset() != null &&
+                !player.getLastDailyReset().toLocalDate().equals(LocalDate.now())) {
+            player.setTodaySessionTime(0L);
+            player.setLastDailyReset(LocalDateTime.now());
+        }
+
+        player.setTodaySessionTime(player.getTodaySessionTime() + sessionTimeSeconds);
+        return playerRepository.save(player);
+    }
+
+    public Mono<Boolean> hasExceededTimeLimit(Player player) {
+        if (player.getDailyTimeLimit() == null) {
+            return Mono.just(false);
+        }
+
+        if (player.getLastDailyReset() != null &&
+                !player.getLastDailyReset().toLocalDate().equals(LocalDate.now())) {
+            player.setTodaySessionTime(0L);
+            player.setLastDailyReset(LocalDateTime.now());
+            return playerRepository.save(player).thenReturn(false);
+        }
+
+        return Mono.just(player.getTodaySessionTime() >= player.getDailyTimeLimit() * 60);
+    }
+
+    public Mono<Void> updateSessionStartTime(Player player) {
+        LocalDateTime now = LocalDateTime.now();
+        player.setLastSessionStart(now);
+        return playerRepository.updateLastSessionStart(player.getId(), now).then();
+    }
+
+    public Mono<Boolean> matchesPassword(String rawPassword, String encodedPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword))
+                .subscribeOn(passwordHashingScheduler);
+    }
+
+    private Mono<String> encodePassword(String rawPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword))
+                .subscribeOn(passwordHashingScheduler);
+    }
+
+    private Player newPlayer(PlayerRegistrationDto registrationDto, String encodedPassword) {
+        Player player = new Player();
+        player.setEmail(registrationDto.getEmail());
+        player.setPassword(encodedPassword);
+        player.setName(registrationDto.getName());
+        player.setSurname(registrationDto.getSurname());
+        player.setDateOfBirth(registrationDto.getDateOfBirth());
+        player.setAddress(registrationDto.getAddress());
+        player.setActive(true);
+        player.setLastDailyReset(LocalDateTime.now());
+        return player;
+    }
+}
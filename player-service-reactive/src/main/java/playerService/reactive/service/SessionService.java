@@ -0,0 +1,107 @@
+package playerService.reactive.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.SessionResponseDto;
+import playerService.exception.InvalidCredentialsException;
+import playerService.exception.SessionNotFoundException;
+import playerService.exception.TimeLimitExceededException;
+import playerService.reactive.model.Player;
+import playerService.reactive.model.Session;
+import playerService.reactive.repository.SessionRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Service
+public class SessionService {
+
+    private final SessionRepository sessionRepository;
+    private final PlayerService playerService;
+    private final TransactionalOperator transactionalOperator;
+
+    @Autowired
+    public SessionService(SessionRepository sessionRepository, PlayerService playerService, TransactionalOperator transactionalOperator) {
+        this.sessionRepository = sessionRepository;
+        this.playerService = playerService;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    public Mono<SessionResponseDto> login(LoginRequestDto loginRequest) {
+        return playerService.getPlayerByEmail(loginRequest.getEmail())
+                .flatMap(player -> playerService.matchesPassword(loginRequest.getPassword(), player.getPassword())
+                        .flatMap(matches -> {
+                            if (!matches) {
+                                return Mono.error(new InvalidCredentialsException("Invalid email or password"));
+                            }
+                            return openSession(player);
+                        }));
+    }
+
+    public Mono<SessionResponseDto> openSession(Player player) {
+        return playerService.hasExceededTimeLimit(player)
+                .flatMap(exceeded -> {
+                    if (exceeded) {
+                        return Mono.error(new TimeLimitExceededException("Daily time limit exceeded"));
+                    }
+                    return sessionRepository.findByPlayerIdAndLoggedOutAtIsNull(player.getId())
+                            .concatMap(activeSession -> logout(activeSession.getId()))
+                            .then(Mono.defer(() -> sessionRepository.save(Session.open(player.getId(), LocalDateTime.now()))))
+                            .flatMap(session -> playerService.updateSessionStartTime(player)
+                                    .thenReturn(convertToDto(session, player)));
+                })
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Void> logout(String sessionId) {
+        return sessionRepository.findByIdAndLoggedOutAtIsNull(sessionId)
+                .switchIfEmpty(Mono.error(() -> new SessionNotFoundException("Active session not found with id: " + sessionId)))
+                .flatMap(session -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    session.setLoggedOutAt(now);
+                    return sessionRepository.save(session)
+                            .then(playerService.getPlayerById(session.getPlayerId()))
+                            .flatMap(player -> {
+                                LocalDateTime sessionStart = player.getLastSessionStart() != null ?
+                                        player.getLastSessionStart() : session.getCreatedAt();
+                                long sessionDurationSeconds = Duration.between(sessionStart, now).getSeconds();
+                                return playerService.updatePlayerSessionTime(player, sessionDurationSeconds);
+                            });
+                })
+                .then()
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Long> checkAndLogoutTimeLimitExceededPlayers() {
+        return sessionRepository.findByLoggedOutAtIsNull()
+                .concatMap(session -> playerService.getPlayerById(session.getPlayerId())
+                        .filter(player -> hasReachedLimit(player, session))
+                        .flatMap(player -> logout(session.getId()).thenReturn(session.getId())))
+                .count();
+    }
+
+    private boolean hasReachedLimit(Player player, Session session) {
+        if (player.getDailyTimeLimit() == null) {
+            return false;
+        }
+
+        LocalDateTime sessionStart = player.getLastSessionStart() != null ?
+                player.getLastSessionStart() : session.getCreatedAt();
+        long currentSessionSeconds = Duration.between(sessionStart, LocalDateTime.now()).getSeconds();
+
+        long totalSessionTime = player.getTodaySessionTime() + currentSessionSeconds;
+        return totalSessionTime >= player.getDailyTimeLimit() * 60;
+    }
+
+    private SessionResponseDto convertToDto(Session session, Player player) {
+        return new SessionResponseDto(
+                session.getId(),
+                player.getEmail(),
+                session.getCreatedAt(),
+                session.getExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS player (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    surname VARCHAR(255) NOT NULL,
+    date_of_birth DATE NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    daily_time_limit INT,
+    active BOOLEAN DEFAULT FALSE NOT NULL,
+    last_session_start TIMESTAMP,
+    today_session_time BIGINT DEFAULT 0,
+    last_daily_reset TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS session (
+    id VARCHAR(36) PRIMARY KEY,
+    player_id BIGINT NOT NULL REFERENCES player (id),
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP,
+    logged_out_at TIMESTAMP
+);
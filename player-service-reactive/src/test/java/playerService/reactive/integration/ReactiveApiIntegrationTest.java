@@ -0,0 +1,110 @@
+package playerService.reactive.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.dto.TimeLimitDto;
+
+import java.time.LocalDate;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class ReactiveApiIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void fullApiWorkflow() {
+        PlayerRegistrationDto registrationDto = new PlayerRegistrationDto(
+                "reactive@test.com",
+                "reactivepass",
+                "Reactive",
+                "Test",
+                LocalDate.of(1992, 8, 15),
+                "123 Reactive St, Test City"
+        );
+
+        JsonNode registered = webTestClient.post().uri("/api/players/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(registrationDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(JsonNode.class)
+                .returnResult()
+                .getResponseBody();
+
+        long playerId = registered.get("id").asLong();
+
+        LoginRequestDto loginRequest = new LoginRequestDto("reactive@test.com", "reactivepass");
+
+        JsonNode session = webTestClient.post().uri("/api/sessions/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(loginRequest)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class)
+                .returnResult()
+                .getResponseBody();
+
+        webTestClient.post().uri("/api/players/time-limit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TimeLimitDto(playerId, 120))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.dailyTimeLimit").isEqualTo(120);
+
+        webTestClient.post().uri("/api/sessions/logout/{sessionId}", session.get("sessionId").asText())
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.post().uri("/api/sessions/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(loginRequest)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.playerEmail").isEqualTo("reactive@test.com");
+    }
+
+    @Test
+    void invalidLogin() {
+        webTestClient.post().uri("/api/players/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new PlayerRegistrationDto("badlogin@test.com", "correctpass", "Bad", "Login",
+                        LocalDate.of(1995, 5, 15), "123 Login St, Test City"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.post().uri("/api/sessions/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequestDto("badlogin@test.com", "wrongpass"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void registerInvalidPayload() {
+        webTestClient.post().uri("/api/players/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new PlayerRegistrationDto("not-an-email", "", "Bad", "Payload",
+                        LocalDate.of(1995, 5, 15), "123 Payload St, Test City"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.email").exists();
+    }
+
+    @Test
+    void logoutInvalidSession() {
+        webTestClient.post().uri("/api/sessions/logout/{sessionId}", "non-existent-session")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
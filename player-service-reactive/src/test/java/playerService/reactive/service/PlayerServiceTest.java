@@ -0,0 +1,106 @@
+package playerService.reactive.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.exception.PlayerAlreadyExistsException;
+import playerService.exception.PlayerNotFoundException;
+import playerService.reactive.model.Player;
+import playerService.reactive.repository.PlayerRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PlayerServiceTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private PlayerService playerService;
+
+    private PlayerRegistrationDto validRegistration;
+
+    @BeforeEach
+    void setUp() {
+        playerService = new PlayerService(playerRepository, passwordEncoder, Schedulers.immediate());
+
+        validRegistration = new PlayerRegistrationDto(
+                "test@example.com",
+                "password123",
+                "John",
+                "Doe",
+                LocalDate.of(1990, 1, 1),
+                "123 Test St, Test City"
+        );
+    }
+
+    @Test
+    void registerPlayer_Success() {
+        when(playerRepository.existsByEmail(anyString())).thenReturn(Mono.just(false));
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
+        when(playerRepository.save(any(Player.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(playerService.registerPlayer(validRegistration))
+                .expectNextMatches(player -> player.isActive() && player.getPassword().equals("encoded_password"))
+                .verifyComplete();
+    }
+
+    @Test
+    void registerPlayer_AlreadyExists() {
+        when(playerRepository.existsByEmail(anyString())).thenReturn(Mono.just(true));
+
+        StepVerifier.create(playerService.registerPlayer(validRegistration))
+                .expectError(PlayerAlreadyExistsException.class)
+                .verify();
+
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    @Test
+    void getPlayerById_NotFound() {
+        when(playerRepository.findById(anyLong())).thenReturn(Mono.empty());
+
+        StepVerifier.create(playerService.getPlayerById(1L))
+                .expectError(PlayerNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void hasExceededTimeLimit_True() {
+        Player player = new Player();
+        player.setDailyTimeLimit(60);
+        player.setTodaySessionTime(3601L);
+        player.setLastDailyReset(LocalDateTime.now());
+
+        StepVerifier.create(playerService.hasExceededTimeLimit(player))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    void hasExceededTimeLimit_NewDayResets() {
+        Player player = new Player();
+        player.setDailyTimeLimit(60);
+        player.setTodaySessionTime(3601L);
+        player.setLastDailyReset(LocalDateTime.now().minusDays(1));
+        when(playerRepository.save(any(Player.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(playerService.hasExceededTimeLimit(player))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,7 @@
+#!/usr/bin/env bash
+# Per-stage latency histograms for the player service events in a flight recording.
+#
+#   scripts/jfr-summary.sh recordings/now.jfr
+set -euo pipefail
+
+exec java "$(dirname "$0")/../src/main/java/playerService/jfr/JfrSummary.java" "$@"
@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# Reports time from process launch to the first successful login.
+#
+#   scripts/startup-benchmark.sh java -jar target/player-service-exec.jar
+#   scripts/startup-benchmark.sh docker run --rm -p 8080:8080 player-service
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+EMAIL="bench-$(date +%s%N)@bench.local"
+PASSWORD="bench-password"
+
+now_ms() { date +%s%3N; }
+
+start=$(now_ms)
+"$@" > startup-benchmark.log 2>&1 &
+app_pid=$!
+trap 'kill "$app_pid" 2>/dev/null || true' EXIT
+
+until curl -sf -o /dev/null -X POST "$BASE_URL/api/players/register" \
+        -H 'Content-Type: application/json' \
+        -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\",\"name\":\"Bench\",\"surname\":\"Mark\",\"dateOfBirth\":\"1990-01-01\",\"address\":\"Bench\"}"; do
+    kill -0 "$app_pid" 2>/dev/null || { echo "application exited, see startup-benchmark.log" >&2; exit 1; }
+    sleep 0.02
+done
+
+until curl -sf -o /dev/null -X POST "$BASE_URL/api/sessions/login" \
+        -H 'Content-Type: application/json' \
+        -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}"; do
+    sleep 0.02
+done
+
+echo "time-to-first-successful-login: $(( $(now_ms) - start )) ms"
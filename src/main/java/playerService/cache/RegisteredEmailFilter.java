@@ -0,0 +1,167 @@
+package playerService.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import playerService.repository.PlayerRepository;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Negative cache of registered emails. A miss means the email is certainly not registered through
+ * this node, so callers can skip the database; a hit still has to be confirmed by a query. Emails
+ * registered while a rebuild is running go into both the live filter and the one being built, so
+ * they are not lost when the new filter is swapped in. Rebuilds read the primary, and never run on a
+ * registering thread: a filter that outgrows its capacity is only flagged, and a scheduled check
+ * rebuilds it.
+ * <p>
+ * Registrations made on other nodes only show up at the next rebuild, so the filter is off by
+ * default and should only be enabled when a single node serves registrations and logins.
+ */
+@Component
+public class RegisteredEmailFilter implements MeterBinder {
+
+    private final PlayerRepository playerRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final long minimumCapacity;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final LongAdder queriesAvoided = new LongAdder();
+    private final LongAdder possibleHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+
+    @Autowired
+    public RegisteredEmailFilter(PlayerRepository playerRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${player-service.email-filter.enabled:false}") boolean enabled,
+                                 @Value("${player-service.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${player-service.email-filter.minimum-capacity:100000}") long minimumCapacity) {
+        this.playerRepository = playerRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minimumCapacity = minimumCapacity;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${player-service.email-filter.rebuild-interval:PT10M}",
+            initialDelayString = "${player-service.email-filter.rebuild-interval:PT10M}")
+    public void rebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildRequested.set(false);
+            // Not read-only, so the count and the scan go to the primary and see every committed email.
+            primaryTransaction.executeWithoutResult(status -> {
+                long capacity = Math.max(minimumCapacity, playerRepository.count() * 2);
+                BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+                building = rebuilt;
+                try (Stream<String> emails = playerRepository.streamAllEmails()) {
+                    emails.forEach(rebuilt::put);
+                }
+                filter = rebuilt;
+            });
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${player-service.email-filter.overflow-check-interval:PT10S}",
+            initialDelayString = "${player-service.email-filter.overflow-check-interval:PT10S}")
+    public void rebuildIfFull() {
+        if (rebuildRequested.get()) {
+            rebuild();
+        }
+    }
+
+    public boolean mightContain(String email) {
+        BloomFilter current = filter;
+        if (current == null) {
+            return true;
+        }
+        if (current.mightContain(email)) {
+            possibleHits.increment();
+            return true;
+        }
+        queriesAvoided.increment();
+        return false;
+    }
+
+    /**
+     * Call once the registration has committed. The email goes into the live filter and into any
+     * filter being built, and the live filter is read again in case a rebuild swapped it in
+     * meanwhile. A rebuild that had not started its scan by then finds the committed email itself.
+     * Overfilling the filter only requests a rebuild, which {@link #rebuildIfFull()} picks up.
+     */
+    public void add(String email) {
+        BloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+        current.put(email);
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(email);
+        }
+        BloomFilter latest = filter;
+        if (latest != current) {
+            latest.put(email);
+        }
+        if (latest.insertions() > latest.expectedInsertions()) {
+            rebuildRequested.set(true);
+        }
+    }
+
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.email_filter.queries_avoided", queriesAvoided, LongAdder::sum)
+                .description("Email lookups answered by the filter without touching the database")
+                .register(registry);
+        FunctionCounter.builder("player.email_filter.false_positives", falsePositives, LongAdder::sum)
+                .description("Email lookups the filter passed through that the database did not find")
+                .register(registry);
+        Gauge.builder("player.email_filter.false_positive_rate", this, RegisteredEmailFilter::observedFalsePositiveRate)
+                .description("Observed share of unknown emails the filter failed to reject")
+                .register(registry);
+        Gauge.builder("player.email_filter.expected_false_positive_rate", this, RegisteredEmailFilter::expectedFalsePositiveRate)
+                .description("False positive rate predicted from the filter's size and fill")
+                .register(registry);
+    }
+
+    double observedFalsePositiveRate() {
+        long falsePositiveCount = falsePositives.sum();
+        long negatives = falsePositiveCount + queriesAvoided.sum();
+        return negatives == 0 ? 0.0 : (double) falsePositiveCount / negatives;
+    }
+
+    double expectedFalsePositiveRate() {
+        BloomFilter current = filter;
+        return current == null ? 1.0 : current.expectedFalsePositiveRate();
+    }
+}
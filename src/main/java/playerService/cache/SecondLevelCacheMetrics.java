@@ -0,0 +1,74 @@
+package playerService.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import playerService.config.SecondLevelCacheConfig;
+
+import java.util.List;
+
+/**
+ * Publishes hit, miss and put counts plus the hit ratio of each Hibernate second-level cache
+ * region, tagged by region name.
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private static final List<String> REGIONS = List.of(
+            SecondLevelCacheConfig.PLAYER_REGION,
+            SecondLevelCacheConfig.QUERY_RESULTS_REGION);
+
+    private final Statistics statistics;
+
+    @Autowired
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : REGIONS) {
+            FunctionCounter.builder("player.l2_cache.hits", this, metrics -> metrics.hits(region))
+                    .tag("region", region)
+                    .register(registry);
+            FunctionCounter.builder("player.l2_cache.misses", this, metrics -> metrics.misses(region))
+                    .tag("region", region)
+                    .register(registry);
+            FunctionCounter.builder("player.l2_cache.puts", this, metrics -> metrics.puts(region))
+                    .tag("region", region)
+                    .register(registry);
+            Gauge.builder("player.l2_cache.hit_ratio", this, metrics -> metrics.hitRatio(region))
+                    .tag("region", region)
+                    .description("Share of second-level cache lookups served from the region")
+                    .register(registry);
+        }
+    }
+
+    public double hitRatio(String region) {
+        long hits = hits(region);
+        long lookups = hits + misses(region);
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    public long hits(String region) {
+        CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+        return stats == null ? 0 : stats.getHitCount();
+    }
+
+    public long misses(String region) {
+        CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+        return stats == null ? 0 : stats.getMissCount();
+    }
+
+    long puts(String region) {
+        CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+        return stats == null ? 0 : stats.getPutCount();
+    }
+}
@@ -0,0 +1,47 @@
+package playerService.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${player-service.async.hashing.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int poolSize,
+            @Value("${player-service.async.hashing.queue-capacity:1000}") int queueCapacity) {
+        return createExecutor("hashing-", poolSize, queueCapacity);
+    }
+
+    @Bean(name = "persistenceExecutor")
+    public ThreadPoolTaskExecutor persistenceExecutor(
+            @Value("${player-service.async.persistence.pool-size:10}") int poolSize,
+            @Value("${player-service.async.persistence.queue-capacity:1000}") int queueCapacity) {
+        return createExecutor("persistence-", poolSize, queueCapacity);
+    }
+
+    @Bean(name = "bulkUpdateExecutor")
+    public ThreadPoolTaskExecutor bulkUpdateExecutor(
+            @Value("${player-service.bulk-time-limit.queue-capacity:10}") int queueCapacity) {
+        return createExecutor("bulk-update-", 1, queueCapacity);
+    }
+
+    @Bean(name = "limitNotificationExecutor")
+    public ThreadPoolTaskExecutor limitNotificationExecutor(
+            @Value("${player-service.limit-warnings.sender.pool-size:4}") int poolSize,
+            @Value("${player-service.limit-warnings.sender.queue-capacity:10000}") int queueCapacity) {
+        return createExecutor("limit-sender-", poolSize, queueCapacity);
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,56 @@
+package playerService.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "player-service.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulingConfig.class);
+
+    /**
+     * Runs every scheduled job, picked up by name. The pool starts at the configured size and is
+     * grown to one thread per registered job once they are all known (see
+     * {@link #sizeSchedulerForJobs}), so a long rollover does not delay the time-limit sweep.
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${player-service.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setPoolSize(poolSize);
+        scheduler.setErrorHandler(ex -> log.error("Scheduled job failed", ex));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    /**
+     * Jobs come from {@code @Scheduled} methods and from {@code SchedulingConfigurer}s, and are only
+     * all registered once the context has refreshed, so the pool is sized here rather than when
+     * the scheduler is created. The configured size stays the minimum.
+     */
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> sizeSchedulerForJobs(ThreadPoolTaskScheduler taskScheduler,
+                                                                           ObjectProvider<ScheduledTaskHolder> holders) {
+        return event -> {
+            int jobs = holders.stream().mapToInt(holder -> holder.getScheduledTasks().size()).sum();
+            if (jobs > taskScheduler.getPoolSize()) {
+                log.info("Growing scheduler pool from {} to {} threads, one per scheduled job",
+                        taskScheduler.getPoolSize(), jobs);
+                taskScheduler.setPoolSize(jobs);
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package playerService.config;
+
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import playerService.model.Player;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String PLAYER_REGION = Player.class.getName();
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private static final long UPDATE_TIMESTAMPS_ENTRIES = 1000;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${player-service.second-level-cache.player.max-entries:10000}") long playerEntries,
+            @Value("${player-service.second-level-cache.player.time-to-live:10m}") Duration playerTimeToLive,
+            @Value("${player-service.second-level-cache.queries.max-entries:10000}") long queryEntries,
+            @Value("${player-service.second-level-cache.queries.time-to-live:10m}") Duration queryTimeToLive) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        Map<String, CacheConfiguration<?, ?>> regions = Map.of(
+                PLAYER_REGION, region(playerEntries, playerTimeToLive),
+                QUERY_RESULTS_REGION, region(queryEntries, queryTimeToLive),
+                // Timestamps hold one entry per table and must outlive every cached query result.
+                UPDATE_TIMESTAMPS_REGION, region(UPDATE_TIMESTAMPS_ENTRIES, null));
+        // A unique URI keeps each application context on its own cache manager.
+        URI uri = URI.create("urn:player-service:l2:" + UUID.randomUUID());
+        return provider.getCacheManager(uri, new DefaultConfiguration(regions, provider.getDefaultClassLoader()));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CacheConfiguration<Object, Object> region(long maxEntries, Duration timeToLive) {
+        return CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(timeToLive == null
+                        ? ExpiryPolicyBuilder.noExpiration()
+                        : ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive))
+                .build();
+    }
+}
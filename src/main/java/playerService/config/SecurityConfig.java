@@ -1,31 +1,83 @@
 package playerService.config;
 
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import playerService.security.BcryptCalibrator;
+import playerService.security.MeteredPasswordEncoder;
+
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
+    static final String ADMIN_ROLE = "ADMIN";
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(Customizer.withDefaults())
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/api/admin/**", "/actuator/metrics", "/actuator/metrics/**").hasRole(ADMIN_ROLE)
+                        .requestMatchers("/api/players/time-limit/bulk", "/api/players/time-limit/bulk/**").hasRole(ADMIN_ROLE)
                         .requestMatchers("/api/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
                         .anyRequest().authenticated()
                 );
         return http.build();
     }
 
+    /**
+     * The operator account for the admin API, authenticated with HTTP Basic. Without a configured
+     * password there is no account and every admin request is rejected.
+     */
+    @Bean
+    public UserDetailsService adminUserDetailsService(
+            @Value("${player-service.admin.username:admin}") String username,
+            @Value("${player-service.admin.password:}") String password,
+            PasswordEncoder passwordEncoder) {
+        if (password.isBlank()) {
+            log.warn("player-service.admin.password is not set; the admin API is disabled");
+            return new InMemoryUserDetailsManager();
+        }
+        return new InMemoryUserDetailsManager(User.withUsername(username)
+                .password(passwordEncoder.encode(password))
+                .roles(ADMIN_ROLE)
+                .build());
+    }
+
+    /**
+     * A fixed {@code bcrypt.cost} skips calibration; otherwise the cost is measured at startup
+     * against {@code bcrypt.budget}.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public MeteredPasswordEncoder passwordEncoder(
+            @Value("${player-service.password.bcrypt.cost:0}") int fixedCost,
+            @Value("${player-service.password.bcrypt.budget:100ms}") Duration budget,
+            @Value("${player-service.password.bcrypt.min-cost:10}") int minCost,
+            @Value("${player-service.password.bcrypt.max-cost:16}") int maxCost) {
+        if (fixedCost > 0) {
+            return new MeteredPasswordEncoder(fixedCost, Duration.ZERO);
+        }
+        BcryptCalibrator.Calibration calibration = BcryptCalibrator.calibrate(budget, minCost, maxCost);
+        log.info("BCrypt cost {} hashes in {} ms (budget {} ms)", calibration.cost(),
+                calibration.hashLatency().toMillis(), budget.toMillis());
+        return new MeteredPasswordEncoder(calibration.cost(), calibration.hashLatency());
     }
 }
@@ -0,0 +1,79 @@
+package playerService.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import playerService.dto.KeysetPageDto;
+import playerService.dto.PlayerSummaryDto;
+import playerService.dto.SessionSummaryDto;
+import playerService.export.ExportFormat;
+import playerService.service.AdminService;
+import playerService.service.ExportService;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    public static final String WATERMARK_HEADER = "Export-Watermark";
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final AdminService adminService;
+    private final ExportService exportService;
+
+    @Autowired
+    public AdminController(AdminService adminService, ExportService exportService) {
+        this.adminService = adminService;
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/players")
+    public ResponseEntity<KeysetPageDto<PlayerSummaryDto>> listPlayers(
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) Boolean limitSet,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime registeredFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime registeredTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(adminService.listPlayers(active, limitSet, registeredFrom, registeredTo, cursor, size));
+    }
+
+    @GetMapping("/players/{playerId}/sessions")
+    public ResponseEntity<KeysetPageDto<SessionSummaryDto>> listSessions(
+            @PathVariable Long playerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(adminService.listSessions(playerId, cursor, size));
+    }
+
+    @GetMapping("/export/players")
+    public ResponseEntity<StreamingResponseBody> exportPlayers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return export("players", format, out -> exportService.exportPlayers(since, format, out));
+    }
+
+    @GetMapping("/export/sessions")
+    public ResponseEntity<StreamingResponseBody> exportSessions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return export("sessions", format, out -> exportService.exportSessions(since, format, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, ExportFormat format, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension() + ".gz")
+                .build();
+        return ResponseEntity.ok()
+                .contentType(GZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .header(WATERMARK_HEADER, exportService.watermark().toString())
+                .body(body);
+    }
+}
@@ -1,36 +1,74 @@
 package playerService.controller;
 
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import playerService.dto.BulkTimeLimitDto;
+import playerService.dto.BulkTimeLimitStatusDto;
 import playerService.dto.PlayerRegistrationDto;
 import playerService.dto.TimeLimitDto;
+import playerService.idempotency.IdempotencyCache;
 import playerService.model.Player;
+import playerService.service.BulkTimeLimitService;
 import playerService.service.PlayerService;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/players")
 public class PlayerController {
 
     private final PlayerService playerService;
+    private final BulkTimeLimitService bulkTimeLimitService;
+    private final IdempotencyCache idempotencyCache;
 
     @Autowired
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService,
+                            BulkTimeLimitService bulkTimeLimitService,
+                            IdempotencyCache idempotencyCache) {
         this.playerService = playerService;
+        this.bulkTimeLimitService = bulkTimeLimitService;
+        this.idempotencyCache = idempotencyCache;
     }
 
     @PostMapping("/register")
-    public ResponseEntity<Player> registerPlayer(@Valid @RequestBody PlayerRegistrationDto registrationDto) {
-        Player registeredPlayer = playerService.registerPlayer(registrationDto);
-        return new ResponseEntity<>(registeredPlayer, HttpStatus.CREATED);
+    public ResponseEntity<Player> registerPlayer(@Valid @RequestBody PlayerRegistrationDto registrationDto,
+                                                 @RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey,
+                                                 HttpServletRequest request) {
+        return idempotencyCache.execute("register", request.getRemoteAddr(), idempotencyKey, registrationDto, () -> {
+            Player registeredPlayer = playerService.registerPlayer(registrationDto);
+            return new ResponseEntity<>(registeredPlayer, HttpStatus.CREATED);
+        });
     }
 
     @PostMapping("/time-limit")
-    public ResponseEntity<Player> setTimeLimit(@Valid @RequestBody TimeLimitDto timeLimitDto) {
-        Player player = playerService.setTimeLimit(timeLimitDto);
-        return new ResponseEntity<>(player, HttpStatus.OK);
+    public ResponseEntity<Player> setTimeLimit(@Valid @RequestBody TimeLimitDto timeLimitDto,
+                                               @RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey,
+                                               HttpServletRequest request) {
+        return idempotencyCache.execute("time-limit", request.getRemoteAddr(), idempotencyKey, timeLimitDto, () -> {
+            Player player = playerService.setTimeLimit(timeLimitDto);
+            return new ResponseEntity<>(player, HttpStatus.OK);
+        });
+    }
+
+    @PostMapping("/time-limit/bulk")
+    public ResponseEntity<BulkTimeLimitStatusDto> setTimeLimits(@Valid @RequestBody BulkTimeLimitDto bulkTimeLimitDto,
+                                                                @RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey,
+                                                                HttpServletRequest request) {
+        return idempotencyCache.execute("time-limit/bulk", request.getRemoteAddr(), idempotencyKey, bulkTimeLimitDto, () -> {
+            BulkTimeLimitStatusDto status = bulkTimeLimitService.start(bulkTimeLimitDto);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/players/time-limit/bulk/" + status.getJobId()))
+                    .body(status);
+        });
+    }
+
+    @GetMapping("/time-limit/bulk/{jobId}")
+    public ResponseEntity<BulkTimeLimitStatusDto> getBulkTimeLimitStatus(@PathVariable String jobId) {
+        return ResponseEntity.ok(bulkTimeLimitService.getStatus(jobId));
     }
 }
@@ -1,34 +1,119 @@
 package playerService.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import playerService.dto.LoginRequestDto;
 import playerService.dto.SessionResponseDto;
+import playerService.exception.InvalidCredentialsException;
+import playerService.exception.PlayerNotFoundException;
+import playerService.idempotency.IdempotencyCache;
+import playerService.notification.SessionLimitNotifier;
+import playerService.ratelimit.LoginRateLimiter;
+import playerService.service.AsyncSessionService;
+import playerService.service.HeartbeatService;
 import playerService.service.SessionService;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @RestController
 @RequestMapping("/api/sessions")
 public class SessionController {
 
     private final SessionService sessionService;
+    private final AsyncSessionService asyncSessionService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final SessionLimitNotifier sessionLimitNotifier;
+    private final HeartbeatService heartbeatService;
+    private final IdempotencyCache idempotencyCache;
 
     @Autowired
-    public SessionController(SessionService sessionService) {
+    public SessionController(SessionService sessionService,
+                             AsyncSessionService asyncSessionService,
+                             LoginRateLimiter loginRateLimiter,
+                             SessionLimitNotifier sessionLimitNotifier,
+                             HeartbeatService heartbeatService,
+                             IdempotencyCache idempotencyCache) {
         this.sessionService = sessionService;
+        this.asyncSessionService = asyncSessionService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.sessionLimitNotifier = sessionLimitNotifier;
+        this.heartbeatService = heartbeatService;
+        this.idempotencyCache = idempotencyCache;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<SessionResponseDto> login(@Valid @RequestBody LoginRequestDto loginRequest) {
-        SessionResponseDto sessionResponse = sessionService.login(loginRequest);
-        return new ResponseEntity<>(sessionResponse, HttpStatus.OK);
+    public ResponseEntity<SessionResponseDto> login(@Valid @RequestBody LoginRequestDto loginRequest,
+                                                    @RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey,
+                                                    HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+        // Checked before any replay, so an idempotency key is no way around the login limits.
+        loginRateLimiter.checkLogin(loginRequest.getEmail(), clientIp);
+        return idempotencyCache.execute("login", clientIp, idempotencyKey, loginRequest, () -> {
+            SessionResponseDto sessionResponse;
+            try {
+                sessionResponse = sessionService.login(loginRequest);
+            } catch (InvalidCredentialsException | PlayerNotFoundException ex) {
+                loginRateLimiter.recordFailure(loginRequest.getEmail(), clientIp);
+                throw ex;
+            }
+            loginRateLimiter.recordSuccess(loginRequest.getEmail(), clientIp);
+            return new ResponseEntity<>(sessionResponse, HttpStatus.OK);
+        });
     }
 
     @PostMapping("/logout/{sessionId}")
-    public ResponseEntity<Void> logout(@PathVariable String sessionId) {
-        sessionService.logout(sessionId);
-        return new ResponseEntity<>(HttpStatus.OK);
+    public ResponseEntity<Void> logout(@PathVariable String sessionId,
+                                       @RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey,
+                                       HttpServletRequest request) {
+        return idempotencyCache.execute("logout", request.getRemoteAddr(), idempotencyKey, sessionId, () -> {
+            sessionService.logout(sessionId);
+            return new ResponseEntity<>(HttpStatus.OK);
+        });
+    }
+
+    @PostMapping("/async/login")
+    public CompletableFuture<ResponseEntity<SessionResponseDto>> loginAsync(@Valid @RequestBody LoginRequestDto loginRequest, HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+        loginRateLimiter.checkLogin(loginRequest.getEmail(), clientIp);
+        return asyncSessionService.login(loginRequest)
+                .whenComplete((sessionResponse, ex) -> {
+                    if (ex == null) {
+                        loginRateLimiter.recordSuccess(loginRequest.getEmail(), clientIp);
+                    } else if (isFailedAttempt(ex instanceof CompletionException ? ex.getCause() : ex)) {
+                        loginRateLimiter.recordFailure(loginRequest.getEmail(), clientIp);
+                    }
+                })
+                .thenApply(sessionResponse -> new ResponseEntity<>(sessionResponse, HttpStatus.OK));
+    }
+
+    @PostMapping("/async/logout/{sessionId}")
+    public CompletableFuture<ResponseEntity<Void>> logoutAsync(@PathVariable String sessionId) {
+        return asyncSessionService.logout(sessionId)
+                .thenApply(ignored -> new ResponseEntity<>(HttpStatus.OK));
+    }
+
+    @PostMapping("/{sessionId}/heartbeat")
+    public ResponseEntity<Void> heartbeat(@PathVariable String sessionId) {
+        heartbeatService.beat(sessionId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @GetMapping(value = "/{sessionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable String sessionId) {
+        return sessionLimitNotifier.subscribe(sessionService.getActiveSession(sessionId));
+    }
+
+    /**
+     * A wrong password or an unknown email; both count towards the login backoff.
+     */
+    private static boolean isFailedAttempt(Throwable ex) {
+        return ex instanceof InvalidCredentialsException || ex instanceof PlayerNotFoundException;
     }
 }
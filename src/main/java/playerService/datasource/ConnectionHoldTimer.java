@@ -0,0 +1,155 @@
+package playerService.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times how long each connection from the application's {@code dataSource} is held, from
+ * {@code getConnection} to {@code close}, per calling method. The caller is the innermost
+ * application frame on the stack when the connection is taken: the {@code @Transactional} method
+ * that began the transaction, the method running a {@code TransactionTemplate}, or the one calling
+ * a repository outside a transaction. Connections taken with no application frame on the stack,
+ * such as schema creation at startup, are recorded as {@code other}.
+ */
+@Component
+public class ConnectionHoldTimer implements BeanPostProcessor, MeterBinder {
+
+    public static final String METRIC = "player.db.connection.hold";
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+    private static final String APPLICATION_PACKAGE = "playerService.";
+    private static final String OWN_PACKAGE = ConnectionHoldTimer.class.getPackageName() + ".";
+    private static final String OTHER = "other";
+
+    private final StackWalker stackWalker = StackWalker.getInstance();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+            return new TimedDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    String caller() {
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(OWN_PACKAGE))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + methodName(frame.getMethodName()))
+                .orElse(OTHER));
+    }
+
+    private void record(String caller, long startedNanos) {
+        MeterRegistry current = registry;
+        if (current == null) {
+            return;
+        }
+        timers.computeIfAbsent(caller, method -> Timer.builder(METRIC)
+                        .tag("method", method)
+                        .description("Time a pooled connection is held by the method that took it")
+                        .register(current))
+                .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@code SessionService$$SpringCGLIB$$0} is the proxy of {@code SessionService}.
+     */
+    private static String simpleName(String className) {
+        int proxy = className.indexOf("$$");
+        String name = proxy < 0 ? className : className.substring(0, proxy);
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * {@code lambda$login$2} runs inside {@code login}.
+     */
+    private static String methodName(String method) {
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', 7);
+            return end < 0 ? method.substring(7) : method.substring(7, end);
+        }
+        return method;
+    }
+
+    private final class TimedDataSource extends DelegatingDataSource {
+
+        private TimedDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return timed(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return timed(super.getConnection(username, password));
+        }
+
+        private Connection timed(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, new HoldTimingHandler(connection, caller()));
+        }
+    }
+
+    private final class HoldTimingHandler implements InvocationHandler {
+        private final Connection target;
+        private final String caller;
+        private final long startedNanos = System.nanoTime();
+        private boolean closed;
+
+        private HoldTimingHandler(Connection target, String caller) {
+            this.target = target;
+            this.caller = caller;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        record(caller, startedNanos);
+                    }
+                }
+                default -> {
+                }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
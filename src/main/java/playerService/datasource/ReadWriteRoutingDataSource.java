@@ -0,0 +1,27 @@
+package playerService.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWritesGuard readYourWritesGuard;
+
+    public ReadWriteRoutingDataSource(ReadYourWritesGuard readYourWritesGuard) {
+        this.readYourWritesGuard = readYourWritesGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !readYourWritesGuard.isPinnedToPrimary()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,69 @@
+package playerService.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which players were written recently so that read-only lookups for them are sent to
+ * the primary until the replica has had time to catch up.
+ */
+@Component
+public class ReadYourWritesGuard {
+
+    private final long maxLagNanos;
+    private final int maxTrackedKeys;
+    private final ConcurrentHashMap<Object, Long> lastWrites = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> pinnedToPrimary = new ThreadLocal<>();
+
+    public ReadYourWritesGuard(@Value("${player-service.datasource.replica.max-lag:1s}") Duration maxLag,
+                               @Value("${player-service.datasource.replica.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this.maxLagNanos = maxLag.toNanos();
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public void recordWrite(Object key) {
+        if (key == null || maxLagNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastWrites.size() >= maxTrackedKeys) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= maxLagNanos);
+            if (lastWrites.size() >= maxTrackedKeys) {
+                lastWrites.clear();
+            }
+        }
+        lastWrites.put(key, now);
+    }
+
+    public void pinIfRecentlyWritten(Object key) {
+        if (key == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Long writtenAt = lastWrites.get(key);
+        if (writtenAt == null) {
+            return;
+        }
+        if (System.nanoTime() - writtenAt >= maxLagNanos) {
+            lastWrites.remove(key, writtenAt);
+            return;
+        }
+        if (pinnedToPrimary.get() == null) {
+            pinnedToPrimary.set(Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    pinnedToPrimary.remove();
+                }
+            });
+        }
+    }
+
+    public boolean isPinnedToPrimary() {
+        return pinnedToPrimary.get() != null;
+    }
+}
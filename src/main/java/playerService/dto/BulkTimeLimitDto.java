@@ -0,0 +1,64 @@
+package playerService.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+public class BulkTimeLimitDto {
+
+    public enum PlayerFilter {
+        ACTIVE_WITHOUT_LIMIT,
+        ALL_ACTIVE
+    }
+
+    private List<Long> playerIds;
+
+    private PlayerFilter filter;
+
+    @NotNull
+    @Positive
+    private Integer dailyLimitMinutes;
+
+    public BulkTimeLimitDto() {
+    }
+
+    public BulkTimeLimitDto(List<Long> playerIds, PlayerFilter filter, Integer dailyLimitMinutes) {
+        this.playerIds = playerIds;
+        this.filter = filter;
+        this.dailyLimitMinutes = dailyLimitMinutes;
+    }
+
+    public List<Long> getPlayerIds() {
+        return playerIds;
+    }
+
+    public void setPlayerIds(List<Long> playerIds) {
+        this.playerIds = playerIds;
+    }
+
+    public PlayerFilter getFilter() {
+        return filter;
+    }
+
+    public void setFilter(PlayerFilter filter) {
+        this.filter = filter;
+    }
+
+    public Integer getDailyLimitMinutes() {
+        return dailyLimitMinutes;
+    }
+
+    public void setDailyLimitMinutes(Integer dailyLimitMinutes) {
+        this.dailyLimitMinutes = dailyLimitMinutes;
+    }
+
+    @AssertTrue(message = "Specify either playerIds or filter")
+    @JsonIgnore
+    public boolean isTargetSpecified() {
+        boolean hasIds = playerIds != null && !playerIds.isEmpty();
+        return hasIds != (filter != null);
+    }
+}
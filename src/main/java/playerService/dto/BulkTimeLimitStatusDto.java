@@ -0,0 +1,80 @@
+package playerService.dto;
+
+import java.time.LocalDateTime;
+
+public class BulkTimeLimitStatusDto {
+    private String jobId;
+    private String state;
+    private long totalPlayers;
+    private long processedPlayers;
+    private long updatedPlayers;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public BulkTimeLimitStatusDto(String jobId, String state, long totalPlayers, long processedPlayers,
+                                  long updatedPlayers, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        this.jobId = jobId;
+        this.state = state;
+        this.totalPlayers = totalPlayers;
+        this.processedPlayers = processedPlayers;
+        this.updatedPlayers = updatedPlayers;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public long getTotalPlayers() {
+        return totalPlayers;
+    }
+
+    public void setTotalPlayers(long totalPlayers) {
+        this.totalPlayers = totalPlayers;
+    }
+
+    public long getProcessedPlayers() {
+        return processedPlayers;
+    }
+
+    public void setProcessedPlayers(long processedPlayers) {
+        this.processedPlayers = processedPlayers;
+    }
+
+    public long getUpdatedPlayers() {
+        return updatedPlayers;
+    }
+
+    public void setUpdatedPlayers(long updatedPlayers) {
+        this.updatedPlayers = updatedPlayers;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,29 @@
+package playerService.dto;
+
+import java.util.List;
+
+public class KeysetPageDto<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    public KeysetPageDto(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,27 @@
+package playerService.dto;
+
+public class LimitEventDto {
+    private String sessionId;
+    private long secondsRemaining;
+
+    public LimitEventDto(String sessionId, long secondsRemaining) {
+        this.sessionId = sessionId;
+        this.secondsRemaining = secondsRemaining;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public long getSecondsRemaining() {
+        return secondsRemaining;
+    }
+
+    public void setSecondsRemaining(long secondsRemaining) {
+        this.secondsRemaining = secondsRemaining;
+    }
+}
@@ -1,12 +1,15 @@
 package playerService.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
 
-
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.ZoneId;
 
 public class PlayerRegistrationDto {
     @Email
@@ -29,6 +32,8 @@ public class PlayerRegistrationDto {
     @NotBlank
     private String address;
 
+    private String timeZone;
+
     public PlayerRegistrationDto() {
     }
     public PlayerRegistrationDto(String email, String password, String name, String surname, LocalDate dateOfBirth, String address) {
@@ -87,4 +92,26 @@ public class PlayerRegistrationDto {
     public void setAddress(@NotBlank String address) {
         this.address = address;
     }
-}
\ No newline at end of file
+
+    public String getTimeZone() {
+        return timeZone;
+    }
+
+    public void setTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    @AssertTrue(message = "timeZone must be a valid zone id such as Europe/Warsaw")
+    @JsonIgnore
+    public boolean isTimeZoneValid() {
+        if (timeZone == null) {
+            return true;
+        }
+        try {
+            ZoneId.of(timeZone);
+            return true;
+        } catch (DateTimeException e) {
+            return false;
+        }
+    }
+}
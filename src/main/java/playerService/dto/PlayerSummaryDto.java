@@ -0,0 +1,80 @@
+package playerService.dto;
+
+import java.time.LocalDateTime;
+
+public class PlayerSummaryDto {
+    private Long id;
+    private String email;
+    private String name;
+    private String surname;
+    private boolean active;
+    private Integer dailyTimeLimit;
+    private LocalDateTime registeredAt;
+
+    public PlayerSummaryDto(Long id, String email, String name, String surname, boolean active,
+                            Integer dailyTimeLimit, LocalDateTime registeredAt) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.surname = surname;
+        this.active = active;
+        this.dailyTimeLimit = dailyTimeLimit;
+        this.registeredAt = registeredAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSurname() {
+        return surname;
+    }
+
+    public void setSurname(String surname) {
+        this.surname = surname;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Integer getDailyTimeLimit() {
+        return dailyTimeLimit;
+    }
+
+    public void setDailyTimeLimit(Integer dailyTimeLimit) {
+        this.dailyTimeLimit = dailyTimeLimit;
+    }
+
+    public LocalDateTime getRegisteredAt() {
+        return registeredAt;
+    }
+
+    public void setRegisteredAt(LocalDateTime registeredAt) {
+        this.registeredAt = registeredAt;
+    }
+}
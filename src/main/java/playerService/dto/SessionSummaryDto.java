@@ -0,0 +1,50 @@
+package playerService.dto;
+
+import java.time.LocalDateTime;
+
+public class SessionSummaryDto {
+    private String sessionId;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private LocalDateTime loggedOutAt;
+
+    public SessionSummaryDto(String sessionId, LocalDateTime createdAt, LocalDateTime expiresAt,
+                             LocalDateTime loggedOutAt) {
+        this.sessionId = sessionId;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.loggedOutAt = loggedOutAt;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getLoggedOutAt() {
+        return loggedOutAt;
+    }
+
+    public void setLoggedOutAt(LocalDateTime loggedOutAt) {
+        this.loggedOutAt = loggedOutAt;
+    }
+}
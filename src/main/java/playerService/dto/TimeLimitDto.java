@@ -1,9 +1,10 @@
 package playerService.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
-
+import java.util.List;
 
 public class TimeLimitDto {
     @NotNull
@@ -13,6 +14,12 @@ public class TimeLimitDto {
     @Positive
     private Integer dailyLimitMinutes;
 
+    /**
+     * Replaces the player's window limits when present; an empty list removes them.
+     */
+    @Valid
+    private List<WindowLimitDto> windowLimits;
+
     public TimeLimitDto() {
     }
     public TimeLimitDto(@NotNull Long playerId, @NotNull @Positive Integer dailyLimitMinutes) {
@@ -35,4 +42,12 @@ public class TimeLimitDto {
     public void setDailyLimitMinutes(@NotNull @Positive Integer dailyLimitMinutes) {
         this.dailyLimitMinutes = dailyLimitMinutes;
     }
-}
\ No newline at end of file
+
+    public List<WindowLimitDto> getWindowLimits() {
+        return windowLimits;
+    }
+
+    public void setWindowLimits(List<WindowLimitDto> windowLimits) {
+        this.windowLimits = windowLimits;
+    }
+}
@@ -0,0 +1,71 @@
+package playerService.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import playerService.model.LimitWindow;
+
+import java.time.DayOfWeek;
+import java.util.Objects;
+
+public class WindowLimitDto {
+    @NotNull
+    private LimitWindow window;
+
+    private DayOfWeek dayOfWeek;
+
+    @NotNull
+    @Positive
+    private Integer limitMinutes;
+
+    public WindowLimitDto() {
+    }
+
+    public WindowLimitDto(LimitWindow window, DayOfWeek dayOfWeek, Integer limitMinutes) {
+        this.window = window;
+        this.dayOfWeek = dayOfWeek;
+        this.limitMinutes = limitMinutes;
+    }
+
+    public LimitWindow getWindow() {
+        return window;
+    }
+
+    public void setWindow(LimitWindow window) {
+        this.window = window;
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(DayOfWeek dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public Integer getLimitMinutes() {
+        return limitMinutes;
+    }
+
+    public void setLimitMinutes(Integer limitMinutes) {
+        this.limitMinutes = limitMinutes;
+    }
+
+    @AssertTrue(message = "dayOfWeek is required for WEEKDAY limits and not allowed otherwise")
+    @JsonIgnore
+    public boolean isDayOfWeekConsistent() {
+        return window == null || (window == LimitWindow.WEEKDAY) == (dayOfWeek != null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WindowLimitDto other && window == other.window && dayOfWeek == other.dayOfWeek
+                && Objects.equals(limitMinutes, other.limitMinutes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(window, dayOfWeek, limitMinutes);
+    }
+}
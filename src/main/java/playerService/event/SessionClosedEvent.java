@@ -0,0 +1,4 @@
+package playerService.event;
+
+public record SessionClosedEvent(String sessionId, Long playerId, boolean forced) {
+}
@@ -0,0 +1,4 @@
+package playerService.event;
+
+public record TimeLimitChangedEvent(Long playerId) {
+}
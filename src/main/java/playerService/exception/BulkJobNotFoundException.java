@@ -0,0 +1,7 @@
+package playerService.exception;
+
+public class BulkJobNotFoundException extends PlayerServiceException {
+    public BulkJobNotFoundException(String message) {
+        super(ErrorCode.BULK_JOB_NOT_FOUND, message);
+    }
+}
@@ -0,0 +1,36 @@
+package playerService.exception;
+
+import org.springframework.http.HttpStatus;
+
+public enum ErrorCode {
+    PLAYER_NOT_FOUND(HttpStatus.NOT_FOUND, "Player not found"),
+    PLAYER_ALREADY_EXISTS(HttpStatus.CONFLICT, "Player already exists"),
+    PLAYER_INACTIVE(HttpStatus.BAD_REQUEST, "Player inactive"),
+    SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "Session not found"),
+    BULK_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "Bulk job not found"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "Invalid cursor"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency key reused"),
+    INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "Invalid credentials"),
+    TIME_LIMIT_EXCEEDED(HttpStatus.FORBIDDEN, "Time limit exceeded"),
+    TOO_MANY_SESSIONS(HttpStatus.CONFLICT, "Too many sessions"),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts"),
+    VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "Validation failed"),
+    REQUEST_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "Request timed out"),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Server busy");
+
+    private final HttpStatus status;
+    private final String title;
+
+    ErrorCode(HttpStatus status, String title) {
+        this.status = status;
+        this.title = title;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+}
@@ -1,6 +1,8 @@
 package playerService.exception;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -9,48 +11,63 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(PlayerNotFoundException.class)
-    public ResponseEntity<Object> handlePlayerNotFoundException(PlayerNotFoundException ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
+    @ExceptionHandler(PlayerServiceException.class)
+    public ResponseEntity<ProblemDetail> handlePlayerServiceException(PlayerServiceException ex) {
+        return problem(ex.getErrorCode(), ex.getMessage());
     }
 
-    @ExceptionHandler(SessionNotFoundException.class)
-    public ResponseEntity<Object> handleSessionNotFoundException(SessionNotFoundException ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ProblemDetail> handleTooManyLoginAttemptsException(TooManyLoginAttemptsException ex) {
+        ProblemDetail body = problemDetail(ex.getErrorCode(), ex.getMessage());
+        return ResponseEntity.status(ex.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
     }
 
-    @ExceptionHandler(PlayerAlreadyExistsException.class)
-    public ResponseEntity<Object> handlePlayerAlreadyExistsException(PlayerAlreadyExistsException ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.CONFLICT);
+    @ExceptionHandler(ServerOverloadedException.class)
+    public ResponseEntity<ProblemDetail> handleServerOverloadedException(ServerOverloadedException ex) {
+        ProblemDetail body = problemDetail(ex.getErrorCode(), ex.getMessage());
+        return ResponseEntity.status(ex.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
     }
 
-    @ExceptionHandler(TimeLimitExceededException.class)
-    public ResponseEntity<Object> handleTimeLimitExceededException(TimeLimitExceededException ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.FORBIDDEN);
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<ProblemDetail> handleTimeoutException(TimeoutException ex) {
+        return problem(ErrorCode.REQUEST_TIMEOUT, "Request timed out");
     }
 
-    @ExceptionHandler(InvalidCredentialsException.class)
-    public ResponseEntity<Object> handleInvalidCredentialsException(InvalidCredentialsException ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.UNAUTHORIZED);
-    }
-
-    @ExceptionHandler(PlayerInactiveException.class)
-    public ResponseEntity<Object> handlePlayerInactiveException(PlayerInactiveException ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ProblemDetail> handleTaskRejectedException(TaskRejectedException ex) {
+        return problem(ErrorCode.SERVER_BUSY, "Server is busy, try again later");
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Object> handleValidationExceptions(MethodArgumentNotValidException ex) {
+    public ResponseEntity<ProblemDetail> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
             String fieldName = ((FieldError) error).getField();
             String errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
         });
-        return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+        ProblemDetail body = problemDetail(ErrorCode.VALIDATION_FAILED, "Request validation failed");
+        body.setProperty("errors", errors);
+        return ResponseEntity.status(ErrorCode.VALIDATION_FAILED.getStatus()).body(body);
+    }
+
+    private static ResponseEntity<ProblemDetail> problem(ErrorCode code, String detail) {
+        return ResponseEntity.status(code.getStatus()).body(problemDetail(code, detail));
+    }
+
+    private static ProblemDetail problemDetail(ErrorCode code, String detail) {
+        ProblemDetail body = ProblemDetail.forStatusAndDetail(code.getStatus(), detail);
+        body.setTitle(code.getTitle());
+        body.setProperty("code", code.name());
+        return body;
     }
 }
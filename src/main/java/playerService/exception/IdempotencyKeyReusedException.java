@@ -0,0 +1,7 @@
+package playerService.exception;
+
+public class IdempotencyKeyReusedException extends PlayerServiceException {
+    public IdempotencyKeyReusedException(String message) {
+        super(ErrorCode.IDEMPOTENCY_KEY_REUSED, message);
+    }
+}
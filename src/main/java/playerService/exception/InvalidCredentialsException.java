@@ -1,7 +1,10 @@
 package playerService.exception;
 
-public class InvalidCredentialsException extends RuntimeException {
+public class InvalidCredentialsException extends PlayerServiceException {
+    public static final InvalidCredentialsException INSTANCE =
+            new InvalidCredentialsException("Invalid email or password");
+
     public InvalidCredentialsException(String message) {
-        super(message);
+        super(ErrorCode.INVALID_CREDENTIALS, message);
     }
 }
@@ -0,0 +1,9 @@
+package playerService.exception;
+
+public class InvalidCursorException extends PlayerServiceException {
+    public static final InvalidCursorException INSTANCE = new InvalidCursorException("Invalid page cursor");
+
+    public InvalidCursorException(String message) {
+        super(ErrorCode.INVALID_CURSOR, message);
+    }
+}
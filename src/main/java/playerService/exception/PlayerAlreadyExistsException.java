@@ -1,7 +1,7 @@
 package playerService.exception;
 
-public class PlayerAlreadyExistsException extends RuntimeException {
+public class PlayerAlreadyExistsException extends PlayerServiceException {
     public PlayerAlreadyExistsException(String message) {
-        super(message);
+        super(ErrorCode.PLAYER_ALREADY_EXISTS, message);
     }
 }
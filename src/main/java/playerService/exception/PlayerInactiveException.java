@@ -1,7 +1,10 @@
 package playerService.exception;
 
-public class PlayerInactiveException extends RuntimeException {
+public class PlayerInactiveException extends PlayerServiceException {
+    public static final PlayerInactiveException INSTANCE =
+            new PlayerInactiveException("Cannot set time limit for inactive player");
+
     public PlayerInactiveException(String message) {
-        super(message);
+        super(ErrorCode.PLAYER_INACTIVE, message);
     }
 }
@@ -1,7 +1,7 @@
 package playerService.exception;
 
-public class PlayerNotFoundException extends RuntimeException {
+public class PlayerNotFoundException extends PlayerServiceException {
     public PlayerNotFoundException(String message) {
-        super(message);
+        super(ErrorCode.PLAYER_NOT_FOUND, message);
     }
 }
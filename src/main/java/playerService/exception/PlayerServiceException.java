@@ -0,0 +1,19 @@
+package playerService.exception;
+
+/**
+ * Base class for the service's domain errors. These are expected control-flow outcomes (bad
+ * password, unknown session, ...) rather than bugs, so no stack trace is captured and instances
+ * with a fixed message can be shared.
+ */
+public abstract class PlayerServiceException extends RuntimeException {
+    private final ErrorCode errorCode;
+
+    protected PlayerServiceException(ErrorCode errorCode, String message) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
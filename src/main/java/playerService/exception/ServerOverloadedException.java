@@ -0,0 +1,14 @@
+package playerService.exception;
+
+public class ServerOverloadedException extends PlayerServiceException {
+    private final long retryAfterSeconds;
+
+    public ServerOverloadedException(String message, long retryAfterSeconds) {
+        super(ErrorCode.SERVER_BUSY, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,7 +1,7 @@
 package playerService.exception;
 
-public class SessionNotFoundException extends RuntimeException {
+public class SessionNotFoundException extends PlayerServiceException {
     public SessionNotFoundException(String message) {
-        super(message);
+        super(ErrorCode.SESSION_NOT_FOUND, message);
     }
 }
@@ -1,7 +1,10 @@
 package playerService.exception;
 
-public class TimeLimitExceededException extends RuntimeException {
+public class TimeLimitExceededException extends PlayerServiceException {
+    public static final TimeLimitExceededException INSTANCE =
+            new TimeLimitExceededException("Daily time limit exceeded");
+
     public TimeLimitExceededException(String message) {
-        super(message);
+        super(ErrorCode.TIME_LIMIT_EXCEEDED, message);
     }
 }
@@ -0,0 +1,14 @@
+package playerService.exception;
+
+public class TooManyLoginAttemptsException extends PlayerServiceException {
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(String message, long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
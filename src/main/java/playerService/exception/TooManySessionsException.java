@@ -0,0 +1,7 @@
+package playerService.exception;
+
+public class TooManySessionsException extends PlayerServiceException {
+    public TooManySessionsException(String message) {
+        super(ErrorCode.TOO_MANY_SESSIONS, message);
+    }
+}
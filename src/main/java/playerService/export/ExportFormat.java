@@ -0,0 +1,30 @@
+package playerService.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public enum ExportFormat {
+    NDJSON("ndjson"),
+    CSV("csv");
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public RowWriter open(OutputStream out, String[] columns) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonRowWriter(JSON_FACTORY.createGenerator(out), columns);
+            case CSV -> new CsvRowWriter(out, columns);
+        };
+    }
+}
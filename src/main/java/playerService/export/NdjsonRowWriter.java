@@ -0,0 +1,49 @@
+package playerService.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+
+class NdjsonRowWriter implements RowWriter {
+
+    private final JsonGenerator generator;
+    private final SerializableString[] names;
+
+    NdjsonRowWriter(JsonGenerator generator, String[] columns) {
+        this.generator = generator;
+        this.generator.setRootValueSeparator(new SerializedString("\n"));
+        this.names = new SerializableString[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            names[i] = new SerializedString(columns[i]);
+        }
+    }
+
+    @Override
+    public void write(Object[] values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < names.length; i++) {
+            generator.writeFieldName(names[i]);
+            Object value = values[i];
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Long number) {
+                generator.writeNumber(number);
+            } else if (value instanceof Integer number) {
+                generator.writeNumber(number);
+            } else if (value instanceof Boolean flag) {
+                generator.writeBoolean(flag);
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.writeRaw('\n');
+        generator.close();
+    }
+}
@@ -0,0 +1,15 @@
+package playerService.export;
+
+import java.io.IOException;
+
+/**
+ * Writes one row at a time. Values are {@code null}, {@link String}, {@link Number},
+ * {@link Boolean}, or a {@code java.time} value written in ISO-8601 form.
+ */
+public interface RowWriter extends AutoCloseable {
+
+    void write(Object[] values) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
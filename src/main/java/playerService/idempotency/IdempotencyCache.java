@@ -0,0 +1,193 @@
+package playerService.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import playerService.exception.IdempotencyKeyReusedException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Remembers responses by {@code Idempotency-Key} so a retried mutation replays the first result
+ * instead of running again. The first request with a key registers an in-flight future and runs
+ * the action; duplicates arriving meanwhile wait on that future, and later ones are answered from
+ * the completed entry. Failed actions are not remembered, so a retry after an error runs again.
+ * <p>
+ * Every entry lives for the same TTL, so insertion order is also expiry order: a FIFO queue of
+ * keys lets each insert drop expired entries from the head, and the oldest ones once the cache is
+ * over capacity, without scanning the map.
+ * <p>
+ * Keys are scoped by client, so two clients picking the same key never see each other's
+ * responses. A request matches an entry only if the SHA-256 digest of its canonical JSON payload
+ * is the same. The digest is salted per instance, so the digests of login payloads held in memory
+ * cannot be checked against guessed passwords offline.
+ */
+@Component
+public class IdempotencyCache implements MeterBinder {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final ObjectMapper CANONICAL_JSON = JsonMapper.builder()
+            .findAndAddModules()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final byte[] salt = new byte[16];
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @Autowired
+    public IdempotencyCache(@Value("${player-service.idempotency.ttl:10m}") Duration ttl,
+                            @Value("${player-service.idempotency.max-entries:100000}") int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        new SecureRandom().nextBytes(salt);
+    }
+
+    /**
+     * Runs {@code action} once per {@code scope}, {@code client} and {@code key}. Reusing a key
+     * with a different {@code payload} is rejected. A {@code null} key runs the action without
+     * caching.
+     */
+    public <T> ResponseEntity<T> execute(String scope, String client, String key, Object payload,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        return execute(scope + '\n' + client + '\n' + key, key, fingerprint(payload), action);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> execute(String cacheKey, String key, byte[] fingerprint,
+                                          Supplier<ResponseEntity<T>> action) {
+        long now = System.nanoTime();
+        Entry entry = new Entry(cacheKey, fingerprint, now + ttlNanos);
+        Entry existing = entries.putIfAbsent(cacheKey, entry);
+        if (existing != null && existing.expiresAt - now <= 0) {
+            if (entries.replace(cacheKey, existing, entry)) {
+                existing = null;
+            } else {
+                return execute(cacheKey, key, fingerprint, action);
+            }
+        }
+        if (existing != null) {
+            return (ResponseEntity<T>) replay(existing, fingerprint, key);
+        }
+
+        insertionOrder.add(entry);
+        evict(now);
+        try {
+            ResponseEntity<T> response = action.get();
+            entry.response.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            entries.remove(cacheKey, entry);
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("player.idempotency.entries", entries, Map::size)
+                .description("Responses remembered for idempotent replay")
+                .register(registry);
+        FunctionCounter.builder("player.idempotency.replayed", replayed, LongAdder::sum)
+                .description("Requests answered from a completed response")
+                .register(registry);
+        FunctionCounter.builder("player.idempotency.coalesced", coalesced, LongAdder::sum)
+                .description("Requests that waited on an in-flight duplicate")
+                .register(registry);
+    }
+
+    private ResponseEntity<?> replay(Entry entry, byte[] fingerprint, String key) {
+        if (!MessageDigest.isEqual(entry.fingerprint, fingerprint)) {
+            throw new IdempotencyKeyReusedException("Idempotency key " + key + " was already used for a different request");
+        }
+        if (entry.response.isDone()) {
+            replayed.increment();
+        } else {
+            coalesced.increment();
+        }
+        ResponseEntity<?> response;
+        try {
+            response = entry.response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(response.getBody());
+    }
+
+    private byte[] fingerprint(Object payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            digest.update(CANONICAL_JSON.writeValueAsString(payload).getBytes(StandardCharsets.UTF_8));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Cannot fingerprint idempotent request", e);
+        }
+    }
+
+    private void evict(long now) {
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null
+                && (oldest.expiresAt - now <= 0 || entries.size() > maxEntries)) {
+            if (insertionOrder.remove(oldest)) {
+                entries.remove(oldest.cacheKey, oldest);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String cacheKey;
+        private final byte[] fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        private Entry(String cacheKey, byte[] fingerprint, long expiresAt) {
+            this.cacheKey = cacheKey;
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package playerService.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(EnforcementSweepEvent.NAME)
+@Label("Enforcement Sweep")
+@Category("Player Service")
+@Description("One pass closing sessions of players over their time limits")
+@StackTrace(false)
+public class EnforcementSweepEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "playerService.EnforcementSweep";
+
+    @Label("Sessions Checked")
+    public int sessionsChecked;
+
+    @Label("Sessions Closed")
+    public int sessionsClosed;
+}
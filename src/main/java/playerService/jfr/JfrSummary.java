@@ -0,0 +1,100 @@
+package playerService.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarises the player service events in a {@code .jfr} file: per event type, and per stage for
+ * logins, the count, percentiles and a histogram of durations in power-of-two millisecond buckets.
+ * Depends only on the JDK, so it runs straight from source:
+ * <pre>
+ *   java src/main/java/playerService/jfr/JfrSummary.java recording.jfr
+ * </pre>
+ */
+public final class JfrSummary {
+
+    private static final String PREFIX = "playerService.";
+    private static final int BAR_WIDTH = 40;
+
+    private JfrSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("usage: JfrSummary <recording.jfr>");
+            System.exit(2);
+        }
+        summarize(Path.of(args[0]), System.out);
+    }
+
+    public static void summarize(Path recording, PrintStream out) throws IOException {
+        Map<String, List<Long>> durations = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                if (name.startsWith(PREFIX)) {
+                    durations.computeIfAbsent(key(name.substring(PREFIX.length()), event), k -> new ArrayList<>())
+                            .add(event.getDuration().toNanos());
+                }
+            }
+        }
+        if (durations.isEmpty()) {
+            out.println("No player service events in " + recording);
+            return;
+        }
+        durations.forEach((key, nanos) -> print(out, key, nanos.stream().mapToLong(Long::longValue).toArray()));
+    }
+
+    private static String key(String name, RecordedEvent event) {
+        if (event.hasField("stage") && !event.hasField("success")) {
+            return name + "/" + event.getString("stage");
+        }
+        if (event.hasField("success") && !event.getBoolean("success")) {
+            return name + " failed at " + event.getString("stage");
+        }
+        return name;
+    }
+
+    private static void print(PrintStream out, String key, long[] nanos) {
+        Arrays.sort(nanos);
+        out.printf("%s  count=%d  p50=%.2fms  p90=%.2fms  p99=%.2fms  max=%.2fms%n", key, nanos.length,
+                millis(percentile(nanos, 0.50)), millis(percentile(nanos, 0.90)),
+                millis(percentile(nanos, 0.99)), millis(nanos[nanos.length - 1]));
+
+        // Bucket 0 is under 1 ms, bucket b covers [2^(b-1), 2^b) ms.
+        int[] buckets = new int[Long.SIZE];
+        int highest = 0;
+        for (long value : nanos) {
+            long ms = value / 1_000_000;
+            int bucket = ms == 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(ms);
+            buckets[bucket]++;
+            highest = Math.max(highest, bucket);
+        }
+        int peak = Arrays.stream(buckets).max().orElse(1);
+        for (int bucket = 0; bucket <= highest; bucket++) {
+            String range = bucket == 0 ? "< 1 ms" : (1L << (bucket - 1)) + "-" + (1L << bucket) + " ms";
+            int width = (int) Math.ceil((double) buckets[bucket] * BAR_WIDTH / peak);
+            out.printf("  %14s  %-" + BAR_WIDTH + "s  %d%n", range, "#".repeat(width), buckets[bucket]);
+        }
+        out.println();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
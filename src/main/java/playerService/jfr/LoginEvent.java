@@ -0,0 +1,27 @@
+package playerService.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(LoginEvent.NAME)
+@Label("Login")
+@Category("Player Service")
+@Description("A whole synchronous login, from lookup to the session being opened")
+@StackTrace(false)
+public class LoginEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "playerService.Login";
+
+    @Label("Player Id")
+    public long playerId;
+
+    @Label("Stage Reached")
+    @Description("The last stage started; on failure, the stage that failed")
+    public String stage;
+
+    @Label("Success")
+    public boolean success;
+}
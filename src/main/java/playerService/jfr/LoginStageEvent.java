@@ -0,0 +1,47 @@
+package playerService.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One stage of a login. Only stages that complete are recorded; a failing stage shows up as the
+ * {@code stage} of the unsuccessful {@link LoginEvent}.
+ */
+@Name(LoginStageEvent.NAME)
+@Label("Login Stage")
+@Category("Player Service")
+@Description("Player lookup, password check or session opening within a login")
+@StackTrace(false)
+public class LoginStageEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "playerService.LoginStage";
+
+    public static final String LOOKUP = "lookup";
+    public static final String VERIFY = "verify";
+    public static final String OPEN = "open";
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Player Id")
+    public long playerId;
+
+    public static LoginStageEvent start(String stage, LoginEvent login) {
+        login.stage = stage;
+        LoginStageEvent event = new LoginStageEvent();
+        event.stage = stage;
+        event.begin();
+        return event;
+    }
+
+    public void finish(long playerId) {
+        end();
+        if (shouldCommit()) {
+            this.playerId = playerId;
+            commit();
+        }
+    }
+}
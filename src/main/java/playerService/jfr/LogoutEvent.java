@@ -0,0 +1,29 @@
+package playerService.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(LogoutEvent.NAME)
+@Label("Logout")
+@Category("Player Service")
+@Description("A session closed by logout, idle timeout, eviction or limit enforcement")
+@StackTrace(false)
+public class LogoutEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "playerService.Logout";
+
+    @Label("Player Id")
+    public long playerId;
+
+    @Label("Session Id")
+    public String sessionId;
+
+    @Label("Forced")
+    public boolean forced;
+
+    @Label("Sessions Left Open")
+    public int sessionsLeft;
+}
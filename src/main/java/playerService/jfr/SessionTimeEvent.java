@@ -0,0 +1,29 @@
+package playerService.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name(SessionTimeEvent.NAME)
+@Label("Session Time Update")
+@Category("Player Service")
+@Description("Session time credited to a player's daily usage")
+@StackTrace(false)
+public class SessionTimeEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "playerService.SessionTime";
+
+    @Label("Player Id")
+    public long playerId;
+
+    @Label("Credited")
+    @Timespan(Timespan.SECONDS)
+    public long creditedSeconds;
+
+    @Label("Daily Reset")
+    @Description("Whether the player's counter was reset for a new day first")
+    public boolean dailyReset;
+}
@@ -0,0 +1,18 @@
+package playerService.json;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves {@code application/cbor} when a client asks for it in {@code Accept}, using the same
+ * modules and serializers as the JSON mapper.
+ */
+@Component
+public class CborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+    public CborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        super(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,75 @@
+package playerService.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes {@link LocalDateTime} in the same ISO-8601 form as the default Jackson serializer, but
+ * formats into a per-thread char buffer instead of building a String on every call.
+ */
+@JsonComponent
+public class LocalDateTimeJsonSerializer extends JsonSerializer<LocalDateTime> {
+
+    private static final int MAX_LENGTH = 29;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        char[] buffer = BUFFER.get();
+        int length = format(value, buffer);
+        if (length < 0) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        } else {
+            gen.writeString(buffer, 0, length);
+        }
+    }
+
+    @Override
+    public Class<LocalDateTime> handledType() {
+        return LocalDateTime.class;
+    }
+
+    static int format(LocalDateTime value, char[] buffer) {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        int pos = writeDigits(buffer, 0, year, 4);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, value.getMonthValue(), 2);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, value.getDayOfMonth(), 2);
+        buffer[pos++] = 'T';
+        pos = writeDigits(buffer, pos, value.getHour(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, value.getMinute(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, value.getSecond(), 2);
+
+        int nano = value.getNano();
+        if (nano > 0) {
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[pos++] = '.';
+            pos = writeDigits(buffer, pos, nano, digits);
+        }
+        return pos;
+    }
+
+    private static int writeDigits(char[] buffer, int pos, int value, int digits) {
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+}
@@ -0,0 +1,49 @@
+package playerService.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+import playerService.dto.SessionResponseDto;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+@JsonComponent
+public class SessionResponseJsonSerializer extends JsonSerializer<SessionResponseDto> {
+
+    private static final SerializedString SESSION_ID = new SerializedString("sessionId");
+    private static final SerializedString PLAYER_EMAIL = new SerializedString("playerEmail");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString EXPIRES_AT = new SerializedString("expiresAt");
+
+    private final LocalDateTimeJsonSerializer dateTimeSerializer = new LocalDateTimeJsonSerializer();
+
+    @Override
+    public void serialize(SessionResponseDto value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(SESSION_ID);
+        gen.writeString(value.getSessionId());
+        gen.writeFieldName(PLAYER_EMAIL);
+        gen.writeString(value.getPlayerEmail());
+        writeDateTime(gen, CREATED_AT, value.getCreatedAt(), serializers);
+        writeDateTime(gen, EXPIRES_AT, value.getExpiresAt(), serializers);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public Class<SessionResponseDto> handledType() {
+        return SessionResponseDto.class;
+    }
+
+    private void writeDateTime(JsonGenerator gen, SerializedString name, LocalDateTime value,
+                               SerializerProvider serializers) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            dateTimeSerializer.serialize(value, gen, serializers);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package playerService.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Seconds played by one player on one player-local day. Rows are only ever incremented, by the
+ * same writes that credit {@link Player#getTodaySessionTime()}.
+ */
+@Entity
+@IdClass(DailyUsage.Key.class)
+public class DailyUsage {
+    @Id
+    private Long playerId;
+
+    @Id
+    private LocalDate usageDay;
+
+    @Column(nullable = false)
+    private long seconds;
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public LocalDate getUsageDay() {
+        return usageDay;
+    }
+
+    public void setUsageDay(LocalDate usageDay) {
+        this.usageDay = usageDay;
+    }
+
+    public long getSeconds() {
+        return seconds;
+    }
+
+    public void setSeconds(long seconds) {
+        this.seconds = seconds;
+    }
+
+    public static class Key implements Serializable {
+        private Long playerId;
+        private LocalDate usageDay;
+
+        public Key() {
+        }
+
+        public Key(Long playerId, LocalDate usageDay) {
+            this.playerId = playerId;
+            this.usageDay = usageDay;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && Objects.equals(playerId, other.playerId) && Objects.equals(usageDay, other.usageDay);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(playerId, usageDay);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package playerService.model;
+
+public enum LimitWindow {
+    /** Today, on one day of the week only. */
+    WEEKDAY(1),
+    /** Today and the six days before it. */
+    WEEK(7),
+    /** Today and the 29 days before it. */
+    MONTH(30);
+
+    private final int days;
+
+    LimitWindow(int days) {
+        this.days = days;
+    }
+
+    public int getDays() {
+        return days;
+    }
+}
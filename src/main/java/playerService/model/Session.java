@@ -6,6 +6,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_session_player_created", columnList = "player_id, createdAt, id"),
+        @Index(name = "idx_session_created", columnList = "createdAt"),
+        @Index(name = "idx_session_logged_out", columnList = "loggedOutAt"),
+        @Index(name = "idx_session_updated", columnList = "updatedAt")
+})
 public class Session {
     @Id
     private String id;
@@ -23,6 +29,10 @@ public class Session {
     @Column
     private LocalDateTime loggedOutAt;
 
+    // Time of the last write rather than of the logout it records, which may be backdated.
+    @Column
+    private LocalDateTime updatedAt;
+
     @PrePersist
     public void prePersist() {
         if (id == null) {
@@ -34,6 +44,12 @@ public class Session {
         if (expiresAt == null) {
             expiresAt = createdAt.plusHours(24);
         }
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 
     public String getId() {
@@ -75,4 +91,12 @@ public class Session {
     public void setLoggedOutAt(LocalDateTime loggedOutAt) {
         this.loggedOutAt = loggedOutAt;
     }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
@@ -0,0 +1,87 @@
+package playerService.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.DayOfWeek;
+
+/**
+ * A play-time cap over a window of days, in addition to {@link Player#getDailyTimeLimit()}.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_window_limit_player", columnList = "playerId"))
+public class WindowLimit {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Column(nullable = false)
+    private Long playerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "limit_window", nullable = false, length = 16)
+    private LimitWindow window;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private DayOfWeek dayOfWeek;
+
+    @Column(nullable = false)
+    private Integer limitMinutes;
+
+    public WindowLimit() {
+    }
+
+    public WindowLimit(Long playerId, LimitWindow window, DayOfWeek dayOfWeek, Integer limitMinutes) {
+        this.playerId = playerId;
+        this.window = window;
+        this.dayOfWeek = dayOfWeek;
+        this.limitMinutes = limitMinutes;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public LimitWindow getWindow() {
+        return window;
+    }
+
+    public void setWindow(LimitWindow window) {
+        this.window = window;
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(DayOfWeek dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public Integer getLimitMinutes() {
+        return limitMinutes;
+    }
+
+    public void setLimitMinutes(Integer limitMinutes) {
+        this.limitMinutes = limitMinutes;
+    }
+}
@@ -0,0 +1,271 @@
+package playerService.notification;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import playerService.dto.LimitEventDto;
+import playerService.event.SessionClosedEvent;
+import playerService.event.TimeLimitChangedEvent;
+import playerService.model.Player;
+import playerService.model.Session;
+import playerService.policy.LimitPolicyEngine;
+import playerService.service.PlayerService;
+import playerService.time.PlayerCalendar;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes time-limit warnings to players over server-sent events. Each open channel holds at most one
+ * pending task on a single timer thread, armed for the next warning threshold or for the player's
+ * next midnight, whichever comes first, so idle connections cost no polling and no thread. The
+ * timer only hands due tasks to the sender executor, so a slow client cannot hold up other
+ * players' warnings.
+ */
+@Component
+public class SessionLimitNotifier {
+
+    public static final String LIMIT_STATUS = "limit-status";
+    public static final String LIMIT_WARNING = "limit-warning";
+    public static final String LIMIT_REACHED = "limit-reached";
+    public static final String FORCED_LOGOUT = "forced-logout";
+
+    private final PlayerService playerService;
+    private final PlayerCalendar calendar;
+    private final LimitPolicyEngine limitPolicyEngine;
+    private final long[] warningSeconds;
+    private final ScheduledThreadPoolExecutor timer;
+    private final Executor sender;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Channel>> channelsByPlayer = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SessionLimitNotifier(PlayerService playerService,
+                                PlayerCalendar calendar,
+                                LimitPolicyEngine limitPolicyEngine,
+                                @Qualifier("limitNotificationExecutor") Executor sender,
+                                @Value("${player-service.limit-warnings.minutes-before:15,5,1}") long[] warningMinutes) {
+        this.playerService = playerService;
+        this.calendar = calendar;
+        this.limitPolicyEngine = limitPolicyEngine;
+        this.sender = sender;
+        this.warningSeconds = Arrays.stream(warningMinutes)
+                .map(TimeUnit.MINUTES::toSeconds)
+                .sorted()
+                .toArray();
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "limit-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    public SseEmitter subscribe(Session session) {
+        long timeoutMillis = Math.max(0, Duration.between(calendar.now(), session.getExpiresAt()).toMillis());
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Channel channel = new Channel(session.getId(), session.getPlayer().getId(), session.getCreatedAt(), emitter);
+        channel.zone = calendar.zoneOf(session.getPlayer());
+
+        Channel previous = channels.put(channel.sessionId, channel);
+        if (previous != null) {
+            close(previous);
+        }
+        channelsByPlayer.computeIfAbsent(channel.playerId, id -> ConcurrentHashMap.newKeySet()).add(channel);
+        emitter.onCompletion(() -> remove(channel));
+        emitter.onTimeout(() -> remove(channel));
+        emitter.onError(ex -> remove(channel));
+
+        Long remaining = secondsRemaining(session.getPlayer(), session.getCreatedAt());
+        if (remaining != null) {
+            send(channel, LIMIT_STATUS, remaining);
+        }
+        arm(channel, remaining);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimeLimitChanged(TimeLimitChangedEvent event) {
+        Set<Channel> playerChannels = channelsByPlayer.get(event.playerId());
+        if (playerChannels == null || playerChannels.isEmpty()) {
+            return;
+        }
+        Player player = playerService.getPlayerById(event.playerId());
+        for (Channel channel : playerChannels) {
+            channel.zone = calendar.zoneOf(player);
+            Long remaining = secondsRemaining(player, null);
+            if (remaining != null) {
+                send(channel, LIMIT_STATUS, remaining);
+            }
+            arm(channel, remaining);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionClosed(SessionClosedEvent event) {
+        Channel channel = channels.get(event.sessionId());
+        if (channel == null) {
+            return;
+        }
+        if (event.forced()) {
+            send(channel, FORCED_LOGOUT, 0);
+        }
+        close(channel);
+    }
+
+    public int openChannels() {
+        return channels.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        channels.values().forEach(this::close);
+    }
+
+    private void arm(Channel channel, Long remaining) {
+        synchronized (channel) {
+            ScheduledFuture<?> pending = channel.pending;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            channel.pending = null;
+            if (remaining == null) {
+                return;
+            }
+            // Usage resets at the player's midnight, so no task may run past it on today's numbers.
+            long untilRollover = calendar.secondsUntilTomorrow(channel.zone) + 1;
+            if (remaining <= 0) {
+                send(channel, LIMIT_REACHED, 0);
+                channel.pending = schedule(() -> rollover(channel), untilRollover);
+                return;
+            }
+            long threshold = nextThreshold(remaining);
+            long untilThreshold = remaining - threshold;
+            channel.pending = untilThreshold < untilRollover
+                    ? schedule(() -> fire(channel, threshold), untilThreshold)
+                    : schedule(() -> rollover(channel), untilRollover);
+        }
+    }
+
+    /**
+     * Runs {@code task} on the sender executor once {@code delaySeconds} have passed. If the
+     * executor is saturated the hand-off is retried a second later rather than run on the timer.
+     */
+    private ScheduledFuture<?> schedule(Runnable task, long delaySeconds) {
+        return timer.schedule(() -> {
+            try {
+                sender.execute(task);
+            } catch (RejectedExecutionException ex) {
+                if (!timer.isShutdown()) {
+                    schedule(task, 1);
+                }
+            }
+        }, delaySeconds, TimeUnit.SECONDS);
+    }
+
+    private void rollover(Channel channel) {
+        if (channels.get(channel.sessionId) != channel) {
+            return;
+        }
+        Player player = playerService.getPlayerById(channel.playerId);
+        channel.zone = calendar.zoneOf(player);
+        Long remaining = secondsRemaining(player, channel.createdAt);
+        if (remaining != null) {
+            send(channel, LIMIT_STATUS, remaining);
+        }
+        arm(channel, remaining);
+    }
+
+    private void fire(Channel channel, long secondsRemaining) {
+        if (channels.get(channel.sessionId) != channel) {
+            return;
+        }
+        if (secondsRemaining > 0) {
+            send(channel, LIMIT_WARNING, secondsRemaining);
+        }
+        arm(channel, secondsRemaining);
+    }
+
+    private long nextThreshold(long remaining) {
+        for (int i = warningSeconds.length - 1; i >= 0; i--) {
+            if (warningSeconds[i] < remaining) {
+                return warningSeconds[i];
+            }
+        }
+        return 0;
+    }
+
+    private void send(Channel channel, String eventName, long secondsRemaining) {
+        try {
+            channel.emitter.send(SseEmitter.event()
+                    .name(eventName)
+                    .data(new LimitEventDto(channel.sessionId, secondsRemaining)));
+        } catch (IOException | IllegalStateException ex) {
+            remove(channel);
+        }
+    }
+
+    private void close(Channel channel) {
+        remove(channel);
+        channel.emitter.complete();
+    }
+
+    private void remove(Channel channel) {
+        channels.remove(channel.sessionId, channel);
+        Set<Channel> playerChannels = channelsByPlayer.get(channel.playerId);
+        if (playerChannels != null) {
+            playerChannels.remove(channel);
+            if (playerChannels.isEmpty()) {
+                channelsByPlayer.remove(channel.playerId, playerChannels);
+            }
+        }
+        ScheduledFuture<?> pending = channel.pending;
+        if (pending != null) {
+            pending.cancel(false);
+        }
+    }
+
+    private Long secondsRemaining(Player player, LocalDateTime sessionCreatedAt) {
+        boolean hasPolicy = limitPolicyEngine.hasPolicy(player.getId());
+        if (player.getDailyTimeLimit() == null && !hasPolicy) {
+            return null;
+        }
+        LocalDateTime sessionStart = player.getLastSessionStart() != null
+                ? player.getLastSessionStart() : sessionCreatedAt;
+        long used = calendar.secondsUsedToday(player) + calendar.secondsToday(player, sessionStart, calendar.now());
+        long remaining = player.getDailyTimeLimit() != null ? player.getDailyTimeLimit() * 60L - used : Long.MAX_VALUE;
+        return hasPolicy ? Math.min(remaining, limitPolicyEngine.remainingSeconds(player, used)) : remaining;
+    }
+
+    private static final class Channel {
+        private final String sessionId;
+        private final Long playerId;
+        private final LocalDateTime createdAt;
+        private final SseEmitter emitter;
+        private volatile ZoneId zone;
+        private volatile ScheduledFuture<?> pending;
+
+        private Channel(String sessionId, Long playerId, LocalDateTime createdAt, SseEmitter emitter) {
+            this.sessionId = sessionId;
+            this.playerId = playerId;
+            this.createdAt = createdAt;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package playerService.overload;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import playerService.exception.ServerOverloadedException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sheds load before it queues. Requests are admitted while fewer than their priority's share of
+ * the adaptive limit are in flight; the rest are turned away immediately with 503 and
+ * {@code Retry-After} instead of waiting for a blocked thread. The limit follows observed latency
+ * (see {@link GradientLimit}), so it tightens as soon as the database slows down.
+ * <p>
+ * Requests that go asynchronous (SSE streams, async login) release their permit when the servlet
+ * thread returns and are not used as latency samples.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "player-service.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private final GradientLimit limit;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final long retryAfterSeconds;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<RequestPriority, LongAdder> rejected = new EnumMap<>(RequestPriority.class);
+
+    @Autowired
+    public ConcurrencyLimitFilter(@Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                                  @Value("${player-service.concurrency-limit.initial-limit:100}") int initialLimit,
+                                  @Value("${player-service.concurrency-limit.min-limit:10}") int minLimit,
+                                  @Value("${player-service.concurrency-limit.max-limit:1000}") int maxLimit,
+                                  @Value("${player-service.concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+                                  @Value("${player-service.concurrency-limit.smoothing:0.2}") double smoothing,
+                                  @Value("${player-service.concurrency-limit.window-samples:50}") int windowSamples,
+                                  @Value("${player-service.concurrency-limit.retry-after:1s}") Duration retryAfter) {
+        this(new GradientLimit(initialLimit, minLimit, maxLimit, rttTolerance, smoothing, windowSamples),
+                exceptionResolver, retryAfter);
+    }
+
+    ConcurrencyLimitFilter(GradientLimit limit, HandlerExceptionResolver exceptionResolver, Duration retryAfter) {
+        this.limit = limit;
+        this.exceptionResolver = exceptionResolver;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejected.put(priority, new LongAdder());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        // Exports stream for minutes; their duration says nothing about request latency.
+        return !path.startsWith("/api/") || path.startsWith("/api/admin/export/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestPriority priority = RequestPriority.of(request);
+        int admittedAt = tryAcquire(priority);
+        if (admittedAt < 0) {
+            rejected.get(priority).increment();
+            exceptionResolver.resolveException(request, response, null,
+                    new ServerOverloadedException("Server is busy, try again later", retryAfterSeconds));
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            inflight.decrementAndGet();
+            if (!request.isAsyncStarted()) {
+                limit.onSample(System.nanoTime() - start, admittedAt);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of requests in flight including this one, or -1 when over the share.
+     */
+    int tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) (limit.getLimit() * priority.getShare()));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    int inflight() {
+        return inflight.get();
+    }
+
+    int limit() {
+        return limit.getLimit();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("http.concurrency.limit", limit, GradientLimit::getLimit)
+                .description("Current adaptive limit on concurrent API requests")
+                .register(registry);
+        Gauge.builder("http.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("API requests currently in flight")
+                .register(registry);
+        Gauge.builder("http.concurrency.baseline_rtt", limit, l -> l.getBaselineRttNanos() / 1_000_000)
+                .description("No-load latency baseline the limit is derived from")
+                .baseUnit("milliseconds")
+                .register(registry);
+        rejected.forEach((priority, count) -> FunctionCounter.builder("http.concurrency.rejected", count, LongAdder::sum)
+                .description("API requests shed by the concurrency limiter")
+                .tag("priority", priority.name().toLowerCase())
+                .register(registry));
+    }
+}
@@ -0,0 +1,90 @@
+package playerService.overload;
+
+/**
+ * Estimates how many requests can be in flight before they start queueing, from latency alone.
+ * A slowly moving average of round-trip time serves as the no-load baseline; each window of
+ * samples is compared against it. While recent latency stays within {@code rttTolerance} of the
+ * baseline the limit grows by roughly its square root per window, and once latency climbs the
+ * limit is scaled down by the ratio (never below half per window). Growth is skipped while fewer
+ * than half of the permits are in use, so a quiet period cannot inflate the limit.
+ */
+class GradientLimit {
+
+    private static final int BASELINE_WINDOW = 600;
+    private static final int BASELINE_WARMUP = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int windowSamples;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double baselineRtt;
+    private long baselineSamples;
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInflight;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance, double smoothing, int windowSamples) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.windowSamples = windowSamples;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    synchronized double getBaselineRttNanos() {
+        return baselineRtt;
+    }
+
+    /**
+     * Records one completed request: its round-trip time and how many requests were in flight
+     * when it started, including itself.
+     */
+    synchronized void onSample(long rttNanos, int inflight) {
+        windowRttSum += rttNanos;
+        windowCount++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflight);
+        if (windowCount < windowSamples) {
+            return;
+        }
+        double shortRtt = (double) windowRttSum / windowCount;
+        int maxInflight = windowMaxInflight;
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInflight = 0;
+        update(shortRtt, maxInflight);
+    }
+
+    private void update(double shortRtt, int maxInflight) {
+        if (baselineSamples < BASELINE_WARMUP) {
+            baselineSamples++;
+            baselineRtt += (shortRtt - baselineRtt) / baselineSamples;
+        } else {
+            baselineSamples++;
+            baselineRtt += (shortRtt - baselineRtt) / BASELINE_WINDOW;
+        }
+        // After a sustained slowdown the baseline has crept up; let it fall back once latency recovers.
+        if (baselineRtt / shortRtt > 2) {
+            baselineRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * baselineRtt / shortRtt));
+        if (gradient >= 1.0 && maxInflight < estimatedLimit / 2) {
+            return;
+        }
+        double queueAllowance = Math.sqrt(estimatedLimit);
+        double target = gradient >= 1.0 ? estimatedLimit + queueAllowance : estimatedLimit * gradient;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                estimatedLimit * (1 - smoothing) + target * smoothing));
+        limit = (int) estimatedLimit;
+    }
+}
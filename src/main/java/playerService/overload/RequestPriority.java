@@ -0,0 +1,40 @@
+package playerService.overload;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Admission classes for the concurrency limiter. Each class may only fill its share of the current
+ * limit, so as the limit shrinks under load the lowest classes are shed first and the headroom
+ * above {@link #NORMAL} stays free for requests that release load or stop time accruing.
+ */
+public enum RequestPriority {
+    /** Logout and heartbeats: cheap, and refusing them keeps players on the clock. */
+    CRITICAL(1.0),
+    /** Login, registration and everything else players do. */
+    NORMAL(0.9),
+    /** Admin listings and bulk jobs, which can wait for a quieter moment. */
+    LOW(0.5);
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    public double getShare() {
+        return share;
+    }
+
+    public static RequestPriority of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/sessions/logout/")
+                || path.startsWith("/api/sessions/async/logout/")
+                || (path.startsWith("/api/sessions/") && path.endsWith("/heartbeat"))) {
+            return CRITICAL;
+        }
+        if (path.startsWith("/api/admin/") || path.startsWith("/api/players/time-limit/bulk")) {
+            return LOW;
+        }
+        return NORMAL;
+    }
+}
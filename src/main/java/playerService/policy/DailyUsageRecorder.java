@@ -0,0 +1,57 @@
+package playerService.policy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Adds credited play time to the player's {@code daily_usage} row in the caller's transaction, and
+ * to their in-memory history once it commits.
+ */
+@Component
+public class DailyUsageRecorder {
+
+    private static final String ADD_USAGE_SQL = """
+            MERGE INTO daily_usage d
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS BIGINT))) s (player_id, usage_day, seconds)
+            ON d.player_id = s.player_id AND d.usage_day = s.usage_day
+            WHEN MATCHED THEN UPDATE SET seconds = d.seconds + s.seconds
+            WHEN NOT MATCHED THEN INSERT (player_id, usage_day, seconds) VALUES (s.player_id, s.usage_day, s.seconds)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LimitPolicyEngine limitPolicyEngine;
+
+    @Autowired
+    public DailyUsageRecorder(JdbcTemplate jdbcTemplate, LimitPolicyEngine limitPolicyEngine) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.limitPolicyEngine = limitPolicyEngine;
+    }
+
+    public void record(long playerId, LocalDate day, long seconds) {
+        if (seconds <= 0) {
+            return;
+        }
+        jdbcTemplate.update(ADD_USAGE_SQL, playerId, day, seconds);
+        LimitPolicyEngine.afterCommit(() -> limitPolicyEngine.recordUsage(playerId, day, seconds));
+    }
+
+    public void recordAll(List<Usage> usages) {
+        List<Usage> credited = usages.stream().filter(usage -> usage.seconds() > 0).toList();
+        if (credited.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_USAGE_SQL, credited, credited.size(), (statement, usage) -> {
+            statement.setLong(1, usage.playerId());
+            statement.setObject(2, usage.day());
+            statement.setLong(3, usage.seconds());
+        });
+        LimitPolicyEngine.afterCommit(() -> credited.forEach(usage ->
+                limitPolicyEngine.recordUsage(usage.playerId(), usage.day(), usage.seconds())));
+    }
+
+    public record Usage(long playerId, LocalDate day, long seconds) {
+    }
+}
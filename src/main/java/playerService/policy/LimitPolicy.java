@@ -0,0 +1,71 @@
+package playerService.policy;
+
+import playerService.model.WindowLimit;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A player's window limits compiled into flat fields, so evaluation is a handful of comparisons.
+ */
+final class LimitPolicy {
+
+    private static final int NONE = -1;
+
+    private final int[] weekdayMinutes = new int[7];
+    private int weekMinutes = NONE;
+    private int monthMinutes = NONE;
+
+    private LimitPolicy() {
+        Arrays.fill(weekdayMinutes, NONE);
+    }
+
+    /**
+     * Returns {@code null} when there are no limits.
+     */
+    static LimitPolicy of(Collection<WindowLimit> limits) {
+        if (limits.isEmpty()) {
+            return null;
+        }
+        LimitPolicy policy = new LimitPolicy();
+        for (WindowLimit limit : limits) {
+            int minutes = limit.getLimitMinutes();
+            switch (limit.getWindow()) {
+                case WEEKDAY -> policy.weekdayMinutes[limit.getDayOfWeek().getValue() - 1] =
+                        min(policy.weekdayMinutes[limit.getDayOfWeek().getValue() - 1], minutes);
+                case WEEK -> policy.weekMinutes = min(policy.weekMinutes, minutes);
+                case MONTH -> policy.monthMinutes = min(policy.monthMinutes, minutes);
+            }
+        }
+        return policy;
+    }
+
+    boolean needsHistory() {
+        return weekMinutes != NONE || monthMinutes != NONE;
+    }
+
+    /**
+     * Seconds left before the tightest window is used up, or {@link Long#MAX_VALUE} when no window
+     * applies today. {@code history} may be {@code null} when {@link #needsHistory()} is false.
+     */
+    long remainingSeconds(UsageRing history, LocalDate today, long usedTodaySeconds) {
+        long remaining = Long.MAX_VALUE;
+        int weekday = weekdayMinutes[today.getDayOfWeek().getValue() - 1];
+        if (weekday != NONE) {
+            remaining = weekday * 60L - usedTodaySeconds;
+        }
+        long epochDay = today.toEpochDay();
+        if (weekMinutes != NONE) {
+            remaining = Math.min(remaining, weekMinutes * 60L - usedTodaySeconds - history.pastWeek(epochDay));
+        }
+        if (monthMinutes != NONE) {
+            remaining = Math.min(remaining, monthMinutes * 60L - usedTodaySeconds - history.pastMonth(epochDay));
+        }
+        return remaining;
+    }
+
+    private static int min(int current, int minutes) {
+        return current == NONE ? minutes : Math.min(current, minutes);
+    }
+}
@@ -0,0 +1,215 @@
+package playerService.policy;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import playerService.model.DailyUsage;
+import playerService.model.LimitWindow;
+import playerService.model.Player;
+import playerService.model.WindowLimit;
+import playerService.repository.DailyUsageRepository;
+import playerService.repository.WindowLimitRepository;
+import playerService.time.PlayerCalendar;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates weekday, rolling-week and rolling-month limits on top of the daily limit. Policies are
+ * held in memory for the players that have any, so a player without window limits costs one map
+ * miss per check. Players with week or month limits also get a {@link UsageRing}, loaded from
+ * {@link DailyUsage} on first use and kept current from committed usage credits. Both loads read
+ * from the primary, since a lagging replica would leave the in-memory state permanently behind.
+ * <p>
+ * Policies set and usage credited on other nodes only reach this one through the database, so
+ * every {@code refresh-interval} the policies are reloaded and the rings dropped to be reloaded on
+ * their next check.
+ */
+@Component
+public class LimitPolicyEngine implements MeterBinder {
+
+    private static final int LOAD_ATTEMPTS = 3;
+
+    private final WindowLimitRepository windowLimitRepository;
+    private final DailyUsageRepository dailyUsageRepository;
+    private final PlayerCalendar calendar;
+    private final TransactionTemplate primaryRead;
+    private final Map<Long, LimitPolicy> policies = new ConcurrentHashMap<>();
+    private final Map<Long, UsageRing> rings = new ConcurrentHashMap<>();
+    private final AtomicLong localPolicyChanges = new AtomicLong();
+
+    @Autowired
+    public LimitPolicyEngine(WindowLimitRepository windowLimitRepository,
+                             DailyUsageRepository dailyUsageRepository,
+                             PlayerCalendar calendar,
+                             PlatformTransactionManager transactionManager) {
+        this.windowLimitRepository = windowLimitRepository;
+        this.dailyUsageRepository = dailyUsageRepository;
+        this.calendar = calendar;
+        this.primaryRead = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void loadPolicies() {
+        refresh();
+    }
+
+    /**
+     * Reloads every policy from the database and drops the usage rings. A refresh that overlaps a
+     * policy change made on this node is skipped, so it cannot undo the change with an older read.
+     */
+    @Scheduled(fixedDelayString = "${player-service.limit-policies.refresh-interval:PT30S}",
+            initialDelayString = "${player-service.limit-policies.refresh-interval:PT30S}")
+    public void refresh() {
+        long changesBefore = localPolicyChanges.get();
+        Map<Long, List<WindowLimit>> byPlayer = primaryRead.execute(status -> windowLimitRepository.findAll()).stream()
+                .collect(Collectors.groupingBy(WindowLimit::getPlayerId));
+        synchronized (policies) {
+            if (localPolicyChanges.get() != changesBefore) {
+                return;
+            }
+            policies.keySet().retainAll(byPlayer.keySet());
+            byPlayer.forEach((playerId, limits) -> policies.put(playerId, LimitPolicy.of(limits)));
+            rings.clear();
+        }
+    }
+
+    public boolean hasPolicy(Long playerId) {
+        return playerId != null && policies.containsKey(playerId);
+    }
+
+    /**
+     * Seconds left under the player's window limits given {@code usedTodaySeconds}, or
+     * {@link Long#MAX_VALUE} when none applies.
+     */
+    public long remainingSeconds(Player player, long usedTodaySeconds) {
+        return remainingSeconds(player.getId(), calendar.zoneOf(player), usedTodaySeconds);
+    }
+
+    public long remainingSeconds(Long playerId, ZoneId zone, long usedTodaySeconds) {
+        LimitPolicy policy = playerId == null ? null : policies.get(playerId);
+        if (policy == null) {
+            return Long.MAX_VALUE;
+        }
+        LocalDate today = calendar.today(zone);
+        UsageRing history = policy.needsHistory() ? history(playerId, today) : null;
+        return policy.remainingSeconds(history, today, usedTodaySeconds);
+    }
+
+    public boolean isOverLimit(Player player, long usedTodaySeconds) {
+        return remainingSeconds(player, usedTodaySeconds) <= 0;
+    }
+
+    public boolean isOverLimit(Long playerId, ZoneId zone, long usedTodaySeconds) {
+        return remainingSeconds(playerId, zone, usedTodaySeconds) <= 0;
+    }
+
+    /**
+     * Replaces the player's policy once the surrounding transaction commits.
+     */
+    public void setPolicy(Long playerId, Collection<WindowLimit> limits) {
+        LimitPolicy policy = LimitPolicy.of(limits);
+        afterCommit(() -> {
+            synchronized (policies) {
+                localPolicyChanges.incrementAndGet();
+                if (policy == null) {
+                    policies.remove(playerId);
+                    rings.remove(playerId);
+                } else {
+                    policies.put(playerId, policy);
+                    if (!policy.needsHistory()) {
+                        rings.remove(playerId);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Adds a committed credit to the player's ring. A ring still being loaded is dropped instead,
+     * as the load may or may not have read the credit; the loader then starts over.
+     */
+    void recordUsage(long playerId, LocalDate day, long seconds) {
+        rings.computeIfPresent(playerId, (id, history) -> {
+            if (history.isPlaceholder()) {
+                return null;
+            }
+            history.add(day.toEpochDay(), seconds);
+            return history;
+        });
+    }
+
+    public int policyCount() {
+        return policies.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("player.limit_policies", policies, Map::size)
+                .description("Players with weekday, weekly or monthly limits")
+                .register(registry);
+        Gauge.builder("player.limit_policies.histories", rings, Map::size)
+                .description("Usage histories held in memory for rolling-window limits")
+                .register(registry);
+    }
+
+    /**
+     * The cached ring, or a fresh load. A load is cached only if no credit for the player arrived
+     * while it ran; otherwise it is retried a few times and then used for this check alone.
+     */
+    private UsageRing history(Long playerId, LocalDate today) {
+        for (int attempt = 0; attempt < LOAD_ATTEMPTS; attempt++) {
+            UsageRing history = rings.get(playerId);
+            if (history != null && !history.isPlaceholder()) {
+                return history;
+            }
+            UsageRing placeholder = UsageRing.placeholder();
+            if (history != null || rings.putIfAbsent(playerId, placeholder) != null) {
+                // Another check is loading this player's ring.
+                return load(playerId, today);
+            }
+            UsageRing loaded = load(playerId, today);
+            if (rings.replace(playerId, placeholder, loaded)) {
+                return loaded;
+            }
+        }
+        return load(playerId, today);
+    }
+
+    private UsageRing load(Long playerId, LocalDate today) {
+        UsageRing loaded = new UsageRing(today.toEpochDay());
+        List<DailyUsage> recent = primaryRead.execute(status ->
+                dailyUsageRepository.findSince(playerId, today.minusDays(LimitWindow.MONTH.getDays() - 1)));
+        for (DailyUsage usage : recent) {
+            loaded.add(usage.getUsageDay().toEpochDay(), usage.getSeconds());
+        }
+        return loaded;
+    }
+
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package playerService.policy;
+
+import playerService.model.LimitWindow;
+
+import java.util.Arrays;
+
+/**
+ * One player's usage for the last 30 days, one slot per day. Running sums over the days before
+ * today are adjusted as days roll over, so a week or month window costs one addition per check
+ * instead of a range query.
+ */
+final class UsageRing {
+
+    private static final int SLOTS = 32;
+    private static final int WEEK_PAST_DAYS = LimitWindow.WEEK.getDays() - 1;
+    private static final int MONTH_PAST_DAYS = LimitWindow.MONTH.getDays() - 1;
+
+    private final long[] seconds = new long[SLOTS];
+    private final boolean placeholder;
+    private long today;
+    private long pastWeek;
+    private long pastMonth;
+
+    UsageRing(long today) {
+        this(today, false);
+    }
+
+    private UsageRing(long today, boolean placeholder) {
+        this.today = today;
+        this.placeholder = placeholder;
+    }
+
+    /**
+     * An empty ring that stands in for one being loaded, so a credit arriving meanwhile can tell
+     * the load is in flight.
+     */
+    static UsageRing placeholder() {
+        return new UsageRing(0, true);
+    }
+
+    boolean isPlaceholder() {
+        return placeholder;
+    }
+
+    synchronized void add(long epochDay, long secondsUsed) {
+        advanceTo(epochDay);
+        long age = today - epochDay;
+        if (age >= MONTH_PAST_DAYS + 1) {
+            return;
+        }
+        seconds[slot(epochDay)] += secondsUsed;
+        if (age > 0) {
+            pastMonth += secondsUsed;
+            if (age <= WEEK_PAST_DAYS) {
+                pastWeek += secondsUsed;
+            }
+        }
+    }
+
+    /**
+     * Seconds played in the six days before {@code epochDay}.
+     */
+    synchronized long pastWeek(long epochDay) {
+        advanceTo(epochDay);
+        return pastWeek;
+    }
+
+    /**
+     * Seconds played in the 29 days before {@code epochDay}.
+     */
+    synchronized long pastMonth(long epochDay) {
+        advanceTo(epochDay);
+        return pastMonth;
+    }
+
+    private void advanceTo(long epochDay) {
+        if (epochDay <= today) {
+            return;
+        }
+        if (epochDay - today >= SLOTS) {
+            Arrays.fill(seconds, 0);
+            pastWeek = 0;
+            pastMonth = 0;
+            today = epochDay;
+            return;
+        }
+        while (today < epochDay) {
+            long finished = seconds[slot(today)];
+            pastWeek += finished - seconds[slot(today - WEEK_PAST_DAYS)];
+            pastMonth += finished - seconds[slot(today - MONTH_PAST_DAYS)];
+            today++;
+            seconds[slot(today)] = 0;
+        }
+    }
+
+    private static int slot(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) SLOTS);
+    }
+}
@@ -0,0 +1,72 @@
+package playerService.ratelimit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import playerService.exception.TooManyLoginAttemptsException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LoginRateLimiter implements MeterBinder {
+
+    private final TokenBucketMap emailBuckets;
+    private final TokenBucketMap ipBuckets;
+
+    public LoginRateLimiter(@Value("${player-service.login-rate-limit.email.capacity:5}") int emailCapacity,
+                            @Value("${player-service.login-rate-limit.email.refill-period:1m}") Duration emailRefillPeriod,
+                            @Value("${player-service.login-rate-limit.ip.capacity:50}") int ipCapacity,
+                            @Value("${player-service.login-rate-limit.ip.refill-period:1m}") Duration ipRefillPeriod,
+                            @Value("${player-service.login-rate-limit.backoff.failures-before-backoff:3}") int failuresBeforeBackoff,
+                            @Value("${player-service.login-rate-limit.backoff.max:15m}") Duration maxBackoff,
+                            @Value("${player-service.login-rate-limit.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this.emailBuckets = new TokenBucketMap(emailCapacity, emailRefillPeriod.toNanos(),
+                failuresBeforeBackoff, maxBackoff.toNanos(), maxTrackedKeys);
+        this.ipBuckets = new TokenBucketMap(ipCapacity, ipRefillPeriod.toNanos(),
+                failuresBeforeBackoff, maxBackoff.toNanos(), maxTrackedKeys);
+    }
+
+    public void checkLogin(String email, String clientIp) {
+        long now = System.nanoTime();
+        long waitNanos = ipBuckets.tryAcquire(clientIp, now);
+        if (waitNanos == TokenBucketMap.PERMITTED) {
+            waitNanos = emailBuckets.tryAcquire(email, now);
+        }
+        if (waitNanos != TokenBucketMap.PERMITTED) {
+            throw new TooManyLoginAttemptsException("Too many login attempts, try again later",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        long now = System.nanoTime();
+        emailBuckets.recordFailure(email, now);
+        ipBuckets.recordFailure(clientIp, now);
+    }
+
+    public void recordSuccess(String email, String clientIp) {
+        emailBuckets.recordSuccess(email);
+        ipBuckets.recordSuccess(clientIp);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindTo(registry, "email", emailBuckets);
+        bindTo(registry, "ip", ipBuckets);
+    }
+
+    private void bindTo(MeterRegistry registry, String key, TokenBucketMap buckets) {
+        FunctionCounter.builder("player.login.rate_limit.rejected", buckets, TokenBucketMap::rejectedCount)
+                .description("Login attempts rejected before credential verification")
+                .tag("key", key)
+                .register(registry);
+        Gauge.builder("player.login.rate_limit.tracked_keys", buckets, TokenBucketMap::size)
+                .description("Keys currently held by the login rate limiter")
+                .tag("key", key)
+                .register(registry);
+    }
+}
@@ -0,0 +1,142 @@
+package playerService.ratelimit;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token buckets keyed by string, implemented as GCRA: each bucket is a single "theoretical arrival
+ * time" updated by CAS, so an admitted request on a known key allocates nothing. The map is bounded;
+ * when it fills up, buckets that are fully refilled and carry no recent failures are evicted first
+ * since they hold no state worth keeping, then throttled ones. A penalised bucket, one with failures
+ * less than {@code maxBackoff} old, is never evicted, so churning keys cannot reset a backoff. If
+ * penalised buckets alone fill the map, new keys share a single overflow bucket until room frees up.
+ */
+class TokenBucketMap {
+
+    static final long PERMITTED = 0L;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int failuresBeforeBackoff;
+    private final long maxBackoffNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Bucket overflow = new Bucket(System.nanoTime());
+    private final LongAdder rejected = new LongAdder();
+
+    TokenBucketMap(int capacity, long refillPeriodNanos, int failuresBeforeBackoff, long maxBackoffNanos, int maxKeys) {
+        this.emissionIntervalNanos = refillPeriodNanos / capacity;
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.failuresBeforeBackoff = failuresBeforeBackoff;
+        this.maxBackoffNanos = maxBackoffNanos;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Takes one token for the key. Returns {@link #PERMITTED} when admitted, otherwise the number
+     * of nanoseconds until the next token is available.
+     */
+    long tryAcquire(String key, long now) {
+        Bucket bucket = bucketFor(key, now);
+        AtomicLong arrival = bucket.theoreticalArrival;
+        while (true) {
+            long tat = arrival.get();
+            long allowAt = tat - burstToleranceNanos;
+            if (allowAt - now > 0) {
+                rejected.increment();
+                return allowAt - now;
+            }
+            long next = Math.max(tat, now) + emissionIntervalNanos;
+            if (arrival.compareAndSet(tat, next)) {
+                return PERMITTED;
+            }
+        }
+    }
+
+    void recordFailure(String key, long now) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        int failures = bucket.failures.incrementAndGet();
+        if (failures <= failuresBeforeBackoff) {
+            return;
+        }
+        int exponent = failures - failuresBeforeBackoff;
+        long penalty = exponent >= Long.numberOfLeadingZeros(emissionIntervalNanos) - 1
+                ? maxBackoffNanos
+                : Math.min(emissionIntervalNanos << exponent, maxBackoffNanos);
+        AtomicLong arrival = bucket.theoreticalArrival;
+        while (true) {
+            long tat = arrival.get();
+            long next = Math.max(tat, now) + penalty;
+            if (arrival.compareAndSet(tat, next)) {
+                return;
+            }
+        }
+    }
+
+    void recordSuccess(String key) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null && bucket.failures.get() != 0) {
+            bucket.failures.set(0);
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private Bucket bucketFor(String key, long now) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            evict(now);
+            if (buckets.size() >= maxKeys) {
+                return overflow;
+            }
+        }
+        Bucket created = new Bucket(now);
+        Bucket existing = buckets.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    private void evict(long now) {
+        int target = maxKeys - maxKeys / 4;
+        Iterator<Bucket> idle = buckets.values().iterator();
+        while (idle.hasNext() && buckets.size() > target) {
+            Bucket bucket = idle.next();
+            if (bucket.theoreticalArrival.get() - now <= 0 && !isPenalised(bucket, now)) {
+                idle.remove();
+            }
+        }
+        Iterator<Bucket> throttled = buckets.values().iterator();
+        while (throttled.hasNext() && buckets.size() > target) {
+            if (!isPenalised(throttled.next(), now)) {
+                throttled.remove();
+            }
+        }
+    }
+
+    private boolean isPenalised(Bucket bucket, long now) {
+        return bucket.failures.get() != 0 && now - bucket.theoreticalArrival.get() < maxBackoffNanos;
+    }
+
+    private static final class Bucket {
+        private final AtomicLong theoreticalArrival;
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private Bucket(long theoreticalArrival) {
+            this.theoreticalArrival = new AtomicLong(theoreticalArrival);
+        }
+    }
+}
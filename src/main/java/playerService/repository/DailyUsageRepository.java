@@ -0,0 +1,16 @@
+package playerService.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import playerService.model.DailyUsage;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyUsageRepository extends JpaRepository<DailyUsage, DailyUsage.Key> {
+    @Query("select d from DailyUsage d where d.playerId = :playerId and d.usageDay >= :from")
+    List<DailyUsage> findSince(@Param("playerId") Long playerId, @Param("from") LocalDate from);
+}
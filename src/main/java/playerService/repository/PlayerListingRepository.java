@@ -0,0 +1,17 @@
+package playerService.repository;
+
+import playerService.dto.PlayerSummaryDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PlayerListingRepository {
+
+    /**
+     * Returns up to {@code limit} players ordered by {@code (registeredAt, id)}, starting strictly
+     * after the given position. Null filters and a null position are ignored.
+     */
+    List<PlayerSummaryDto> findSummariesAfter(Boolean active, Boolean limitSet,
+                                              LocalDateTime registeredFrom, LocalDateTime registeredTo,
+                                              LocalDateTime afterRegisteredAt, Long afterId, int limit);
+}
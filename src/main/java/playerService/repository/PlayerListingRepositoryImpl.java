@@ -0,0 +1,66 @@
+package playerService.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import playerService.dto.PlayerSummaryDto;
+import playerService.model.Player;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the listing query from only the filters that were supplied, so the database sees plain
+ * range predicates on the {@code (active, registeredAt, id)} index instead of
+ * {@code :param is null or ...} branches it cannot seek on.
+ */
+class PlayerListingRepositoryImpl implements PlayerListingRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PlayerSummaryDto> findSummariesAfter(Boolean active, Boolean limitSet,
+                                                     LocalDateTime registeredFrom, LocalDateTime registeredTo,
+                                                     LocalDateTime afterRegisteredAt, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PlayerSummaryDto> query = cb.createQuery(PlayerSummaryDto.class);
+        Root<Player> player = query.from(Player.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (active != null) {
+            predicates.add(cb.equal(player.get("active"), active));
+        }
+        if (limitSet != null) {
+            predicates.add(limitSet
+                    ? cb.isNotNull(player.get("dailyTimeLimit"))
+                    : cb.isNull(player.get("dailyTimeLimit")));
+        }
+        if (registeredFrom != null) {
+            predicates.add(cb.greaterThanOrEqualTo(player.get("registeredAt"), registeredFrom));
+        }
+        if (registeredTo != null) {
+            predicates.add(cb.lessThan(player.get("registeredAt"), registeredTo));
+        }
+        if (afterRegisteredAt != null && afterId != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(player.get("registeredAt"), afterRegisteredAt),
+                    cb.and(cb.equal(player.get("registeredAt"), afterRegisteredAt),
+                            cb.greaterThan(player.get("id"), afterId))));
+        }
+
+        query.select(cb.construct(PlayerSummaryDto.class,
+                        player.get("id"), player.get("email"), player.get("name"), player.get("surname"),
+                        player.get("active"), player.get("dailyTimeLimit"), player.get("registeredAt")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(player.get("registeredAt")), cb.asc(player.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -1,13 +1,82 @@
 package playerService.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import playerService.model.Player;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, Long> {
+public interface PlayerRepository extends JpaRepository<Player, Long>, PlayerListingRepository {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Player> findByEmail(String email);
 
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    @Query("select p.email from Player p")
+    Stream<String> streamAllEmails();
+
+    long countByActiveTrue();
+
+    long countByActiveTrueAndDailyTimeLimitIsNull();
+
+    @Query("select p.id from Player p where p.active = true and p.id > :afterId order by p.id")
+    List<Long> findActiveIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("select p.id from Player p where p.active = true and p.dailyTimeLimit is null and p.id > :afterId order by p.id")
+    List<Long> findActiveIdsWithoutLimitAfter(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * The active players among {@code ids}, and with {@code unsetOnly} only those without a daily
+     * limit, locked until the transaction ends so the set cannot change before they are updated.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p.id from Player p where p.id in :ids and p.active = true"
+            + " and (:unsetOnly = false or p.dailyTimeLimit is null) order by p.id")
+    List<Long> lockActiveIds(@Param("ids") Collection<Long> ids, @Param("unsetOnly") boolean unsetOnly);
+
+    /**
+     * Locks the player's row until the transaction ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p.id from Player p where p.id = :id")
+    Optional<Long> lockId(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Player p set p.dailyTimeLimit = :limit, p.updatedAt = local datetime where p.id in :ids"
+            + " and p.active = true and (:unsetOnly = false or p.dailyTimeLimit is null)")
+    int setDailyTimeLimit(@Param("ids") Collection<Long> ids, @Param("limit") int limit,
+                          @Param("unsetOnly") boolean unsetOnly);
+
+    @Query("select distinct p.timeZone from Player p")
+    List<String> findDistinctTimeZones();
+
+    @Query("select p.id from Player p where coalesce(p.timeZone, '') = :timeZone and p.todaySessionTime > 0"
+            + " and (p.lastDailyReset is null or p.lastDailyReset < :boundary) and p.id > :afterId order by p.id")
+    List<Long> findIdsDueForRolloverAfter(@Param("timeZone") String timeZone,
+                                          @Param("boundary") LocalDateTime boundary,
+                                          @Param("afterId") long afterId,
+                                          Limit limit);
+
+    @Modifying
+    @Query("update Player p set p.todaySessionTime = 0, p.lastDailyReset = :now, p.updatedAt = local datetime"
+            + " where p.id between :fromId and :toId and coalesce(p.timeZone, '') = :timeZone"
+            + " and p.todaySessionTime > 0 and (p.lastDailyReset is null or p.lastDailyReset < :boundary)")
+    int resetDailyUsage(@Param("timeZone") String timeZone,
+                        @Param("boundary") LocalDateTime boundary,
+                        @Param("fromId") long fromId,
+                        @Param("toId") long toId,
+                        @Param("now") LocalDateTime now);
+}
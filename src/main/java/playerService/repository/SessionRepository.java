@@ -1,9 +1,14 @@
 package playerService.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import playerService.dto.SessionSummaryDto;
 import playerService.model.Player;
 import playerService.model.Session;
+import playerService.session.OpenSession;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -12,7 +17,26 @@ import java.util.Optional;
 public interface SessionRepository extends JpaRepository<Session, String> {
     Optional<Session> findByIdAndLoggedOutAtIsNull(String id);
 
+    boolean existsByIdAndLoggedOutAtIsNull(String id);
+
     List<Session> findByPlayerAndLoggedOutAtIsNull(Player player);
 
     List<Session> findByLoggedOutAtIsNullAndExpiresAtBefore(LocalDateTime now);
-}
\ No newline at end of file
+
+    @Query("select new playerService.session.OpenSession(s.id, p.id, s.createdAt, p.timeZone, p.updatedAt) "
+            + "from Session s join s.player p where s.loggedOutAt is null")
+    List<OpenSession> findOpenSessions();
+
+    @Query("select new playerService.dto.SessionSummaryDto(s.id, s.createdAt, s.expiresAt, s.loggedOutAt) "
+            + "from Session s where s.player.id = :playerId order by s.createdAt desc, s.id desc")
+    List<SessionSummaryDto> findHistory(@Param("playerId") Long playerId, Limit limit);
+
+    @Query("select new playerService.dto.SessionSummaryDto(s.id, s.createdAt, s.expiresAt, s.loggedOutAt) "
+            + "from Session s where s.player.id = :playerId "
+            + "and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.id < :sessionId)) "
+            + "order by s.createdAt desc, s.id desc")
+    List<SessionSummaryDto> findHistoryBefore(@Param("playerId") Long playerId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("sessionId") String sessionId,
+                                              Limit limit);
+}
@@ -0,0 +1,19 @@
+package playerService.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import playerService.model.WindowLimit;
+
+import java.util.List;
+
+@Repository
+public interface WindowLimitRepository extends JpaRepository<WindowLimit, Long> {
+    List<WindowLimit> findByPlayerId(Long playerId);
+
+    @Modifying
+    @Query("delete from WindowLimit w where w.playerId = :playerId")
+    int deleteByPlayerId(@Param("playerId") Long playerId);
+}
@@ -0,0 +1,29 @@
+package playerService.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import playerService.service.DailyRolloverService;
+
+@Component
+public class DailyRolloverScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyRolloverScheduler.class);
+
+    private final DailyRolloverService dailyRolloverService;
+
+    @Autowired
+    public DailyRolloverScheduler(DailyRolloverService dailyRolloverService) {
+        this.dailyRolloverService = dailyRolloverService;
+    }
+
+    @Scheduled(cron = "${player-service.rollover.cron:5 */15 * * * *}")
+    public void rollover() {
+        long reset = dailyRolloverService.rollover();
+        if (reset > 0) {
+            log.info("Reset daily usage for {} players", reset);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package playerService.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import playerService.exception.SessionNotFoundException;
+import playerService.service.HeartbeatService;
+import playerService.service.SessionService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Component
+public class HeartbeatScheduler implements SchedulingConfigurer, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(HeartbeatScheduler.class);
+
+    private final HeartbeatService heartbeatService;
+    private final SessionService sessionService;
+    private final PeriodicJob job;
+
+    @Autowired
+    public HeartbeatScheduler(HeartbeatService heartbeatService,
+                              SessionService sessionService,
+                              @Value("${player-service.heartbeat.flush-interval:PT15S}") Duration flushInterval,
+                              @Value("${player-service.heartbeat.flush-jitter:PT1S}") Duration flushJitter) {
+        this.heartbeatService = heartbeatService;
+        this.sessionService = sessionService;
+        this.job = new PeriodicJob("heartbeat-flush", this::flushHeartbeats, flushInterval, flushJitter);
+    }
+
+    public void flushHeartbeats() {
+        heartbeatService.flush();
+        for (Map.Entry<String, LocalDateTime> idle : heartbeatService.removeIdleSessions().entrySet()) {
+            try {
+                sessionService.closeIdleSession(idle.getKey(), idle.getValue());
+            } catch (SessionNotFoundException e) {
+                log.debug("Idle session {} was already closed", idle.getKey());
+            }
+        }
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addTriggerTask(job, job);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        job.bindTo(registry);
+    }
+}
@@ -0,0 +1,104 @@
+package playerService.scheduler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A job run at a fixed rate on the scheduler pool, registered with
+ * {@link ScheduledTaskRegistrar#addTriggerTask} as both task and trigger. Each run starts at its
+ * slot plus a random delay of up to {@code jitter}, so nodes started together do not sweep in step.
+ * Runs never overlap: the next one is scheduled when the previous one finishes, and slots that a
+ * slow run overran are skipped rather than run back to back. How late each run starts, how long it
+ * takes and how many slots were skipped are recorded per job.
+ */
+public class PeriodicJob implements Runnable, Trigger, MeterBinder {
+
+    private final String name;
+    private final Runnable task;
+    private final Duration period;
+    private final Duration jitter;
+    private final LongAdder skipped = new LongAdder();
+    private volatile Instant slot;
+    private volatile Instant plannedStart;
+    private volatile Timer lag;
+    private volatile Timer duration;
+
+    public PeriodicJob(String name, Runnable task, Duration period, Duration jitter) {
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Period of job " + name + " must be positive");
+        }
+        if (jitter.isNegative() || jitter.compareTo(period) >= 0) {
+            throw new IllegalArgumentException("Jitter of job " + name + " must be between zero and the period");
+        }
+        this.name = name;
+        this.task = task;
+        this.period = period;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public Instant nextExecution(TriggerContext context) {
+        Instant now = context.getClock().instant();
+        Instant next;
+        if (slot == null) {
+            next = now;
+        } else {
+            next = slot.plus(period);
+            while (next.isBefore(now)) {
+                next = next.plus(period);
+                skipped.increment();
+            }
+        }
+        slot = next;
+        long jitterNanos = jitter.toNanos();
+        plannedStart = jitterNanos == 0 ? next : next.plusNanos(ThreadLocalRandom.current().nextLong(jitterNanos + 1));
+        return plannedStart;
+    }
+
+    @Override
+    public void run() {
+        Instant planned = plannedStart;
+        if (lag != null && planned != null) {
+            lag.record(Math.max(0, Duration.between(planned, Instant.now()).toNanos()), TimeUnit.NANOSECONDS);
+        }
+        long started = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            if (duration != null) {
+                duration.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    public long skippedRuns() {
+        return skipped.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        lag = Timer.builder("player.scheduler.lag")
+                .tag("job", name)
+                .description("How late a run started after its planned time")
+                .register(registry);
+        duration = Timer.builder("player.scheduler.duration")
+                .tag("job", name)
+                .description("Time taken by a run, including failed ones")
+                .register(registry);
+        FunctionCounter.builder("player.scheduler.skipped", skipped, LongAdder::sum)
+                .tag("job", name)
+                .description("Runs skipped because the previous run overran their slot")
+                .register(registry);
+    }
+}
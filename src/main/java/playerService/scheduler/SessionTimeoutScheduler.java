@@ -1,23 +1,41 @@
 package playerService.scheduler;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Component;
 import playerService.service.SessionService;
 
+import java.time.Duration;
+
 @Component
-public class SessionTimeoutScheduler {
+public class SessionTimeoutScheduler implements SchedulingConfigurer, MeterBinder {
 
     private final SessionService sessionService;
+    private final PeriodicJob job;
 
     @Autowired
-    public SessionTimeoutScheduler(SessionService sessionService) {
+    public SessionTimeoutScheduler(SessionService sessionService,
+                                   @Value("${player-service.enforcement.interval:PT1M}") Duration interval,
+                                   @Value("${player-service.enforcement.jitter:PT5S}") Duration jitter) {
         this.sessionService = sessionService;
+        this.job = new PeriodicJob("time-limit-sweep", this::checkTimeLimits, interval, jitter);
     }
 
-    @Scheduled(fixedRate = 60000)
     public void checkTimeLimits() {
         sessionService.checkAndLogoutTimeLimitExceededPlayers();
     }
-}
 
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addTriggerTask(job, job);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        job.bindTo(registry);
+    }
+}
@@ -0,0 +1,52 @@
+package playerService.security;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Picks the BCrypt cost for this machine: the highest cost whose hash time stays within the
+ * budget. Each cost step doubles the work, so costs are tried upwards from {@code minCost} and the
+ * search stops at the first one over budget.
+ */
+public final class BcryptCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    public record Calibration(int cost, Duration hashLatency) {
+    }
+
+    private BcryptCalibrator() {
+    }
+
+    public static Calibration calibrate(Duration budget, int minCost, int maxCost) {
+        // Warm up the JIT so the first measured cost is not penalised.
+        measure(Math.max(4, minCost - 4));
+        Calibration chosen = new Calibration(minCost, measure(minCost));
+        for (int cost = minCost + 1; cost <= maxCost; cost++) {
+            Duration latency = measure(cost);
+            if (latency.compareTo(budget) > 0) {
+                break;
+            }
+            chosen = new Calibration(cost, latency);
+        }
+        return chosen;
+    }
+
+    /**
+     * Median of a few hashes at {@code cost}.
+     */
+    static Duration measure(int cost) {
+        long[] nanos = new long[SAMPLES];
+        String salt = BCrypt.gensalt(cost);
+        for (int i = 0; i < SAMPLES; i++) {
+            long started = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return Duration.ofNanos(nanos[SAMPLES / 2]);
+    }
+}
@@ -0,0 +1,92 @@
+package playerService.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt at the calibrated cost behind a {@link DelegatingPasswordEncoder}, so new hashes carry a
+ * {@code {bcrypt}} prefix and {@link #upgradeEncoding} reports stored hashes that are unprefixed or
+ * weaker than the current cost. Unprefixed hashes from before the prefix was introduced still
+ * match. Hash and verify times are recorded per operation.
+ */
+public class MeteredPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    private static final String BCRYPT = "bcrypt";
+
+    private final PasswordEncoder delegate;
+    private final int cost;
+    private final Duration calibratedLatency;
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+    private volatile Counter upgrades;
+
+    public MeteredPasswordEncoder(int cost, Duration calibratedLatency) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        this.delegate = delegating;
+        this.cost = cost;
+        this.calibratedLatency = calibratedLatency;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return time(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return time(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        boolean upgrade = delegate.upgradeEncoding(encodedPassword);
+        if (upgrade && upgrades != null) {
+            upgrades.increment();
+        }
+        return upgrade;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = Timer.builder("player.password.hash")
+                .tag("operation", "encode")
+                .description("Time to hash a password")
+                .register(registry);
+        matchesTimer = Timer.builder("player.password.hash")
+                .tag("operation", "matches")
+                .description("Time to verify a password")
+                .register(registry);
+        upgrades = Counter.builder("player.password.upgrades")
+                .description("Stored hashes found below the current cost at login")
+                .register(registry);
+        Gauge.builder("player.password.bcrypt.cost", () -> cost)
+                .description("BCrypt work factor used for new hashes")
+                .register(registry);
+        TimeGauge.builder("player.password.bcrypt.calibrated", calibratedLatency, TimeUnit.NANOSECONDS,
+                        Duration::toNanos)
+                .description("Hash time measured for the chosen cost at startup")
+                .register(registry);
+    }
+
+    private static <T> T time(Timer timer, Supplier<T> action) {
+        return timer == null ? action.get() : timer.record(action);
+    }
+}
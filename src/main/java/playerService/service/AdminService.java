@@ -0,0 +1,74 @@
+package playerService.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import playerService.dto.KeysetPageDto;
+import playerService.dto.PlayerSummaryDto;
+import playerService.dto.SessionSummaryDto;
+import playerService.repository.PlayerRepository;
+import playerService.repository.SessionRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class AdminService {
+
+    private final PlayerRepository playerRepository;
+    private final SessionRepository sessionRepository;
+    private final int maxPageSize;
+
+    @Autowired
+    public AdminService(PlayerRepository playerRepository,
+                        SessionRepository sessionRepository,
+                        @Value("${player-service.admin.max-page-size:500}") int maxPageSize) {
+        this.playerRepository = playerRepository;
+        this.sessionRepository = sessionRepository;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPageDto<PlayerSummaryDto> listPlayers(Boolean active, Boolean limitSet,
+                                                       LocalDateTime registeredFrom, LocalDateTime registeredTo,
+                                                       String cursor, int size) {
+        int pageSize = pageSize(size);
+        KeysetCursor after = cursor == null ? null : KeysetCursor.decode(cursor);
+        List<PlayerSummaryDto> rows = playerRepository.findSummariesAfter(active, limitSet,
+                registeredFrom, registeredTo,
+                after == null ? null : after.position(),
+                after == null ? null : after.numericId(),
+                pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new KeysetPageDto<>(rows, null);
+        }
+        List<PlayerSummaryDto> page = rows.subList(0, pageSize);
+        PlayerSummaryDto last = page.get(pageSize - 1);
+        return new KeysetPageDto<>(page, new KeysetCursor(last.getRegisteredAt(), last.getId().toString()).encode());
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPageDto<SessionSummaryDto> listSessions(Long playerId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<SessionSummaryDto> rows;
+        if (cursor == null) {
+            rows = sessionRepository.findHistory(playerId, limit);
+        } else {
+            KeysetCursor before = KeysetCursor.decode(cursor);
+            rows = sessionRepository.findHistoryBefore(playerId, before.position(), before.id(), limit);
+        }
+        if (rows.size() <= pageSize) {
+            return new KeysetPageDto<>(rows, null);
+        }
+        List<SessionSummaryDto> page = rows.subList(0, pageSize);
+        SessionSummaryDto last = page.get(pageSize - 1);
+        return new KeysetPageDto<>(page, new KeysetCursor(last.getCreatedAt(), last.getSessionId()).encode());
+    }
+
+    private int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, maxPageSize));
+    }
+}
@@ -0,0 +1,97 @@
+package playerService.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.SessionResponseDto;
+import playerService.model.Player;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking variants of login and logout. The player lookup and session writes run on the
+ * persistence executor and the BCrypt check runs on the hashing executor, so the calling servlet
+ * thread is released for the whole chain.
+ * <p>
+ * A login that has timed out or been cancelled stops at its next stage. Opening the session and
+ * timing out race for one flag, so a caller that was told the login timed out never has a session
+ * opened behind its back; once the session is being opened the caller waits for the outcome.
+ */
+@Service
+public class AsyncSessionService {
+
+    private final SessionService sessionService;
+    private final Executor passwordHashingExecutor;
+    private final Executor persistenceExecutor;
+    private final Duration timeout;
+
+    @Autowired
+    public AsyncSessionService(SessionService sessionService,
+                               @Qualifier("passwordHashingExecutor") Executor passwordHashingExecutor,
+                               @Qualifier("persistenceExecutor") Executor persistenceExecutor,
+                               @Value("${player-service.async.timeout:5s}") Duration timeout) {
+        this.sessionService = sessionService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.persistenceExecutor = persistenceExecutor;
+        this.timeout = timeout;
+    }
+
+    public CompletableFuture<SessionResponseDto> login(LoginRequestDto loginRequest) {
+        CompletableFuture<SessionResponseDto> result = new CompletableFuture<>();
+        AtomicBoolean settled = new AtomicBoolean();
+        CompletableFuture
+                .supplyAsync(() -> sessionService.lookupPlayer(loginRequest.getEmail()), persistenceExecutor)
+                .thenApplyAsync(player -> {
+                    abandonIfDone(result);
+                    return verify(player, loginRequest.getPassword());
+                }, passwordHashingExecutor)
+                .thenApplyAsync(verified -> {
+                    abandonIfDone(result);
+                    if (!settled.compareAndSet(false, true)) {
+                        throw new CancellationException("Login timed out");
+                    }
+                    return sessionService.openSession(verified.player(), verified.rehashedPassword());
+                }, persistenceExecutor)
+                .whenComplete((session, failure) -> {
+                    if (failure == null) {
+                        result.complete(session);
+                    } else {
+                        result.completeExceptionally(failure instanceof CompletionException ? failure.getCause() : failure);
+                    }
+                });
+        CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            if (settled.compareAndSet(false, true)) {
+                result.completeExceptionally(new TimeoutException());
+            }
+        });
+        return result;
+    }
+
+    public CompletableFuture<Void> logout(String sessionId) {
+        return CompletableFuture
+                .runAsync(() -> sessionService.logout(sessionId), persistenceExecutor)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static void abandonIfDone(CompletableFuture<?> result) {
+        if (result.isDone()) {
+            throw new CancellationException("Login abandoned");
+        }
+    }
+
+    private Verified verify(Player player, String rawPassword) {
+        return new Verified(player, sessionService.verifyPassword(player, rawPassword));
+    }
+
+    private record Verified(Player player, String rehashedPassword) {
+    }
+}
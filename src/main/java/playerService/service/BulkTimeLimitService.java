@@ -0,0 +1,189 @@
+package playerService.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import playerService.datasource.ReadYourWritesGuard;
+import playerService.dto.BulkTimeLimitDto;
+import playerService.dto.BulkTimeLimitStatusDto;
+import playerService.event.TimeLimitChangedEvent;
+import playerService.exception.BulkJobNotFoundException;
+import playerService.repository.PlayerRepository;
+import playerService.usage.UsageTable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies one daily limit to many players. Work is split into chunks of player ids, and each
+ * chunk is a single set-based UPDATE in its own short transaction, so a campaign over hundreds of
+ * thousands of players never holds one long transaction. Filter-based jobs walk the id keyset,
+ * so rows touched by earlier chunks are not revisited. Each chunk first locks the active players
+ * among its ids, and only those get a {@link TimeLimitChangedEvent} after the chunk commits, which
+ * re-arms enforcement for anyone online.
+ */
+@Service
+public class BulkTimeLimitService {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final PlayerRepository playerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final UsageTable usageTable;
+    private final Executor bulkUpdateExecutor;
+    private final int chunkSize;
+    private final Duration retention;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BulkTimeLimitService(PlayerRepository playerRepository,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                ReadYourWritesGuard readYourWritesGuard,
+                                UsageTable usageTable,
+                                @Qualifier("bulkUpdateExecutor") Executor bulkUpdateExecutor,
+                                @Value("${player-service.bulk-time-limit.chunk-size:1000}") int chunkSize,
+                                @Value("${player-service.bulk-time-limit.retention:1h}") Duration retention) {
+        this.playerRepository = playerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.usageTable = usageTable;
+        this.bulkUpdateExecutor = bulkUpdateExecutor;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+    }
+
+    public BulkTimeLimitStatusDto start(BulkTimeLimitDto request) {
+        purgeFinishedJobs();
+        Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+        try {
+            bulkUpdateExecutor.execute(() -> run(job, request));
+        } catch (RuntimeException e) {
+            jobs.remove(job.id);
+            throw e;
+        }
+        return job.toDto();
+    }
+
+    public BulkTimeLimitStatusDto getStatus(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new BulkJobNotFoundException("Bulk time-limit job not found with id: " + jobId);
+        }
+        return job.toDto();
+    }
+
+    void run(Job job, BulkTimeLimitDto request) {
+        job.state = State.RUNNING;
+        try {
+            int limit = request.getDailyLimitMinutes();
+            if (request.getFilter() == null) {
+                List<Long> playerIds = request.getPlayerIds();
+                job.total = playerIds.size();
+                for (int from = 0; from < playerIds.size(); from += chunkSize) {
+                    List<Long> chunk = playerIds.subList(from, Math.min(from + chunkSize, playerIds.size()));
+                    applyChunk(job, chunk, limit, false);
+                }
+            } else {
+                job.total = countMatching(request.getFilter());
+                long afterId = Long.MIN_VALUE;
+                List<Long> chunk;
+                boolean unsetOnly = request.getFilter() == BulkTimeLimitDto.PlayerFilter.ACTIVE_WITHOUT_LIMIT;
+                while (!(chunk = findMatching(request.getFilter(), afterId)).isEmpty()) {
+                    applyChunk(job, chunk, limit, unsetOnly);
+                    afterId = chunk.get(chunk.size() - 1);
+                }
+            }
+            job.state = State.COMPLETED;
+        } catch (RuntimeException e) {
+            job.state = State.FAILED;
+            throw e;
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Only the rows the UPDATE changes get an event, a pinned read and a reloaded usage slot; ids
+     * that are inactive or unknown are counted as processed but not updated. The keyset read that
+     * chose the ids held no lock, so {@code unsetOnly} re-applies the without-limit filter under
+     * the lock; a limit set in between is left alone.
+     */
+    private void applyChunk(Job job, List<Long> playerIds, int limit, boolean unsetOnly) {
+        List<Long> updated = transactionTemplate.execute(status -> {
+            List<Long> activeIds = playerRepository.lockActiveIds(playerIds, unsetOnly);
+            if (activeIds.isEmpty()) {
+                return activeIds;
+            }
+            playerRepository.setDailyTimeLimit(activeIds, limit, unsetOnly);
+            for (Long playerId : activeIds) {
+                readYourWritesGuard.recordWrite(playerId);
+                eventPublisher.publishEvent(new TimeLimitChangedEvent(playerId));
+            }
+            return activeIds;
+        });
+        for (Long playerId : updated) {
+            usageTable.evict(playerId);
+        }
+        job.processed.addAndGet(playerIds.size());
+        job.updated.addAndGet(updated.size());
+    }
+
+    private long countMatching(BulkTimeLimitDto.PlayerFilter filter) {
+        return switch (filter) {
+            case ACTIVE_WITHOUT_LIMIT -> playerRepository.countByActiveTrueAndDailyTimeLimitIsNull();
+            case ALL_ACTIVE -> playerRepository.countByActiveTrue();
+        };
+    }
+
+    private List<Long> findMatching(BulkTimeLimitDto.PlayerFilter filter, long afterId) {
+        return switch (filter) {
+            case ACTIVE_WITHOUT_LIMIT -> playerRepository.findActiveIdsWithoutLimitAfter(afterId, Limit.of(chunkSize));
+            case ALL_ACTIVE -> playerRepository.findActiveIdsAfter(afterId, Limit.of(chunkSize));
+        };
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    static final class Job {
+        private final String id;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private volatile State state = State.QUEUED;
+        private volatile long total;
+        private volatile LocalDateTime finishedAt;
+
+        Job(String id) {
+            this.id = id;
+        }
+
+        BulkTimeLimitStatusDto toDto() {
+            return new BulkTimeLimitStatusDto(id, state.name(), total, processed.get(), updated.get(),
+                    startedAt, finishedAt);
+        }
+    }
+}
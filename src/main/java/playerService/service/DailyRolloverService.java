@@ -0,0 +1,69 @@
+package playerService.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import playerService.repository.PlayerRepository;
+import playerService.time.PlayerCalendar;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Resets yesterday's usage for every player whose local day has ended, ahead of their next check.
+ * Each time zone is processed separately against its own midnight, in id chunks of one set-based
+ * UPDATE per short transaction, so the reset is a few thousand statements shortly after midnight
+ * rather than one write per player on their first request of the day. Reads never depend on the
+ * job having run: usage from an earlier day already counts as zero.
+ */
+@Service
+public class DailyRolloverService {
+
+    private final PlayerRepository playerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PlayerCalendar calendar;
+    private final int chunkSize;
+
+    @Autowired
+    public DailyRolloverService(PlayerRepository playerRepository,
+                                PlatformTransactionManager transactionManager,
+                                PlayerCalendar calendar,
+                                @Value("${player-service.rollover.chunk-size:1000}") int chunkSize) {
+        this.playerRepository = playerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.calendar = calendar;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns the number of players reset.
+     */
+    public long rollover() {
+        long reset = 0;
+        for (String timeZone : playerRepository.findDistinctTimeZones()) {
+            reset += rollover(timeZone);
+        }
+        return reset;
+    }
+
+    private long rollover(String timeZone) {
+        ZoneId zone = calendar.zoneOf(timeZone);
+        LocalDateTime boundary = calendar.startOfToday(zone);
+        String key = timeZone == null ? "" : timeZone;
+        long reset = 0;
+        long afterId = Long.MIN_VALUE;
+        List<Long> chunk;
+        while (!(chunk = playerRepository.findIdsDueForRolloverAfter(key, boundary, afterId, Limit.of(chunkSize))).isEmpty()) {
+            long fromId = chunk.get(0);
+            long toId = chunk.get(chunk.size() - 1);
+            reset += transactionTemplate.execute(status ->
+                    playerRepository.resetDailyUsage(key, boundary, fromId, toId, calendar.now()));
+            afterId = chunk.get(chunk.size() - 1);
+        }
+        return reset;
+    }
+}
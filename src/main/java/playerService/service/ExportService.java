@@ -0,0 +1,172 @@
+package playerService.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import playerService.export.ExportFormat;
+import playerService.export.RowWriter;
+import playerService.time.PlayerCalendar;
+
+import javax.sql.DataSource;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams players and sessions for the warehouse as gzip-compressed NDJSON or CSV. Rows are read
+ * through a forward-only cursor with a bounded fetch size and written straight to the output, so
+ * memory stays flat however many rows are exported. Reads run in a read-only transaction and so
+ * go to the replica when one is configured.
+ * <p>
+ * With {@code since}, only rows written at or after it are exported, by their {@code updatedAt}.
+ * {@link #watermark()} gives the value to pass on the next run; it trails the start of the export
+ * by a margin so rows committed by transactions still in flight are picked up next time. Increments can therefore overlap and should be merged by id. The bulk
+ * usage updates from heartbeats and the daily rollover move {@code updatedAt} as well, and a
+ * session's {@code updatedAt} is the time of the write, not the possibly backdated logout.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    private static final String[] PLAYER_COLUMNS = {"id", "email", "name", "surname", "date_of_birth", "address",
+            "daily_time_limit", "active", "time_zone", "registered_at", "updated_at", "today_session_time",
+            "last_daily_reset", "last_session_start"};
+    private static final String[] SESSION_COLUMNS = {"id", "player_id", "created_at", "expires_at", "logged_out_at",
+            "updated_at"};
+    private static final String SELECT_PLAYERS = "SELECT " + String.join(", ", PLAYER_COLUMNS) + " FROM player";
+    private static final String SELECT_SESSIONS = "SELECT " + String.join(", ", SESSION_COLUMNS) + " FROM session";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final PlayerCalendar calendar;
+    private final Duration watermarkLag;
+
+    @Autowired
+    public ExportService(DataSource dataSource,
+                         PlatformTransactionManager transactionManager,
+                         PlayerCalendar calendar,
+                         @Value("${player-service.export.fetch-size:1000}") int fetchSize,
+                         @Value("${player-service.export.watermark-lag:PT1M}") Duration watermarkLag) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.calendar = calendar;
+        this.watermarkLag = watermarkLag;
+    }
+
+    public LocalDateTime watermark() {
+        return calendar.now().minus(watermarkLag);
+    }
+
+    public long exportPlayers(LocalDateTime since, ExportFormat format, OutputStream out) throws IOException {
+        if (since == null) {
+            return export("players", PLAYER_COLUMNS, format, out, SELECT_PLAYERS);
+        }
+        return export("players", PLAYER_COLUMNS, format, out, SELECT_PLAYERS + " WHERE updated_at >= ?", since);
+    }
+
+    public long exportSessions(LocalDateTime since, ExportFormat format, OutputStream out) throws IOException {
+        if (since == null) {
+            return export("sessions", SESSION_COLUMNS, format, out, SELECT_SESSIONS);
+        }
+        return export("sessions", SESSION_COLUMNS, format, out, SELECT_SESSIONS + " WHERE updated_at >= ?", since);
+    }
+
+    private long export(String name, String[] columns, ExportFormat format, OutputStream out, String sql,
+                        Object... args) throws IOException {
+        long started = System.nanoTime();
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 64 * 1024);
+        ExportHandler handler = new ExportHandler(format.open(new NonClosingOutputStream(gzip), columns));
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(sql, handler, args));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        handler.writer.close();
+        gzip.finish();
+        gzip.flush();
+        log.info("Exported {} {} as {} in {} ms", handler.rows, name, format,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return handler.rows;
+    }
+
+    private static final class ExportHandler implements RowCallbackHandler {
+        private final RowWriter writer;
+        private int[] types;
+        private Object[] values;
+        private long rows;
+
+        private ExportHandler(RowWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (types == null) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                types = new int[metaData.getColumnCount()];
+                for (int i = 0; i < types.length; i++) {
+                    types[i] = metaData.getColumnType(i + 1);
+                }
+                values = new Object[types.length];
+            }
+            for (int i = 0; i < values.length; i++) {
+                values[i] = read(rs, i + 1, types[i]);
+            }
+            try {
+                writer.write(values);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            rows++;
+        }
+
+        private static Object read(ResultSet rs, int column, int type) throws SQLException {
+            Object value = switch (type) {
+                case Types.BIGINT -> rs.getLong(column);
+                case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> rs.getInt(column);
+                case Types.BOOLEAN, Types.BIT -> rs.getBoolean(column);
+                case Types.TIMESTAMP -> rs.getObject(column, LocalDateTime.class);
+                case Types.DATE -> rs.getObject(column, LocalDate.class);
+                default -> rs.getString(column);
+            };
+            return rs.wasNull() ? null : value;
+        }
+    }
+
+    /**
+     * Lets the row writers close their own buffers without finishing the gzip stream underneath.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        private NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package playerService.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import playerService.exception.SessionNotFoundException;
+import playerService.model.Player;
+import playerService.model.Session;
+import playerService.policy.DailyUsageRecorder;
+import playerService.repository.SessionRepository;
+import playerService.session.SessionRegistry;
+import playerService.time.PlayerCalendar;
+import playerService.usage.UsageTable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Accrues session time from client heartbeats. A heartbeat only stamps an in-memory entry; a
+ * periodic flush credits each player with the time between the last credited point and their
+ * latest heartbeat in one batched UPDATE, and advances {@code lastSessionStart} to that point so
+ * logout only credits the remainder. Time after the last heartbeat is never credited, so a client
+ * that disappears stops accruing instead of being charged until expiry. Time before the player's
+ * local midnight is not credited to the new day. A player's concurrent sessions share one credited
+ * point, so their heartbeats are credited as the union of the spans they cover.
+ */
+@Service
+public class HeartbeatService {
+
+    private static final String CREDIT_SQL = """
+            UPDATE player SET
+                today_session_time = CASE WHEN last_daily_reset IS NULL OR last_daily_reset >= ?
+                                          THEN today_session_time + ? ELSE ? END,
+                last_daily_reset = CASE WHEN last_daily_reset IS NULL OR last_daily_reset >= ?
+                                        THEN last_daily_reset ELSE ? END,
+                last_session_start = ?,
+                updated_at = ?
+            WHERE id = ?""";
+
+    private final SessionRepository sessionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final UsageTable usageTable;
+    private final PlayerCalendar calendar;
+    private final DailyUsageRecorder dailyUsageRecorder;
+    private final SessionRegistry sessionRegistry;
+    private final Duration idleTimeout;
+    private final int batchSize;
+    private final Map<String, Beat> beats = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Autowired
+    public HeartbeatService(SessionRepository sessionRepository,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            EntityManagerFactory entityManagerFactory,
+                            UsageTable usageTable,
+                            PlayerCalendar calendar,
+                            DailyUsageRecorder dailyUsageRecorder,
+                            SessionRegistry sessionRegistry,
+                            @Value("${player-service.heartbeat.idle-timeout:PT90S}") Duration idleTimeout,
+                            @Value("${player-service.heartbeat.batch-size:500}") int batchSize) {
+        this.sessionRepository = sessionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.usageTable = usageTable;
+        this.calendar = calendar;
+        this.dailyUsageRecorder = dailyUsageRecorder;
+        this.sessionRegistry = sessionRegistry;
+        this.idleTimeout = idleTimeout;
+        this.batchSize = batchSize;
+    }
+
+    public void beat(String sessionId) {
+        Beat beat = beats.get(sessionId);
+        if (beat == null) {
+            beat = register(sessionId);
+        }
+        beat.lastSeen = calendar.nowEpochSecond();
+    }
+
+    /**
+     * Stops tracking a session that is being closed. Waits for an in-progress flush so the caller
+     * reads the player only after that flush's credit has been committed.
+     */
+    public void forget(String sessionId) {
+        flushLock.lock();
+        try {
+            beats.remove(sessionId);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int trackedSessions() {
+        return beats.size();
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Credit> credits = new HashMap<>();
+            for (Beat beat : beats.values()) {
+                long lastSeen = beat.lastSeen;
+                if (lastSeen > beat.creditedUntil) {
+                    credits.computeIfAbsent(beat.playerId, id -> new Credit(id, beat.zone)).add(beat, lastSeen);
+                }
+            }
+            List<Credit> pending = new ArrayList<>(credits.values());
+            for (int from = 0; from < pending.size(); from += batchSize) {
+                apply(pending.subList(from, Math.min(from + batchSize, pending.size())));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Removes sessions whose last heartbeat is older than the idle timeout and returns them with
+     * the time they were last seen, for the caller to close.
+     */
+    public Map<String, LocalDateTime> removeIdleSessions() {
+        long cutoff = calendar.nowEpochSecond() - idleTimeout.getSeconds();
+        Map<String, LocalDateTime> idle = new HashMap<>();
+        flushLock.lock();
+        try {
+            beats.entrySet().removeIf(entry -> {
+                if (entry.getValue().lastSeen >= cutoff) {
+                    return false;
+                }
+                idle.put(entry.getKey(), calendar.toLocalDateTime(entry.getValue().lastSeen));
+                return true;
+            });
+        } finally {
+            flushLock.unlock();
+        }
+        return idle;
+    }
+
+    private Beat register(String sessionId) {
+        Session session = sessionRepository.findByIdAndLoggedOutAtIsNull(sessionId)
+                .orElseThrow(() -> new SessionNotFoundException("Active session not found with id: " + sessionId));
+        Player player = session.getPlayer();
+        LocalDateTime creditedUntil = player.getLastSessionStart() != null
+                ? player.getLastSessionStart() : session.getCreatedAt();
+        Beat beat = new Beat(player.getId(), calendar.zoneOf(player), calendar.toEpochSecond(creditedUntil));
+        Beat existing = beats.putIfAbsent(sessionId, beat);
+        return existing != null ? existing : beat;
+    }
+
+    private void apply(List<Credit> batch) {
+        LocalDateTime now = calendar.now();
+        List<DailyUsageRecorder.Usage> usages = new ArrayList<>(batch.size());
+        for (Credit credit : batch) {
+            credit.startOfToday = calendar.startOfToday(credit.zone);
+            credit.seconds = credit.secondsSince(calendar.toEpochSecond(credit.startOfToday));
+            usages.add(new DailyUsageRecorder.Usage(credit.playerId, calendar.today(credit.zone), credit.seconds));
+        }
+        LocalDateTime version = now.truncatedTo(ChronoUnit.MICROS);
+        Map<Long, LocalDateTime> previousVersions = transactionTemplate.execute(status -> {
+            Map<Long, LocalDateTime> previous = lockVersions(batch);
+            jdbcTemplate.batchUpdate(CREDIT_SQL, batch, batch.size(), (statement, credit) -> {
+                statement.setObject(1, credit.startOfToday);
+                statement.setLong(2, credit.seconds);
+                statement.setLong(3, credit.seconds);
+                statement.setObject(4, credit.startOfToday);
+                statement.setObject(5, now);
+                statement.setObject(6, calendar.toLocalDateTime(credit.creditedUntil));
+                statement.setObject(7, version);
+                statement.setLong(8, credit.playerId);
+            });
+            dailyUsageRecorder.recordAll(usages);
+            return previous;
+        });
+
+        for (Credit credit : batch) {
+            for (Beat beat : credit.beats) {
+                beat.creditedUntil = credit.creditedUntil;
+            }
+            advanceOthers(credit);
+            entityManagerFactory.getCache().evict(Player.class, credit.playerId);
+            usageTable.credit(credit.playerId, credit.seconds, calendar.today(credit.zone).toEpochDay(),
+                    credit.creditedUntil, calendar.toEpochMicros(previousVersions.get(credit.playerId)),
+                    calendar.toEpochMicros(version));
+        }
+    }
+
+    /**
+     * Locks the credited rows and returns their {@code updatedAt} before this flush, so the usage
+     * table only moves a slot to the new version if it reflected the row up to this write.
+     */
+    private Map<Long, LocalDateTime> lockVersions(List<Credit> batch) {
+        Map<Long, LocalDateTime> versions = new HashMap<>();
+        String ids = String.join(",", Collections.nCopies(batch.size(), "?"));
+        jdbcTemplate.query("SELECT id, updated_at FROM player WHERE id IN (" + ids + ") FOR UPDATE",
+                (RowCallbackHandler) row -> versions.put(row.getLong(1), row.getObject(2, LocalDateTime.class)),
+                batch.stream().map(credit -> credit.playerId).toArray());
+        return versions;
+    }
+
+    /**
+     * Brings the player's sessions that sent no heartbeat since the last flush up to the same
+     * credited point, so their next span does not cover time already credited.
+     */
+    private void advanceOthers(Credit credit) {
+        for (String sessionId : sessionRegistry.sessionIds(credit.playerId)) {
+            Beat beat = beats.get(sessionId);
+            if (beat != null && beat.creditedUntil < credit.creditedUntil) {
+                beat.creditedUntil = credit.creditedUntil;
+            }
+        }
+    }
+
+    private static final class Beat {
+        private final long playerId;
+        private final ZoneId zone;
+        private volatile long lastSeen;
+        private volatile long creditedUntil;
+
+        private Beat(long playerId, ZoneId zone, long creditedUntil) {
+            this.playerId = playerId;
+            this.zone = zone;
+            this.creditedUntil = creditedUntil;
+            this.lastSeen = creditedUntil;
+        }
+    }
+
+    private static final class Credit {
+        private final long playerId;
+        private final ZoneId zone;
+        private final List<Beat> beats = new ArrayList<>(1);
+        private final List<long[]> spans = new ArrayList<>(1);
+        private long creditedUntil;
+        private LocalDateTime startOfToday;
+        private long seconds;
+
+        private Credit(long playerId, ZoneId zone) {
+            this.playerId = playerId;
+            this.zone = zone;
+        }
+
+        private void add(Beat beat, long lastSeen) {
+            beats.add(beat);
+            spans.add(new long[]{beat.creditedUntil, lastSeen});
+            creditedUntil = Math.max(creditedUntil, lastSeen);
+        }
+
+        private long secondsSince(long midnight) {
+            if (spans.size() > 1) {
+                spans.sort((a, b) -> Long.compare(a[0], b[0]));
+            }
+            long total = 0;
+            long coveredUntil = midnight;
+            for (long[] span : spans) {
+                long start = Math.max(span[0], coveredUntil);
+                if (span[1] > start) {
+                    total += span[1] - start;
+                    coveredUntil = span[1];
+                }
+            }
+            return total;
+        }
+    }
+}
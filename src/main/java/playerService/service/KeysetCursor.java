@@ -0,0 +1,43 @@
+package playerService.service;
+
+import playerService.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque position in a keyset-ordered listing: the sort timestamp of the last row returned plus
+ * its id as a tie-breaker.
+ */
+record KeysetCursor(LocalDateTime position, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        String raw = position.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw InvalidCursorException.INSTANCE;
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw InvalidCursorException.INSTANCE;
+        }
+    }
+
+    Long numericId() {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw InvalidCursorException.INSTANCE;
+        }
+    }
+}
@@ -2,61 +2,170 @@ package playerService.service;
 
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import playerService.cache.RegisteredEmailFilter;
+import playerService.datasource.ReadYourWritesGuard;
 import playerService.dto.PlayerRegistrationDto;
 import playerService.dto.TimeLimitDto;
+import playerService.event.TimeLimitChangedEvent;
 import playerService.exception.PlayerAlreadyExistsException;
 import playerService.exception.PlayerInactiveException;
 import playerService.exception.PlayerNotFoundException;
+import playerService.jfr.SessionTimeEvent;
 import playerService.model.Player;
+import playerService.model.WindowLimit;
+import playerService.policy.DailyUsageRecorder;
+import playerService.policy.LimitPolicyEngine;
 import playerService.repository.PlayerRepository;
+import playerService.repository.WindowLimitRepository;
+import playerService.time.PlayerCalendar;
+import playerService.usage.UsageTable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 
 @Service
 public class PlayerService {
 
+    /**
+     * What the enforcement sweep needs to know about a player's daily limit.
+     */
+    public record LimitState(Integer dailyLimitMinutes, long secondsUsedToday, LocalDateTime lastSessionStart) {
+    }
+
     private final PlayerRepository playerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UsageTable usageTable;
+    private final PlayerCalendar calendar;
+    private final WindowLimitRepository windowLimitRepository;
+    private final LimitPolicyEngine limitPolicyEngine;
+    private final DailyUsageRecorder dailyUsageRecorder;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
-    public PlayerService(PlayerRepository playerRepository, PasswordEncoder passwordEncoder) {
+    public PlayerService(PlayerRepository playerRepository,
+                         PasswordEncoder passwordEncoder,
+                         ReadYourWritesGuard readYourWritesGuard,
+                         RegisteredEmailFilter registeredEmailFilter,
+                         ApplicationEventPublisher eventPublisher,
+                         UsageTable usageTable,
+                         PlayerCalendar calendar,
+                         WindowLimitRepository windowLimitRepository,
+                         LimitPolicyEngine limitPolicyEngine,
+                         DailyUsageRecorder dailyUsageRecorder,
+                         PlatformTransactionManager transactionManager) {
         this.playerRepository = playerRepository;
         this.passwordEncoder = passwordEncoder;
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.eventPublisher = eventPublisher;
+        this.usageTable = usageTable;
+        this.calendar = calendar;
+        this.windowLimitRepository = windowLimitRepository;
+        this.limitPolicyEngine = limitPolicyEngine;
+        this.dailyUsageRecorder = dailyUsageRecorder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
+    /**
+     * The password is hashed before the transaction starts, so no pooled connection sits idle
+     * while BCrypt runs. A duplicate email is only detected afterwards and wastes one hash.
+     */
     public Player registerPlayer(PlayerRegistrationDto registrationDto) {
-        if (playerRepository.existsByEmail(registrationDto.getEmail())) {
+        String encodedPassword = passwordEncoder.encode(registrationDto.getPassword());
+
+        Player saved;
+        try {
+            saved = transactionTemplate.execute(status -> insertPlayer(registrationDto, encodedPassword));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent registration, or one the email filter has not seen, won the unique email.
+            Boolean exists = transactionTemplate.execute(status -> playerRepository.existsByEmail(registrationDto.getEmail()));
+            if (Boolean.TRUE.equals(exists)) {
+                throw new PlayerAlreadyExistsException("Player with email " + registrationDto.getEmail() + " already exists");
+            }
+            throw e;
+        }
+        registeredEmailFilter.add(saved.getEmail());
+        return saved;
+    }
+
+    private Player insertPlayer(PlayerRegistrationDto registrationDto, String encodedPassword) {
+        if (registeredEmailFilter.mightContain(registrationDto.getEmail())
+                && playerRepository.existsByEmail(registrationDto.getEmail())) {
             throw new PlayerAlreadyExistsException("Player with email " + registrationDto.getEmail() + " already exists");
         }
 
         Player player = new Player();
         player.setEmail(registrationDto.getEmail());
-        player.setPassword(passwordEncoder.encode(registrationDto.getPassword()));
+        player.setPassword(encodedPassword);
         player.setName(registrationDto.getName());
         player.setSurname(registrationDto.getSurname());
         player.setDateOfBirth(registrationDto.getDateOfBirth());
         player.setAddress(registrationDto.getAddress());
         player.setActive(true);
-        player.setLastDailyReset(LocalDateTime.now());
+        player.setTimeZone(registrationDto.getTimeZone());
+        player.setLastDailyReset(calendar.now());
+        return save(player);
+    }
 
-        return playerRepository.save(player);
+    /**
+     * A fresh hash of a just-verified password when the stored one is unprefixed or below the
+     * current cost, otherwise null. Call it outside any transaction and store the result with
+     * {@link #updatePassword}, so stored hashes converge on the calibrated cost as players log in.
+     */
+    public String rehashIfOutdated(Player player, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(player.getPassword())) {
+            return null;
+        }
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    /**
+     * Logins and logouts take this first, so those for the same player run one at a time across
+     * all nodes and each sees the open sessions the others left behind.
+     */
+    @Transactional
+    public void lockForSessionChange(Long playerId) {
+        playerRepository.lockId(playerId);
     }
 
     @Transactional
+    public void updatePassword(Player player, String encodedPassword) {
+        player.setPassword(encodedPassword);
+        save(player);
+    }
+
+    @Transactional(readOnly = true)
     public Player getPlayerById(Long id) {
+        readYourWritesGuard.pinIfRecentlyWritten(id);
         return playerRepository.findById(id)
                 .orElseThrow(() -> new PlayerNotFoundException("Player not found with id: " + id));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Player getPlayerByEmail(String email) {
+        if (!registeredEmailFilter.mightContain(email)) {
+            throw new PlayerNotFoundException("Player not found with email: " + email);
+        }
+        readYourWritesGuard.pinIfRecentlyWritten(email);
         return playerRepository.findByEmail(email)
-                .orElseThrow(() -> new PlayerNotFoundException("Player not found with email: " + email));
+                .orElseThrow(() -> {
+                    registeredEmailFilter.recordFalsePositive();
+                    return new PlayerNotFoundException("Player not found with email: " + email);
+                });
     }
 
     @Transactional
@@ -64,45 +173,133 @@ public class PlayerService {
         Player player = getPlayerById(timeLimitDto.getPlayerId());
 
         if (!player.isActive()) {
-            throw new PlayerInactiveException("Cannot set time limit for inactive player");
+            throw PlayerInactiveException.INSTANCE;
         }
 
         player.setDailyTimeLimit(timeLimitDto.getDailyLimitMinutes());
-        return playerRepository.save(player);
+        Player saved = save(player);
+        if (timeLimitDto.getWindowLimits() != null) {
+            windowLimitRepository.deleteByPlayerId(saved.getId());
+            List<WindowLimit> windowLimits = windowLimitRepository.saveAll(timeLimitDto.getWindowLimits().stream()
+                    .map(limit -> new WindowLimit(saved.getId(), limit.getWindow(), limit.getDayOfWeek(), limit.getLimitMinutes()))
+                    .toList());
+            limitPolicyEngine.setPolicy(saved.getId(), windowLimits);
+        }
+        eventPublisher.publishEvent(new TimeLimitChangedEvent(saved.getId()));
+        return saved;
     }
 
     @Transactional
     public void updatePlayerSessionTime(Player player, long sessionTimeSeconds) {
-        if (player.getLastDailyReset() != null &&
-                !player.getLastDailyReset().toLocalDate().equals(LocalDate.now())) {
+        SessionTimeEvent event = new SessionTimeEvent();
+        event.begin();
+        boolean newDay = calendar.isNewDay(player);
+        if (newDay) {
             player.setTodaySessionTime(0L);
-            player.setLastDailyReset(LocalDateTime.now());
+            player.setLastDailyReset(calendar.now());
         }
 
         player.setTodaySessionTime(player.getTodaySessionTime() + sessionTimeSeconds);
-        playerRepository.save(player);
+        save(player);
+        dailyUsageRecorder.record(player.getId(), calendar.today(calendar.zoneOf(player)), sessionTimeSeconds);
+        event.end();
+        if (event.shouldCommit()) {
+            event.playerId = player.getId();
+            event.creditedSeconds = sessionTimeSeconds;
+            event.dailyReset = newDay;
+            event.commit();
+        }
     }
 
-    @Transactional
+    /**
+     * Read-only: usage left over from an earlier day counts as zero here, and the stored counter is
+     * reset by the next session-time write or by the daily rollover job. The usage table answers
+     * only while its slot is at least as new as {@code player}; a limit change or credit written
+     * elsewhere moves {@code updatedAt}, and the slot is reloaded from the entity once this
+     * transaction commits.
+     */
+    @Transactional(readOnly = true)
     public boolean hasExceededTimeLimit(Player player) {
-        if (player.getDailyTimeLimit() == null) {
-            return false;
+        ZoneId zone = calendar.zoneOf(player);
+        boolean dailyExceeded;
+        long usedToday;
+        if (player.getId() != null && usageTable.isCurrent(player.getId(), version(player))) {
+            long today = calendar.today(zone).toEpochDay();
+            dailyExceeded = usageTable.hasExceeded(player.getId(), today);
+            usedToday = usageTable.secondsUsed(player.getId(), today);
+        } else {
+            trackAfterCommit(player);
+            usedToday = calendar.secondsUsedToday(player);
+            dailyExceeded = player.getDailyTimeLimit() != null && usedToday >= player.getDailyTimeLimit() * 60;
         }
+        return dailyExceeded || limitPolicyEngine.isOverLimit(player, usedToday);
+    }
 
-        if (player.getLastDailyReset() != null &&
-                !player.getLastDailyReset().toLocalDate().equals(LocalDate.now())) {
-            player.setTodaySessionTime(0L);
-            player.setLastDailyReset(LocalDateTime.now());
-            playerRepository.save(player);
-            return false;
+    /**
+     * The player's limit state straight from the usage table while its slot is at least as new as
+     * {@code updatedAt}, so no entity is loaded. Otherwise the player is loaded, and the slot is
+     * reloaded from it once the transaction commits.
+     */
+    @Transactional(readOnly = true)
+    public LimitState limitState(Long playerId, ZoneId zone, LocalDateTime updatedAt) {
+        if (usageTable.isCurrent(playerId, calendar.toEpochMicros(updatedAt))) {
+            int limit = usageTable.dailyLimitMinutes(playerId);
+            long sessionStart = usageTable.sessionStartEpochSecond(playerId);
+            return new LimitState(limit == UsageTable.NO_LIMIT ? null : limit,
+                    usageTable.secondsUsed(playerId, calendar.today(zone).toEpochDay()),
+                    sessionStart == 0 ? null : calendar.toLocalDateTime(sessionStart));
         }
-
-        return player.getTodaySessionTime() >= player.getDailyTimeLimit() * 60;
+        Player player = getPlayerById(playerId);
+        trackAfterCommit(player);
+        return new LimitState(player.getDailyTimeLimit(), calendar.secondsUsedToday(player), player.getLastSessionStart());
     }
 
     @Transactional
     public void updateSessionStartTime(Player player) {
-        player.setLastSessionStart(LocalDateTime.now());
-        playerRepository.save(player);
+        player.setLastSessionStart(calendar.now());
+        save(player);
+    }
+
+    private Player save(Player player) {
+        Player saved = playerRepository.save(player);
+        readYourWritesGuard.recordWrite(saved.getId());
+        readYourWritesGuard.recordWrite(saved.getEmail());
+        trackAfterCommit(saved);
+        return saved;
+    }
+
+    /**
+     * Loads the slot once the transaction commits. By then {@code @PreUpdate} has moved
+     * {@code updatedAt} to the version actually written, and a write that rolls back never reaches
+     * the table.
+     */
+    private void trackAfterCommit(Player player) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            track(player);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                track(player);
+            }
+        });
+    }
+
+    private void track(Player player) {
+        if (player.getId() == null) {
+            return;
+        }
+        ZoneId zone = calendar.zoneOf(player);
+        LocalDate resetDay = player.getLastDailyReset() != null
+                ? calendar.dayOf(player.getLastDailyReset(), zone) : calendar.today(zone);
+        long sessionStart = player.getLastSessionStart() != null
+                ? calendar.toEpochSecond(player.getLastSessionStart()) : 0;
+        usageTable.load(player.getId(), player.getDailyTimeLimit(), resetDay.toEpochDay(),
+                player.getTodaySessionTime() != null ? player.getTodaySessionTime() : 0, sessionStart, version(player));
+    }
+
+    private long version(Player player) {
+        return calendar.toEpochMicros(player.getUpdatedAt());
     }
 }
\ No newline at end of file
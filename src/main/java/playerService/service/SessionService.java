@@ -1,20 +1,32 @@
 package playerService.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import playerService.dto.LoginRequestDto;
 import playerService.dto.SessionResponseDto;
+import playerService.event.SessionClosedEvent;
 import playerService.exception.InvalidCredentialsException;
 import playerService.exception.SessionNotFoundException;
 import playerService.exception.TimeLimitExceededException;
+import playerService.jfr.EnforcementSweepEvent;
+import playerService.jfr.LoginEvent;
+import playerService.jfr.LoginStageEvent;
+import playerService.jfr.LogoutEvent;
 import playerService.model.Player;
 import playerService.model.Session;
+import playerService.policy.LimitPolicyEngine;
 import playerService.repository.SessionRepository;
+import playerService.session.OpenSession;
+import playerService.session.SessionRegistry;
+import playerService.time.PlayerCalendar;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 @Service
@@ -23,78 +35,230 @@ public class SessionService {
     private final SessionRepository sessionRepository;
     private final PlayerService playerService;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HeartbeatService heartbeatService;
+    private final PlayerCalendar calendar;
+    private final LimitPolicyEngine limitPolicyEngine;
+    private final SessionRegistry sessionRegistry;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
-    public SessionService(SessionRepository sessionRepository, PlayerService playerService, PasswordEncoder passwordEncoder) {
+    public SessionService(SessionRepository sessionRepository,
+                          PlayerService playerService,
+                          PasswordEncoder passwordEncoder,
+                          ApplicationEventPublisher eventPublisher,
+                          HeartbeatService heartbeatService,
+                          PlayerCalendar calendar,
+                          LimitPolicyEngine limitPolicyEngine,
+                          SessionRegistry sessionRegistry,
+                          PlatformTransactionManager transactionManager) {
         this.sessionRepository = sessionRepository;
         this.playerService = playerService;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.heartbeatService = heartbeatService;
+        this.calendar = calendar;
+        this.limitPolicyEngine = limitPolicyEngine;
+        this.sessionRegistry = sessionRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
+    /**
+     * Not transactional as a whole: the player is read in one short transaction, the password is
+     * checked with no connection held, and the session is opened in a second transaction.
+     */
     public SessionResponseDto login(LoginRequestDto loginRequest) {
-        Player player = playerService.getPlayerByEmail(loginRequest.getEmail());
+        LoginEvent event = new LoginEvent();
+        event.begin();
+        try {
+            LoginStageEvent lookup = LoginStageEvent.start(LoginStageEvent.LOOKUP, event);
+            Player player = lookupPlayer(loginRequest.getEmail());
+            event.playerId = player.getId();
+            lookup.finish(player.getId());
+
+            LoginStageEvent verify = LoginStageEvent.start(LoginStageEvent.VERIFY, event);
+            String rehashedPassword = verifyPassword(player, loginRequest.getPassword());
+            verify.finish(player.getId());
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), player.getPassword())) {
-            throw new InvalidCredentialsException("Invalid email or password");
+            LoginStageEvent open = LoginStageEvent.start(LoginStageEvent.OPEN, event);
+            SessionResponseDto session = transactionTemplate.execute(status -> openSession(player, rehashedPassword));
+            open.finish(player.getId());
+            event.success = true;
+            return session;
+        } finally {
+            event.commit();
         }
+    }
 
-        if (playerService.hasExceededTimeLimit(player)) {
-            throw new TimeLimitExceededException("Daily time limit exceeded");
+    /**
+     * Reads the player to log in. The read joins a read-write transaction so it goes to the
+     * primary: a lagging replica could still hold a password that has since been changed.
+     */
+    public Player lookupPlayer(String email) {
+        return transactionTemplate.execute(status -> playerService.getPlayerByEmail(email));
+    }
+
+    /**
+     * Checks the password and returns a fresh hash when the stored one is outdated, otherwise
+     * null. Hashing is slow, so call this outside any transaction.
+     */
+    public String verifyPassword(Player player, String rawPassword) {
+        if (!passwordEncoder.matches(rawPassword, player.getPassword())) {
+            throw InvalidCredentialsException.INSTANCE;
+        }
+        return playerService.rehashIfOutdated(player, rawPassword);
+    }
+
+    /**
+     * {@code verified} was read before the password check and may be stale by now, so the player
+     * is loaded again and only the fresh copy is written. A rehash is dropped if the password was
+     * changed in the meantime.
+     */
+    @Transactional
+    public SessionResponseDto openSession(Player verified, String rehashedPassword) {
+        playerService.lockForSessionChange(verified.getId());
+        Player player = playerService.getPlayerById(verified.getId());
+        if (rehashedPassword != null && player.getPassword().equals(verified.getPassword())) {
+            playerService.updatePassword(player, rehashedPassword);
         }
+        return openSession(player);
+    }
 
-        List<Session> activeSessions = sessionRepository.findByPlayerAndLoggedOutAtIsNull(player);
-        for (Session activeSession : activeSessions) {
-            logout(activeSession.getId());
+    private SessionResponseDto openSession(Player player) {
+        if (playerService.hasExceededTimeLimit(player)) {
+            throw TimeLimitExceededException.INSTANCE;
         }
 
+        LocalDateTime now = calendar.now();
         Session session = new Session();
         session.setPlayer(player);
+        session.setCreatedAt(now);
         session = sessionRepository.save(session);
 
-        playerService.updateSessionStartTime(player);
+        SessionRegistry.Admission admission = sessionRegistry.admit(session, now,
+                () -> sessionRepository.findByPlayerAndLoggedOutAtIsNull(player));
+        Session lastClosed = null;
+        for (String closingId : admission.closing()) {
+            Session closing = sessionRepository.findByIdAndLoggedOutAtIsNull(closingId).orElse(null);
+            if (closing != null) {
+                LocalDateTime expiresAt = closing.getExpiresAt();
+                markClosed(closing, true, expiresAt != null && expiresAt.isBefore(now) ? expiresAt : now);
+                if (lastClosed == null || closing.getLoggedOutAt().isAfter(lastClosed.getLoggedOutAt())) {
+                    lastClosed = closing;
+                }
+            }
+        }
+        // An evicted session hands over to the new one without a gap, so the union carries on.
+        boolean continuous = admission.othersOpen() || (lastClosed != null && lastClosed.getLoggedOutAt().equals(now));
+        if (!continuous) {
+            if (lastClosed != null) {
+                credit(lastClosed);
+            }
+            playerService.updateSessionStartTime(player);
+        }
 
         return convertToDto(session);
     }
 
+    @Transactional(readOnly = true)
+    public Session getActiveSession(String sessionId) {
+        return sessionRepository.findByIdAndLoggedOutAtIsNull(sessionId)
+                .orElseThrow(() -> new SessionNotFoundException("Active session not found with id: " + sessionId));
+    }
+
     @Transactional
     public void logout(String sessionId) {
+        closeSession(sessionId, false, calendar.now());
+    }
+
+    @Transactional
+    public void closeIdleSession(String sessionId, LocalDateTime lastSeenAt) {
+        closeSession(sessionId, false, lastSeenAt);
+    }
+
+    private void closeSession(String sessionId, boolean forced, LocalDateTime endedAt) {
         Session session = sessionRepository.findByIdAndLoggedOutAtIsNull(sessionId)
                 .orElseThrow(() -> new SessionNotFoundException("Active session not found with id: " + sessionId));
+        closeSession(session, forced, endedAt);
+    }
+
+    /**
+     * Usage is the wall-clock union of a player's sessions: {@code lastSessionStart} marks the last
+     * credited point, and time since it is credited only when the last open session closes.
+     * Sessions closing while another stays open credit nothing, because the remaining session's
+     * span from the same point already covers their time. The open sessions are counted in the
+     * database under the player's lock, so sessions on other nodes are included.
+     */
+    private void closeSession(Session session, boolean forced, LocalDateTime endedAt) {
+        LogoutEvent event = new LogoutEvent();
+        event.begin();
+        playerService.lockForSessionChange(session.getPlayer().getId());
+        // Another node may have closed it while this one waited for the lock.
+        if (!sessionRepository.existsByIdAndLoggedOutAtIsNull(session.getId())) {
+            throw new SessionNotFoundException("Active session not found with id: " + session.getId());
+        }
+        markClosed(session, forced, endedAt);
+        int stillOpen = sessionRegistry.remove(session,
+                () -> sessionRepository.findByPlayerAndLoggedOutAtIsNull(session.getPlayer()));
+        if (stillOpen == 0) {
+            credit(session);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.playerId = session.getPlayer().getId();
+            event.sessionId = session.getId();
+            event.forced = forced;
+            event.sessionsLeft = stillOpen;
+            event.commit();
+        }
+    }
 
-        LocalDateTime now = LocalDateTime.now();
-        session.setLoggedOutAt(now);
+    private void markClosed(Session session, boolean forced, LocalDateTime endedAt) {
+        heartbeatService.forget(session.getId());
+        session.setLoggedOutAt(endedAt);
         sessionRepository.save(session);
+        eventPublisher.publishEvent(new SessionClosedEvent(session.getId(), session.getPlayer().getId(), forced));
+    }
 
-        Player player = session.getPlayer();
+    private void credit(Session closed) {
+        Player player = closed.getPlayer();
         LocalDateTime sessionStart = player.getLastSessionStart() != null ?
-                player.getLastSessionStart() : session.getCreatedAt();
-        long sessionDurationSeconds = Duration.between(sessionStart, now).getSeconds();
-        playerService.updatePlayerSessionTime(player, sessionDurationSeconds);
+                player.getLastSessionStart() : closed.getCreatedAt();
+        playerService.updatePlayerSessionTime(player, calendar.secondsToday(player, sessionStart, closed.getLoggedOutAt()));
     }
 
+    /**
+     * Open sessions are read as scalars and each player's limit and usage come from the usage
+     * table, so only players whose slot is missing or stale, and sessions being closed, are loaded
+     * as entities.
+     */
     @Transactional
     public void checkAndLogoutTimeLimitExceededPlayers() {
-        List<Session> activeSessions = sessionRepository.findAll().stream()
-                .filter(s -> s.getLoggedOutAt() == null)
-                .toList();
+        EnforcementSweepEvent event = new EnforcementSweepEvent();
+        event.begin();
+        List<OpenSession> openSessions = sessionRepository.findOpenSessions();
 
-        for (Session session : activeSessions) {
-            Player player = session.getPlayer();
+        for (OpenSession open : openSessions) {
+            ZoneId zone = calendar.zoneOf(open.timeZone());
+            PlayerService.LimitState state = playerService.limitState(open.playerId(), zone, open.playerUpdatedAt());
 
-            if (player.getDailyTimeLimit() == null) {
+            boolean hasPolicy = limitPolicyEngine.hasPolicy(open.playerId());
+            if (state.dailyLimitMinutes() == null && !hasPolicy) {
                 continue;
             }
 
-            LocalDateTime sessionStart = player.getLastSessionStart() != null ?
-                    player.getLastSessionStart() : session.getCreatedAt();
-            long currentSessionSeconds = Duration.between(sessionStart, LocalDateTime.now()).getSeconds();
-
-            long totalSessionTime = player.getTodaySessionTime() + currentSessionSeconds;
-            if (totalSessionTime >= player.getDailyTimeLimit() * 60) {
-                logout(session.getId());
+            LocalDateTime now = calendar.now();
+            LocalDateTime sessionStart = state.lastSessionStart() != null ?
+                    state.lastSessionStart() : open.createdAt();
+            long totalSessionTime = state.secondsUsedToday() + calendar.secondsToday(zone, sessionStart, now);
+            boolean dailyExceeded = state.dailyLimitMinutes() != null && totalSessionTime >= state.dailyLimitMinutes() * 60L;
+            if (dailyExceeded || (hasPolicy && limitPolicyEngine.isOverLimit(open.playerId(), zone, totalSessionTime))) {
+                closeSession(open.sessionId(), true, now);
+                event.sessionsClosed++;
             }
         }
+        event.sessionsChecked = openSessions.size();
+        event.commit();
     }
 
     private SessionResponseDto convertToDto(Session session) {
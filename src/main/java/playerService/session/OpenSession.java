@@ -0,0 +1,11 @@
+package playerService.session;
+
+import java.time.LocalDateTime;
+
+/**
+ * An open session with the player fields the enforcement sweep needs to find the player's usage
+ * table slot, read as scalars so neither entity is loaded.
+ */
+public record OpenSession(String sessionId, Long playerId, LocalDateTime createdAt, String timeZone,
+                          LocalDateTime playerUpdatedAt) {
+}
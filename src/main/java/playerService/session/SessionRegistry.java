@@ -0,0 +1,223 @@
+package playerService.session;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import playerService.exception.TooManySessionsException;
+import playerService.model.Session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Open sessions per player, oldest first, capped at {@code max-concurrent}. Every admission and
+ * removal starts from the player's open sessions as the database has them, read by the caller
+ * under the player's row lock, so sessions opened or closed on other nodes count towards the cap
+ * and towards whether a close ends the player's union. The set kept between calls only serves
+ * {@link #sessionIds} and the metrics; a transaction that rolls back drops it.
+ */
+@Component
+public class SessionRegistry implements MeterBinder {
+
+    public enum OnLimit {
+        EVICT_OLDEST,
+        REJECT
+    }
+
+    /**
+     * Ids of the sessions the caller must close for the new one to fit: expired ones, and the
+     * oldest one when the player was at the limit. {@code othersOpen} tells whether any earlier
+     * session stays open alongside the new one.
+     */
+    public record Admission(List<String> closing, boolean othersOpen) {
+    }
+
+    private final int maxSessions;
+    private final OnLimit onLimit;
+    private final Map<Long, OpenSessions> players = new ConcurrentHashMap<>();
+    private final AtomicInteger openSessions = new AtomicInteger();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    @Autowired
+    public SessionRegistry(@Value("${player-service.sessions.max-concurrent:1}") int maxSessions,
+                           @Value("${player-service.sessions.on-limit:evict-oldest}") OnLimit onLimit) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("max-concurrent must be at least 1");
+        }
+        this.maxSessions = maxSessions;
+        this.onLimit = onLimit;
+    }
+
+    /**
+     * Adds a just-saved {@code session} to the player's open sessions, which {@code loader}
+     * supplies from the database.
+     *
+     * @throws TooManySessionsException when the player is at the limit and the policy is
+     * {@link OnLimit#REJECT}
+     */
+    public Admission admit(Session session, LocalDateTime now, Supplier<List<Session>> loader) {
+        long playerId = session.getPlayer().getId();
+        OpenSessions open = new OpenSessions(loader.get(), session.getId());
+        Admission admission = admit(open, session, now);
+        hold(playerId, open);
+        return admission;
+    }
+
+    /**
+     * Removes a closed session and returns how many of the player's sessions remain open, going by
+     * the other open sessions {@code loader} supplies from the database.
+     */
+    public int remove(Session session, Supplier<List<Session>> loader) {
+        long playerId = session.getPlayer().getId();
+        OpenSessions open = new OpenSessions(loader.get(), session.getId());
+        if (open.sessions.isEmpty()) {
+            invalidate(playerId);
+            return 0;
+        }
+        hold(playerId, open);
+        return open.sessions.size();
+    }
+
+    public List<String> sessionIds(long playerId) {
+        OpenSessions open = players.get(playerId);
+        if (open == null) {
+            return List.of();
+        }
+        synchronized (open) {
+            List<String> ids = new ArrayList<>(open.sessions.size());
+            open.sessions.forEach(entry -> ids.add(entry.id()));
+            return ids;
+        }
+    }
+
+    /**
+     * Drops the player's set so the next login reloads it from the database.
+     */
+    public void invalidate(long playerId) {
+        OpenSessions open = players.get(playerId);
+        if (open == null) {
+            return;
+        }
+        synchronized (open) {
+            if (!open.retired) {
+                retire(playerId, open);
+            }
+        }
+    }
+
+    public int trackedPlayers() {
+        return players.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("player.sessions.open", openSessions, AtomicInteger::get)
+                .description("Open sessions held in the per-player session sets")
+                .register(registry);
+        Gauge.builder("player.sessions.players", players, Map::size)
+                .description("Players with a session set held in memory")
+                .register(registry);
+        FunctionCounter.builder("player.sessions.evicted", evictions, LongAdder::sum)
+                .description("Sessions closed to make room for a newer login")
+                .register(registry);
+        FunctionCounter.builder("player.sessions.rejected", rejections, LongAdder::sum)
+                .description("Logins rejected at the concurrent session limit")
+                .register(registry);
+    }
+
+    private Admission admit(OpenSessions open, Session session, LocalDateTime now) {
+        long live = open.sessions.stream().filter(entry -> entry.liveAt(now)).count();
+        if (live >= maxSessions && onLimit == OnLimit.REJECT) {
+            rejections.increment();
+            throw new TooManySessionsException("Player already has " + live + " open sessions");
+        }
+        List<String> closing = new ArrayList<>();
+        open.sessions.removeIf(entry -> {
+            if (entry.liveAt(now)) {
+                return false;
+            }
+            closing.add(entry.id());
+            return true;
+        });
+        while (open.sessions.size() >= maxSessions) {
+            closing.add(open.sessions.pollFirst().id());
+            evictions.increment();
+        }
+        boolean othersOpen = !open.sessions.isEmpty();
+        open.sessions.addLast(new Entry(session));
+        return new Admission(closing, othersOpen);
+    }
+
+    private void hold(long playerId, OpenSessions open) {
+        openSessions.addAndGet(open.sessions.size());
+        OpenSessions previous = players.put(playerId, open);
+        if (previous != null) {
+            synchronized (previous) {
+                if (!previous.retired) {
+                    previous.retired = true;
+                    openSessions.addAndGet(-previous.sessions.size());
+                }
+            }
+        }
+        onRollback(playerId);
+    }
+
+    private void retire(long playerId, OpenSessions open) {
+        open.retired = true;
+        openSessions.addAndGet(-open.sessions.size());
+        players.remove(playerId, open);
+    }
+
+    private void onRollback(long playerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    invalidate(playerId);
+                }
+            }
+        });
+    }
+
+    private record Entry(String id, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        private Entry(Session session) {
+            this(session.getId(), session.getCreatedAt(), session.getExpiresAt());
+        }
+
+        private boolean liveAt(LocalDateTime now) {
+            return expiresAt == null || expiresAt.isAfter(now);
+        }
+    }
+
+    private static final class OpenSessions {
+        private final ArrayDeque<Entry> sessions;
+        private boolean retired;
+
+        private OpenSessions(List<Session> loaded, String excludedId) {
+            this.sessions = new ArrayDeque<>(loaded.size() + 1);
+            loaded.stream()
+                    .filter(session -> !session.getId().equals(excludedId))
+                    .map(Entry::new)
+                    .sorted(Comparator.comparing(Entry::createdAt).thenComparing(Entry::id))
+                    .forEach(sessions::addLast);
+        }
+    }
+}
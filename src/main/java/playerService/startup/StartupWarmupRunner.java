@@ -0,0 +1,111 @@
+package playerService.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Drives a register/login/logout round trip through the HTTP stack once the server is up. Used as
+ * the training run for the AppCDS archive, and reports time from JVM start to the first successful
+ * login so startup changes can be measured.
+ */
+@Component
+public class StartupWarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmupRunner.class);
+
+    private final ApplicationContext applicationContext;
+    private final boolean enabled;
+    private final boolean exitAfterWarmup;
+    private final int iterations;
+
+    public StartupWarmupRunner(ApplicationContext applicationContext,
+                               @Value("${player-service.warmup.enabled:false}") boolean enabled,
+                               @Value("${player-service.warmup.exit:false}") boolean exitAfterWarmup,
+                               @Value("${player-service.warmup.iterations:3}") int iterations) {
+        this.applicationContext = applicationContext;
+        this.enabled = enabled;
+        this.exitAfterWarmup = exitAfterWarmup;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!enabled || !(applicationContext instanceof WebServerApplicationContext webContext)) {
+            return;
+        }
+
+        String baseUrl = "http://localhost:" + webContext.getWebServer().getPort();
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        String email = "warmup-" + UUID.randomUUID() + "@warmup.local";
+        String password = UUID.randomUUID().toString();
+
+        boolean succeeded = warmUp(client, baseUrl, email, password);
+
+        if (exitAfterWarmup) {
+            int exitCode = SpringApplication.exit(applicationContext);
+            System.exit(succeeded ? exitCode : 1);
+        }
+    }
+
+    /**
+     * Stops at the first request that does not succeed, so a broken round trip is reported rather
+     * than timed. A training run that exits after warming up then fails instead of archiving it.
+     */
+    boolean warmUp(HttpClient client, String baseUrl, String email, String password) throws Exception {
+        HttpResponse<String> register = post(client, baseUrl + "/api/players/register", """
+                {"email":"%s","password":"%s","name":"Warm","surname":"Up","dateOfBirth":"1990-01-01","address":"Warmup"}
+                """.formatted(email, password));
+        if (failed("register", register)) {
+            return false;
+        }
+
+        for (int i = 0; i < iterations; i++) {
+            HttpResponse<String> login = post(client, baseUrl + "/api/sessions/login", """
+                    {"email":"%s","password":"%s"}
+                    """.formatted(email, password));
+            if (failed("login", login)) {
+                return false;
+            }
+            if (i == 0) {
+                long sinceJvmStart = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+                log.info("First successful login {} ms after JVM start", sinceJvmStart);
+            }
+            String sessionId = login.body().replaceAll(".*\"sessionId\":\"([^\"]+)\".*", "$1");
+            if (failed("logout", post(client, baseUrl + "/api/sessions/logout/" + sessionId, ""))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean failed(String step, HttpResponse<String> response) {
+        if (response.statusCode() / 100 == 2) {
+            return false;
+        }
+        log.error("Warmup {} failed with status {}: {}", step, response.statusCode(), response.body());
+        return true;
+    }
+
+    private HttpResponse<String> post(HttpClient client, String url, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,124 @@
+package playerService.time;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import playerService.model.Player;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Decides which day a player is on. Persisted timestamps are wall-clock times in the zone of the
+ * injected {@link Clock}, while each player's day runs from midnight to midnight in their own time
+ * zone, or in the configured default zone when they have none.
+ */
+@Component
+public class PlayerCalendar {
+
+    private final Clock clock;
+    private final ZoneId defaultZone;
+
+    @Autowired
+    public PlayerCalendar(Clock clock, @Value("${player-service.time.default-zone:}") String defaultZone) {
+        this.clock = clock;
+        this.defaultZone = defaultZone.isBlank() ? clock.getZone() : ZoneId.of(defaultZone);
+    }
+
+    public LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    public long nowEpochSecond() {
+        return clock.instant().getEpochSecond();
+    }
+
+    public ZoneId zoneOf(Player player) {
+        return zoneOf(player.getTimeZone());
+    }
+
+    public ZoneId zoneOf(String timeZone) {
+        return timeZone == null ? defaultZone : ZoneId.of(timeZone);
+    }
+
+    public LocalDate today(ZoneId zone) {
+        return LocalDate.now(clock.withZone(zone));
+    }
+
+    /**
+     * The player-local date of a persisted timestamp.
+     */
+    public LocalDate dayOf(LocalDateTime time, ZoneId zone) {
+        return time.atZone(clock.getZone()).withZoneSameInstant(zone).toLocalDate();
+    }
+
+    /**
+     * The persisted-timestamp form of the most recent midnight in {@code zone}.
+     */
+    public LocalDateTime startOfToday(ZoneId zone) {
+        return today(zone).atStartOfDay(zone).withZoneSameInstant(clock.getZone()).toLocalDateTime();
+    }
+
+    /**
+     * Seconds from now until the next midnight in {@code zone}, when the player's usage resets.
+     */
+    public long secondsUntilTomorrow(ZoneId zone) {
+        Instant midnight = today(zone).plusDays(1).atStartOfDay(zone).toInstant();
+        return Math.max(0, Duration.between(clock.instant(), midnight).getSeconds());
+    }
+
+    /**
+     * Whether the player's stored usage belongs to an earlier day and should be read as zero.
+     */
+    public boolean isNewDay(Player player) {
+        if (player.getLastDailyReset() == null) {
+            return false;
+        }
+        ZoneId zone = zoneOf(player);
+        return dayOf(player.getLastDailyReset(), zone).isBefore(today(zone));
+    }
+
+    public long secondsUsedToday(Player player) {
+        if (isNewDay(player) || player.getTodaySessionTime() == null) {
+            return 0;
+        }
+        return player.getTodaySessionTime();
+    }
+
+    /**
+     * Seconds between {@code from} and {@code to} that fall on the player's current day, so a
+     * session crossing midnight only counts towards the new day from midnight on.
+     */
+    public long secondsToday(Player player, LocalDateTime from, LocalDateTime to) {
+        return secondsToday(zoneOf(player), from, to);
+    }
+
+    public long secondsToday(ZoneId zone, LocalDateTime from, LocalDateTime to) {
+        if (from == null) {
+            return 0;
+        }
+        LocalDateTime midnight = startOfToday(zone);
+        LocalDateTime start = from.isBefore(midnight) ? midnight : from;
+        return Math.max(0, Duration.between(start, to).getSeconds());
+    }
+
+    public long toEpochSecond(LocalDateTime time) {
+        return time.atZone(clock.getZone()).toEpochSecond();
+    }
+
+    /**
+     * A persisted timestamp as microseconds since the epoch, the precision {@code updatedAt} is
+     * stored with; used as the usage table's slot version.
+     */
+    public long toEpochMicros(LocalDateTime time) {
+        return time == null ? 0 : toEpochSecond(time) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    public LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), clock.getZone());
+    }
+}
@@ -0,0 +1,233 @@
+package playerService.usage;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Compact, lock-free copy of each player's limit-tracking state, indexed directly by player id.
+ * Every player occupies four longs (32 bytes) in a page of primitive arrays, so tracking a
+ * million players costs about 32 MB with no per-player objects for the collector to trace. Pages
+ * are allocated on first use, so sparse id ranges cost nothing.
+ * <p>
+ * Slot layout:
+ * <ul>
+ *     <li>usage word: epoch day in the high 32 bits, seconds used that day in the low 32 bits.
+ *     Day rollover and accumulation are a single CAS.</li>
+ *     <li>limit word: {@link #PRESENT} flag plus the daily limit in minutes, or {@link #NO_LIMIT}.</li>
+ *     <li>session start word: epoch second the current session started, or 0.</li>
+ *     <li>version word: the {@code updatedAt} of the entity the slot was loaded from, so a copy
+ *     written by another node or a bulk update is recognised as newer.</li>
+ * </ul>
+ * The database stays the source of truth; the table is refreshed after every committed write, and
+ * callers reload a slot whose version is older than the row they read. Callers that know only a
+ * player's id and {@code updatedAt}, such as the enforcement sweep, read limit and usage from here
+ * without loading the entity.
+ */
+@Component
+public class UsageTable implements MeterBinder {
+
+    public static final int NO_LIMIT = -1;
+
+    static final int PAGE_SHIFT = 12;
+    static final int PAGE_SLOTS = 1 << PAGE_SHIFT;
+    static final int SLOT_WIDTH = 4;
+    private static final int USAGE = 0;
+    private static final int LIMIT = 1;
+    private static final int SESSION_START = 2;
+    private static final int VERSION = 3;
+    private static final long PRESENT = 1L << 32;
+    private static final long CREDITING = Long.MIN_VALUE;
+    private static final long LOW_32 = 0xFFFFFFFFL;
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final AtomicReferenceArray<long[]> pages;
+    private final AtomicInteger allocatedPages = new AtomicInteger();
+
+    @Autowired
+    public UsageTable(@Value("${player-service.usage-table.max-player-id:16777216}") long maxPlayerId) {
+        this.pages = new AtomicReferenceArray<>((int) ((maxPlayerId + PAGE_SLOTS - 1) >>> PAGE_SHIFT));
+    }
+
+    public boolean isTracked(long playerId) {
+        long[] page = pageIfPresent(playerId);
+        return page != null && ((long) SLOTS.getVolatile(page, offset(playerId, LIMIT)) & PRESENT) != 0;
+    }
+
+    /**
+     * Whether the slot is loaded and at least as new as {@code version}.
+     */
+    public boolean isCurrent(long playerId, long version) {
+        long[] page = pageIfPresent(playerId);
+        return isTracked(playerId) && (long) SLOTS.getVolatile(page, offset(playerId, VERSION)) >= version;
+    }
+
+    /**
+     * Overwrites the slot with the persisted state. Ids beyond the configured capacity are ignored,
+     * and callers fall back to the entity for them.
+     */
+    public void load(long playerId, Integer dailyLimitMinutes, long epochDay, long secondsUsed, long sessionStartEpochSecond,
+                     long version) {
+        long[] page = page(playerId);
+        if (page == null) {
+            return;
+        }
+        SLOTS.setVolatile(page, offset(playerId, USAGE), usage(epochDay, secondsUsed));
+        SLOTS.setVolatile(page, offset(playerId, SESSION_START), sessionStartEpochSecond);
+        SLOTS.setVolatile(page, offset(playerId, VERSION), version);
+        SLOTS.setVolatile(page, offset(playerId, LIMIT), limit(dailyLimitMinutes));
+    }
+
+    /**
+     * Marks the slot stale so the next check reloads it from the entity. Used after writes that
+     * bypass the entity, such as bulk updates.
+     */
+    public void evict(long playerId) {
+        long[] page = pageIfPresent(playerId);
+        if (page != null) {
+            SLOTS.setVolatile(page, offset(playerId, LIMIT), 0L);
+        }
+    }
+
+    /**
+     * Adds usage for {@code epochDay}, starting the day from zero if the slot still holds an
+     * earlier day. Returns the seconds used on that day after the addition.
+     */
+    public long addSeconds(long playerId, long seconds, long epochDay) {
+        long[] page = pageIfPresent(playerId);
+        if (page == null) {
+            return 0;
+        }
+        int index = offset(playerId, USAGE);
+        long current;
+        long updated;
+        do {
+            current = (long) SLOTS.getVolatile(page, index);
+            long used = (current >>> 32) == epochDay ? current & LOW_32 : 0;
+            updated = usage(epochDay, used + seconds);
+        } while (!SLOTS.compareAndSet(page, index, current, updated));
+        return updated & LOW_32;
+    }
+
+    /**
+     * Applies a credit that was also written to the database and moves the slot from
+     * {@code expectedVersion} to {@code version}, the row's version before and after that write.
+     * A slot holding any other version is left as it is: either it is stale and will be reloaded,
+     * or it was reloaded after the write and already includes the credit. If a reload races with
+     * the credit, the slot is evicted rather than risk counting the credit twice.
+     */
+    public void credit(long playerId, long seconds, long epochDay, long sessionStartEpochSecond,
+                       long expectedVersion, long version) {
+        long[] page = pageIfPresent(playerId);
+        if (page == null) {
+            return;
+        }
+        int versionIndex = offset(playerId, VERSION);
+        if (!SLOTS.compareAndSet(page, versionIndex, expectedVersion, CREDITING)) {
+            return;
+        }
+        addSeconds(playerId, seconds, epochDay);
+        SLOTS.setVolatile(page, offset(playerId, SESSION_START), sessionStartEpochSecond);
+        if (!SLOTS.compareAndSet(page, versionIndex, CREDITING, version)) {
+            evict(playerId);
+        }
+    }
+
+    public void setSessionStart(long playerId, long sessionStartEpochSecond) {
+        long[] page = pageIfPresent(playerId);
+        if (page != null) {
+            SLOTS.setVolatile(page, offset(playerId, SESSION_START), sessionStartEpochSecond);
+        }
+    }
+
+    public int dailyLimitMinutes(long playerId) {
+        long[] page = pageIfPresent(playerId);
+        if (page == null) {
+            return NO_LIMIT;
+        }
+        long limit = (long) SLOTS.getVolatile(page, offset(playerId, LIMIT));
+        return (limit & PRESENT) == 0 ? NO_LIMIT : (int) limit;
+    }
+
+    public long secondsUsed(long playerId, long epochDay) {
+        long[] page = pageIfPresent(playerId);
+        if (page == null) {
+            return 0;
+        }
+        long usage = (long) SLOTS.getVolatile(page, offset(playerId, USAGE));
+        return (usage >>> 32) == epochDay ? usage & LOW_32 : 0;
+    }
+
+    public long sessionStartEpochSecond(long playerId) {
+        long[] page = pageIfPresent(playerId);
+        return page == null ? 0 : (long) SLOTS.getVolatile(page, offset(playerId, SESSION_START));
+    }
+
+    public boolean hasExceeded(long playerId, long epochDay) {
+        int limit = dailyLimitMinutes(playerId);
+        return limit != NO_LIMIT && secondsUsed(playerId, epochDay) >= limit * 60L;
+    }
+
+    public long footprintBytes() {
+        return (long) allocatedPages.get() * PAGE_SLOTS * SLOT_WIDTH * Long.BYTES
+                + (long) pages.length() * Integer.BYTES;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("player.usage_table.pages", allocatedPages, AtomicInteger::get)
+                .description("Pages of player slots allocated in the usage table")
+                .register(registry);
+        Gauge.builder("player.usage_table.bytes", this, UsageTable::footprintBytes)
+                .description("Approximate heap held by the usage table")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private long[] pageIfPresent(long playerId) {
+        long pageIndex = playerId >>> PAGE_SHIFT;
+        if (playerId < 0 || pageIndex >= pages.length()) {
+            return null;
+        }
+        return pages.get((int) pageIndex);
+    }
+
+    private long[] page(long playerId) {
+        long pageIndex = playerId >>> PAGE_SHIFT;
+        if (playerId < 0 || pageIndex >= pages.length()) {
+            return null;
+        }
+        long[] page = pages.get((int) pageIndex);
+        if (page == null) {
+            long[] allocated = new long[PAGE_SLOTS * SLOT_WIDTH];
+            if (pages.compareAndSet((int) pageIndex, null, allocated)) {
+                allocatedPages.incrementAndGet();
+                page = allocated;
+            } else {
+                page = pages.get((int) pageIndex);
+            }
+        }
+        return page;
+    }
+
+    private static int offset(long playerId, int field) {
+        return (int) (playerId & (PAGE_SLOTS - 1)) * SLOT_WIDTH + field;
+    }
+
+    private static long usage(long epochDay, long secondsUsed) {
+        return (epochDay << 32) | Math.min(secondsUsed, LOW_32);
+    }
+
+    private static long limit(Integer dailyLimitMinutes) {
+        int minutes = dailyLimitMinutes == null ? NO_LIMIT : dailyLimitMinutes;
+        return PRESENT | (minutes & LOW_32);
+    }
+}
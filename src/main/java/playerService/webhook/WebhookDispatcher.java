@@ -0,0 +1,330 @@
+package playerService.webhook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import playerService.event.SessionClosedEvent;
+import playerService.event.TimeLimitChangedEvent;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Posts forced logouts and limit changes to the configured webhook endpoints. Each endpoint has
+ * its own delivery thread and two bounded queues, one for forced logouts and one for limit
+ * changes, so a bulk limit job that fills the second can never crowd out the first. Events are
+ * handed over after the transaction that produced them commits, with a non-blocking offer, so a
+ * slow or failing endpoint never holds up logout or enforcement. When a queue is full, new events
+ * for it are dropped and counted.
+ * <p>
+ * The delivery thread takes the first waiting event, gathers more for up to {@code linger} or
+ * until {@code batch-size} is reached, and posts them as one JSON batch. Forced logouts are always
+ * taken before limit changes. Connection errors, 429
+ * and 5xx responses are retried with exponential back-off. A batch that still fails after
+ * {@code max-attempts}, or gets any other 4xx, is appended to the dead-letter file as one JSON line
+ * per event. So is anything still queued at shutdown.
+ */
+@Component
+public class WebhookDispatcher implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDispatcher.class);
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final int batchSize;
+    private final Duration linger;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration requestTimeout;
+    private final Path deadLetterFile;
+    private final HttpClient httpClient;
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private volatile Timer postTimer;
+    private volatile boolean running = true;
+
+    @Autowired
+    public WebhookDispatcher(ObjectMapper objectMapper,
+                             Clock clock,
+                             @Value("${player-service.webhooks.endpoints:}") List<String> urls,
+                             @Value("${player-service.webhooks.queue-capacity:10000}") int queueCapacity,
+                             @Value("${player-service.webhooks.batch-size:100}") int batchSize,
+                             @Value("${player-service.webhooks.linger:PT0.2S}") Duration linger,
+                             @Value("${player-service.webhooks.max-attempts:6}") int maxAttempts,
+                             @Value("${player-service.webhooks.initial-backoff:PT1S}") Duration initialBackoff,
+                             @Value("${player-service.webhooks.max-backoff:PT1M}") Duration maxBackoff,
+                             @Value("${player-service.webhooks.request-timeout:PT5S}") Duration requestTimeout,
+                             @Value("${player-service.webhooks.dead-letter-file:./data/webhook-dead-letters.ndjson}") Path deadLetterFile) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.requestTimeout = requestTimeout;
+        this.deadLetterFile = deadLetterFile;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(requestTimeout).build();
+        for (String url : urls) {
+            if (!url.isBlank()) {
+                Endpoint endpoint = new Endpoint(URI.create(url.trim()), queueCapacity);
+                endpoints.add(endpoint);
+                endpoint.thread.start();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionClosed(SessionClosedEvent event) {
+        if (event.forced()) {
+            publish(WebhookEvent.FORCED_LOGOUT, event.playerId(), event.sessionId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimeLimitChanged(TimeLimitChangedEvent event) {
+        publish(WebhookEvent.LIMIT_CHANGED, event.playerId(), null);
+    }
+
+    /**
+     * Queues an event for every endpoint without waiting for room.
+     */
+    public void publish(String type, Long playerId, String sessionId) {
+        if (endpoints.isEmpty()) {
+            return;
+        }
+        WebhookEvent event = new WebhookEvent(UUID.randomUUID().toString(), type, playerId, sessionId, clock.instant());
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.offer(event)) {
+                dropped.increment();
+                log.warn("Webhook queue for {} is full, dropped {} for player {}", endpoint.uri, type, playerId);
+            }
+        }
+    }
+
+    public int queued() {
+        return endpoints.stream().mapToInt(Endpoint::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Endpoint endpoint : endpoints) {
+            endpoint.thread.interrupt();
+        }
+        for (Endpoint endpoint : endpoints) {
+            endpoint.thread.join(requestTimeout.toMillis());
+            List<WebhookEvent> remaining = new ArrayList<>();
+            endpoint.urgent.drainTo(remaining);
+            endpoint.routine.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                deadLetter(endpoint, remaining, 0, "undelivered at shutdown");
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("player.webhooks.queued", this, WebhookDispatcher::queued)
+                .description("Events waiting for delivery across all endpoints")
+                .register(registry);
+        FunctionCounter.builder("player.webhooks.events", delivered, LongAdder::sum)
+                .tag("outcome", "delivered")
+                .description("Webhook events by delivery outcome")
+                .register(registry);
+        FunctionCounter.builder("player.webhooks.events", dropped, LongAdder::sum)
+                .tag("outcome", "dropped")
+                .description("Webhook events by delivery outcome")
+                .register(registry);
+        FunctionCounter.builder("player.webhooks.events", deadLettered, LongAdder::sum)
+                .tag("outcome", "dead-lettered")
+                .description("Webhook events by delivery outcome")
+                .register(registry);
+        FunctionCounter.builder("player.webhooks.retries", retries, LongAdder::sum)
+                .description("Batch posts retried after a failure")
+                .register(registry);
+        postTimer = Timer.builder("player.webhooks.post")
+                .description("Time to post one batch, including failed attempts")
+                .register(registry);
+    }
+
+    private void deliverLoop(Endpoint endpoint) {
+        List<WebhookEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                WebhookEvent first = endpoint.poll(TimeUnit.SECONDS.toNanos(1));
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + linger.toNanos();
+                while (batch.size() < batchSize) {
+                    WebhookEvent next = endpoint.poll(deadline - System.nanoTime());
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                deliver(endpoint, batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                if (!running && !batch.isEmpty()) {
+                    deadLetter(endpoint, batch, 0, "undelivered at shutdown");
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(Endpoint endpoint, List<WebhookEvent> batch) throws InterruptedException {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(Map.of("events", batch));
+        } catch (IOException ex) {
+            deadLetter(endpoint, batch, 0, ex.toString());
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(endpoint.uri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        String failure = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (attempt > 1) {
+                retries.increment();
+                Thread.sleep(backoff(attempt - 1).toMillis());
+            }
+            long started = System.nanoTime();
+            try {
+                int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status >= 200 && status < 300) {
+                    delivered.add(batch.size());
+                    return;
+                }
+                failure = "HTTP " + status;
+                if (status < 500 && status != 429) {
+                    break;
+                }
+            } catch (IOException ex) {
+                failure = ex.toString();
+            } finally {
+                Timer timer = postTimer;
+                if (timer != null) {
+                    timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            }
+            log.debug("Webhook post to {} failed on attempt {}: {}", endpoint.uri, attempt, failure);
+        }
+        log.warn("Giving up on {} webhook events for {}: {}", batch.size(), endpoint.uri, failure);
+        deadLetter(endpoint, batch, maxAttempts, failure);
+    }
+
+    /**
+     * {@code initial-backoff} doubled per retry, capped at {@code max-backoff}.
+     */
+    Duration backoff(int retry) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(retry - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private synchronized void deadLetter(Endpoint endpoint, List<WebhookEvent> events, int attempts, String error) {
+        try {
+            Path parent = deadLetterFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(deadLetterFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (WebhookEvent event : events) {
+                    writer.write(objectMapper.writeValueAsString(
+                            new DeadLetter(endpoint.uri.toString(), attempts, error, event)));
+                    writer.write('\n');
+                }
+            }
+            deadLettered.add(events.size());
+        } catch (IOException ex) {
+            dropped.add(events.size());
+            log.error("Could not write {} webhook events to {}", events.size(), deadLetterFile, ex);
+        }
+    }
+
+    private record DeadLetter(String endpoint, int attempts, String error, WebhookEvent event) {
+    }
+
+    private final class Endpoint {
+        private final URI uri;
+        private final BlockingQueue<WebhookEvent> urgent;
+        private final BlockingQueue<WebhookEvent> routine;
+        // One permit per queued event in either queue, so the delivery thread can wait on both.
+        private final Semaphore waiting = new Semaphore(0);
+        private final Thread thread;
+
+        private Endpoint(URI uri, int queueCapacity) {
+            this.uri = uri;
+            this.urgent = new ArrayBlockingQueue<>(queueCapacity);
+            this.routine = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(() -> deliverLoop(this), "webhook-" + uri.getHost());
+            this.thread.setDaemon(true);
+        }
+
+        private boolean offer(WebhookEvent event) {
+            BlockingQueue<WebhookEvent> queue = WebhookEvent.FORCED_LOGOUT.equals(event.type()) ? urgent : routine;
+            if (!queue.offer(event)) {
+                return false;
+            }
+            waiting.release();
+            return true;
+        }
+
+        /**
+         * The oldest forced logout, else the oldest limit change, waiting up to {@code nanos}.
+         */
+        private WebhookEvent poll(long nanos) throws InterruptedException {
+            if (!waiting.tryAcquire(Math.max(nanos, 0), TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+            WebhookEvent event = urgent.poll();
+            return event != null ? event : routine.poll();
+        }
+
+        private int size() {
+            return urgent.size() + routine.size();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package playerService.webhook;
+
+import java.time.Instant;
+
+/**
+ * One notification in a webhook batch. Delivery is at least once, so receivers should ignore
+ * events whose {@code id} they have already seen.
+ */
+public record WebhookEvent(String id, String type, Long playerId, String sessionId, Instant occurredAt) {
+
+    public static final String FORCED_LOGOUT = "session.forced-logout";
+    public static final String LIMIT_CHANGED = "limit.changed";
+}
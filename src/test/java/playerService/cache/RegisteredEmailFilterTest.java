@@ -0,0 +1,116 @@
+package playerService.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import playerService.repository.PlayerRepository;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RegisteredEmailFilterTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void initialize_LoadsRegisteredEmails() {
+        when(playerRepository.count()).thenReturn(2L);
+        when(playerRepository.streamAllEmails()).thenReturn(Stream.of("a@example.com", "b@example.com"));
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(playerRepository, transactionManager, true, 0.01, 1000);
+
+        filter.initialize();
+
+        assertTrue(filter.mightContain("a@example.com"));
+        assertTrue(filter.mightContain("b@example.com"));
+        assertFalse(filter.mightContain("c@example.com"));
+    }
+
+    @Test
+    void add_MakesEmailVisible() {
+        when(playerRepository.count()).thenReturn(0L);
+        when(playerRepository.streamAllEmails()).thenReturn(Stream.empty());
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(playerRepository, transactionManager, true, 0.01, 1000);
+        filter.initialize();
+
+        filter.add("new@example.com");
+
+        assertTrue(filter.mightContain("new@example.com"));
+    }
+
+    @Test
+    void add_DuringRebuildSurvivesTheSwap() {
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(playerRepository, transactionManager, true, 0.01, 1000);
+        when(playerRepository.count()).thenReturn(0L);
+        when(playerRepository.streamAllEmails())
+                .thenReturn(Stream.empty())
+                .thenAnswer(invocation -> Stream.of("a@example.com").peek(email -> filter.add("late@example.com")));
+        filter.initialize();
+
+        filter.rebuild();
+
+        assertTrue(filter.mightContain("a@example.com"));
+        assertTrue(filter.mightContain("late@example.com"));
+    }
+
+    @Test
+    void add_OverCapacityLeavesRebuildToTheScheduler() {
+        when(playerRepository.count()).thenReturn(0L);
+        when(playerRepository.streamAllEmails()).thenReturn(Stream.empty());
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(playerRepository, transactionManager, true, 0.01, 10);
+        filter.initialize();
+
+        for (int i = 0; i <= 10; i++) {
+            filter.add("player" + i + "@example.com");
+        }
+
+        verify(playerRepository, times(1)).streamAllEmails();
+
+        when(playerRepository.count()).thenReturn(11L);
+        when(playerRepository.streamAllEmails())
+                .thenReturn(IntStream.rangeClosed(0, 10).mapToObj(i -> "player" + i + "@example.com"));
+        filter.rebuildIfFull();
+        filter.rebuildIfFull();
+
+        verify(playerRepository, times(2)).streamAllEmails();
+        assertTrue(filter.mightContain("player10@example.com"));
+    }
+
+    @Test
+    void disabled_PassesEverythingThrough() {
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(playerRepository, transactionManager, false, 0.01, 1000);
+
+        filter.initialize();
+
+        assertTrue(filter.mightContain("anything@example.com"));
+    }
+
+    @Test
+    void falsePositiveRate_StaysNearTarget() {
+        when(playerRepository.count()).thenReturn(50_000L);
+        when(playerRepository.streamAllEmails())
+                .thenReturn(IntStream.range(0, 50_000).mapToObj(i -> "player" + i + "@example.com"));
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(playerRepository, transactionManager, true, 0.01, 50_000);
+        filter.initialize();
+
+        for (int i = 0; i < 50_000; i++) {
+            if (filter.mightContain("stranger" + i + "@example.com")) {
+                filter.recordFalsePositive();
+            }
+        }
+
+        assertTrue(filter.observedFalsePositiveRate() < 0.02, "observed " + filter.observedFalsePositiveRate());
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02, "expected " + filter.expectedFalsePositiveRate());
+    }
+}
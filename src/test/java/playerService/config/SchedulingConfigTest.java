@@ -0,0 +1,35 @@
+package playerService.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "player-service.scheduling.enabled=true",
+        "player-service.scheduling.pool-size=1"
+})
+@DirtiesContext
+public class SchedulingConfigTest {
+
+    @Autowired
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    private List<ScheduledTaskHolder> taskHolders;
+
+    @Test
+    void everyScheduledJobGetsItsOwnThread() {
+        int jobs = taskHolders.stream().mapToInt(holder -> holder.getScheduledTasks().size()).sum();
+
+        assertTrue(jobs > 1, "jobs " + jobs);
+        assertEquals(jobs, taskScheduler.getPoolSize());
+    }
+}
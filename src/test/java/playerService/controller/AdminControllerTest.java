@@ -0,0 +1,89 @@
+package playerService.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import playerService.config.SecurityConfig;
+import playerService.dto.KeysetPageDto;
+import playerService.dto.PlayerSummaryDto;
+import playerService.exception.InvalidCursorException;
+import playerService.service.AdminService;
+import playerService.service.ExportService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AdminController.class, properties = "player-service.admin.password=" + AdminControllerTest.PASSWORD)
+@Import(SecurityConfig.class)
+public class AdminControllerTest {
+
+    static final String PASSWORD = "admin-secret";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AdminService adminService;
+
+    @MockBean
+    private ExportService exportService;
+
+    @Test
+    void listPlayers_BindsFiltersAndReturnsCursor() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        PlayerSummaryDto player = new PlayerSummaryDto(1L, "a@test.com", "A", "B", true, 60, from);
+        when(adminService.listPlayers(eq(true), isNull(), eq(from), isNull(), isNull(), eq(25)))
+                .thenReturn(new KeysetPageDto<>(List.of(player), "next"));
+
+        mockMvc.perform(get("/api/admin/players")
+                        .param("active", "true")
+                        .param("registeredFrom", "2024-01-01T00:00:00")
+                        .param("size", "25")
+                        .header(HttpHeaders.AUTHORIZATION, basic("admin", PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].email").value("a@test.com"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void listSessions_InvalidCursor() throws Exception {
+        when(adminService.listSessions(eq(1L), any(), anyInt())).thenThrow(InvalidCursorException.INSTANCE);
+
+        mockMvc.perform(get("/api/admin/players/{playerId}/sessions", 1L).param("cursor", "bogus")
+                        .header(HttpHeaders.AUTHORIZATION, basic("admin", PASSWORD)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    void adminEndpoints_RejectAnonymousAndWrongCredentials() throws Exception {
+        mockMvc.perform(get("/api/admin/players"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/admin/players/{playerId}/sessions", 1L))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/admin/players").header(HttpHeaders.AUTHORIZATION, basic("admin", "wrong")))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(adminService);
+    }
+
+    static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -7,34 +7,53 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import playerService.config.SecurityConfig;
+import playerService.dto.BulkTimeLimitDto;
+import playerService.dto.BulkTimeLimitStatusDto;
 import playerService.dto.PlayerRegistrationDto;
 import playerService.dto.TimeLimitDto;
+import playerService.dto.WindowLimitDto;
 import playerService.exception.PlayerAlreadyExistsException;
 import playerService.exception.PlayerInactiveException;
+import playerService.idempotency.IdempotencyCache;
+import playerService.model.LimitWindow;
 import playerService.model.Player;
+import playerService.service.BulkTimeLimitService;
 import playerService.service.PlayerService;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@WebMvcTest(PlayerController.class)
-@Import(SecurityConfig.class)
+@WebMvcTest(controllers = PlayerController.class, properties = "player-service.admin.password=" + PlayerControllerTest.PASSWORD)
+@Import({SecurityConfig.class, IdempotencyCache.class})
 public class PlayerControllerTest {
 
+    static final String PASSWORD = "bulk-secret";
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
     private PlayerService playerService;
 
+    @MockBean
+    private BulkTimeLimitService bulkTimeLimitService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -131,4 +150,88 @@ public class PlayerControllerTest {
                         .content(objectMapper.writeValueAsString(validTimeLimit)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void setTimeLimit_WeekdayLimitRequiresDay() throws Exception {
+        TimeLimitDto request = new TimeLimitDto(1L, 120);
+        request.setWindowLimits(List.of(new WindowLimitDto(LimitWindow.WEEKDAY, null, 60)));
+
+        mockMvc.perform(post("/api/players/time-limit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(playerService, never()).setTimeLimit(any(TimeLimitDto.class));
+    }
+
+    @Test
+    void setTimeLimits_AcceptedWithProgressLocation() throws Exception {
+        BulkTimeLimitDto request = new BulkTimeLimitDto(null, BulkTimeLimitDto.PlayerFilter.ACTIVE_WITHOUT_LIMIT, 90);
+        when(bulkTimeLimitService.start(any(BulkTimeLimitDto.class))).thenReturn(
+                new BulkTimeLimitStatusDto("job-1", "QUEUED", 0, 0, 0, LocalDateTime.now(), null));
+
+        mockMvc.perform(post("/api/players/time-limit/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, AdminControllerTest.basic("admin", PASSWORD))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/players/time-limit/bulk/job-1"))
+                .andExpect(jsonPath("$.state").value("QUEUED"));
+    }
+
+    @Test
+    void setTimeLimits_RequiresExactlyOneTarget() throws Exception {
+        BulkTimeLimitDto request = new BulkTimeLimitDto(List.of(1L), BulkTimeLimitDto.PlayerFilter.ALL_ACTIVE, 90);
+
+        mockMvc.perform(post("/api/players/time-limit/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, AdminControllerTest.basic("admin", PASSWORD))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(bulkTimeLimitService, never()).start(any(BulkTimeLimitDto.class));
+    }
+
+    @Test
+    void getBulkTimeLimitStatus_ReportsProgress() throws Exception {
+        when(bulkTimeLimitService.getStatus("job-1")).thenReturn(
+                new BulkTimeLimitStatusDto("job-1", "RUNNING", 5000, 2000, 1990, LocalDateTime.now(), null));
+
+        mockMvc.perform(get("/api/players/time-limit/bulk/{jobId}", "job-1")
+                        .header(HttpHeaders.AUTHORIZATION, AdminControllerTest.basic("admin", PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processedPlayers").value(2000))
+                .andExpect(jsonPath("$.totalPlayers").value(5000));
+    }
+
+    @Test
+    void bulkTimeLimitEndpoints_RejectAnonymous() throws Exception {
+        BulkTimeLimitDto request = new BulkTimeLimitDto(null, BulkTimeLimitDto.PlayerFilter.ALL_ACTIVE, 1);
+
+        mockMvc.perform(post("/api/players/time-limit/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/players/time-limit/bulk/{jobId}", "job-1"))
+                .andExpect(status().isUnauthorized());
+
+        verify(bulkTimeLimitService, never()).start(any(BulkTimeLimitDto.class));
+        verify(bulkTimeLimitService, never()).getStatus(any());
+    }
+
+    @Test
+    void registerPlayer_RetryWithIdempotencyKeyRegistersOnce() throws Exception {
+        when(playerService.registerPlayer(any(PlayerRegistrationDto.class))).thenReturn(validPlayer);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/players/register")
+                            .header(IdempotencyCache.HEADER, "register-retry")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRegistration)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(1));
+        }
+
+        verify(playerService, times(1)).registerPlayer(any(PlayerRegistrationDto.class));
+    }
 }
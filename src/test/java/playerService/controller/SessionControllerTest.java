@@ -1,6 +1,8 @@
 package playerService.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,26 +11,46 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import playerService.config.SecurityConfig;
 import playerService.dto.LoginRequestDto;
 import playerService.dto.SessionResponseDto;
 import playerService.exception.InvalidCredentialsException;
+import playerService.exception.PlayerNotFoundException;
 import playerService.exception.SessionNotFoundException;
 import playerService.exception.TimeLimitExceededException;
+import playerService.exception.TooManyLoginAttemptsException;
+import playerService.idempotency.IdempotencyCache;
+import playerService.notification.SessionLimitNotifier;
+import playerService.ratelimit.LoginRateLimiter;
+import playerService.service.AsyncSessionService;
+import playerService.service.HeartbeatService;
 import playerService.service.SessionService;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(SessionController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, IdempotencyCache.class})
 public class SessionControllerTest {
 
     @Autowired
@@ -37,6 +59,18 @@ public class SessionControllerTest {
     @MockBean
     private SessionService sessionService;
 
+    @MockBean
+    private AsyncSessionService asyncSessionService;
+
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
+
+    @MockBean
+    private SessionLimitNotifier sessionLimitNotifier;
+
+    @MockBean
+    private HeartbeatService heartbeatService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -68,15 +102,110 @@ public class SessionControllerTest {
                 .andExpect(jsonPath("$.playerEmail").value(validSessionResponse.getPlayerEmail()));
     }
 
+    @Test
+    void login_ReturnsCborWhenAccepted() throws Exception {
+        when(sessionService.login(any(LoginRequestDto.class))).thenReturn(validSessionResponse);
+
+        byte[] body = mockMvc.perform(post("/api/sessions/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode session = new CBORMapper().readTree(body);
+        assertThat(session.get("sessionId").asText()).isEqualTo(validSessionResponse.getSessionId());
+        assertThat(session.get("expiresAt").asText()).isEqualTo(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(validSessionResponse.getExpiresAt()));
+    }
+
+    @Test
+    void login_RetryWithIdempotencyKeyReplaysFirstSession() throws Exception {
+        when(sessionService.login(any(LoginRequestDto.class))).thenReturn(validSessionResponse);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/sessions/login")
+                            .header(IdempotencyCache.HEADER, "login-retry")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validLoginRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.sessionId").value(validSessionResponse.getSessionId()));
+        }
+
+        verify(sessionService, times(1)).login(any(LoginRequestDto.class));
+        verify(loginRateLimiter, times(2)).checkLogin(anyString(), anyString());
+    }
+
+    @Test
+    void login_IdempotencyKeyReusedForOtherCredentials() throws Exception {
+        when(sessionService.login(any(LoginRequestDto.class))).thenReturn(validSessionResponse);
+
+        mockMvc.perform(post("/api/sessions/login")
+                        .header(IdempotencyCache.HEADER, "login-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/sessions/login")
+                        .header(IdempotencyCache.HEADER, "login-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequestDto("other@example.com", "password123"))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
     @Test
     void login_InvalidCredentials() throws Exception {
         when(sessionService.login(any(LoginRequestDto.class)))
-                .thenThrow(new InvalidCredentialsException("Invalid email or password"));
+                .thenThrow(InvalidCredentialsException.INSTANCE);
+
+        mockMvc.perform(post("/api/sessions/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.code").value("INVALID_CREDENTIALS"))
+                .andExpect(jsonPath("$.status").value(401))
+                .andExpect(jsonPath("$.detail").value("Invalid email or password"));
+    }
+
+    @Test
+    void login_InvalidCredentialsRecordsFailure() throws Exception {
+        when(sessionService.login(any(LoginRequestDto.class)))
+                .thenThrow(InvalidCredentialsException.INSTANCE);
 
         mockMvc.perform(post("/api/sessions/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(validLoginRequest)))
                 .andExpect(status().isUnauthorized());
+
+        verify(loginRateLimiter).recordFailure(eq("test@example.com"), anyString());
+    }
+
+    @Test
+    void login_UnknownEmailRecordsFailure() throws Exception {
+        when(sessionService.login(any(LoginRequestDto.class)))
+                .thenThrow(new PlayerNotFoundException("Player not found with email: test@example.com"));
+
+        mockMvc.perform(post("/api/sessions/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isNotFound());
+
+        verify(loginRateLimiter).recordFailure(eq("test@example.com"), anyString());
+    }
+
+    @Test
+    void login_RateLimited() throws Exception {
+        doThrow(new TooManyLoginAttemptsException("Too many login attempts, try again later", 30))
+                .when(loginRateLimiter).checkLogin(anyString(), anyString());
+
+        mockMvc.perform(post("/api/sessions/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"));
+
+        verify(sessionService, never()).login(any(LoginRequestDto.class));
     }
 
     @Test
@@ -104,5 +233,76 @@ public class SessionControllerTest {
         mockMvc.perform(post("/api/sessions/logout/{sessionId}", "invalid-session"))
                 .andExpect(status().isNotFound());
     }
-}
 
+    @Test
+    void loginAsync_Success() throws Exception {
+        when(asyncSessionService.login(any(LoginRequestDto.class)))
+                .thenReturn(CompletableFuture.completedFuture(validSessionResponse));
+
+        MvcResult mvcResult = mockMvc.perform(post("/api/sessions/async/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sessionId").value(validSessionResponse.getSessionId()));
+    }
+
+    @Test
+    void loginAsync_InvalidCredentials() throws Exception {
+        when(asyncSessionService.login(any(LoginRequestDto.class)))
+                .thenReturn(CompletableFuture.failedFuture(new InvalidCredentialsException("Invalid email or password")));
+
+        MvcResult mvcResult = mockMvc.perform(post("/api/sessions/async/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logoutAsync_Timeout() throws Exception {
+        when(asyncSessionService.logout(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        MvcResult mvcResult = mockMvc.perform(post("/api/sessions/async/logout/{sessionId}", "session-123"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void heartbeat_NoContent() throws Exception {
+        mockMvc.perform(post("/api/sessions/{sessionId}/heartbeat", "session-123"))
+                .andExpect(status().isNoContent());
+
+        verify(heartbeatService).beat("session-123");
+    }
+
+    @Test
+    void heartbeat_UnknownSession() throws Exception {
+        doThrow(new SessionNotFoundException("Active session not found with id: missing"))
+                .when(heartbeatService).beat("missing");
+
+        mockMvc.perform(post("/api/sessions/{sessionId}/heartbeat", "missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void logout_RetryWithIdempotencyKeyDoesNotFail() throws Exception {
+        mockMvc.perform(post("/api/sessions/logout/session-123").header(IdempotencyCache.HEADER, "logout-retry"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/sessions/logout/session-123").header(IdempotencyCache.HEADER, "logout-retry"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyCache.REPLAYED_HEADER, "true"));
+
+        verify(sessionService, times(1)).logout("session-123");
+    }
+}
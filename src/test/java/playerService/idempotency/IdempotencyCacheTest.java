@@ -0,0 +1,133 @@
+package playerService.idempotency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import playerService.dto.LoginRequestDto;
+import playerService.exception.IdempotencyKeyReusedException;
+import playerService.exception.SessionNotFoundException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyCacheTest {
+
+    private final IdempotencyCache cache = new IdempotencyCache(Duration.ofMinutes(10), 3);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void replaysCompletedResponse() {
+        ResponseEntity<String> first = cache.execute("login", "10.0.0.1", "key", "payload", this::respond);
+        ResponseEntity<String> second = cache.execute("login", "10.0.0.1", "key", "payload", this::respond);
+
+        assertEquals(1, calls.get());
+        assertEquals(first.getBody(), second.getBody());
+        assertEquals("true", second.getHeaders().getFirst(IdempotencyCache.REPLAYED_HEADER));
+    }
+
+    @Test
+    void scopesAndMissingKeysAreIndependent() {
+        cache.execute("login", "10.0.0.1", "key", "payload", this::respond);
+        cache.execute("logout", "10.0.0.1", "key", "payload", this::respond);
+        cache.execute("login", "10.0.0.1", null, "payload", this::respond);
+        cache.execute("login", "10.0.0.1", null, "payload", this::respond);
+
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void rejectsKeyReusedForDifferentRequest() {
+        cache.execute("login", "10.0.0.1", "key", "payload", this::respond);
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> cache.execute("login", "10.0.0.1", "key", "other-payload", this::respond));
+    }
+
+    @Test
+    void keysAreScopedByClient() {
+        cache.execute("login", "10.0.0.1", "key", "payload", this::respond);
+        cache.execute("login", "10.0.0.2", "key", "payload", this::respond);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void loginWithCollidingHashCodeIsNotReplayed() {
+        LoginRequestDto first = new LoginRequestDto("player@example.com", "Aa");
+        LoginRequestDto second = new LoginRequestDto("player@example.com", "BB");
+        assertEquals(Objects.hash(first.getEmail(), first.getPassword()), Objects.hash(second.getEmail(), second.getPassword()));
+
+        cache.execute("login", "10.0.0.1", "key", first, this::respond);
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> cache.execute("login", "10.0.0.1", "key", second, this::respond));
+    }
+
+    @Test
+    void failuresAreNotRemembered() {
+        assertThrows(SessionNotFoundException.class, () -> cache.execute("logout", "10.0.0.1", "key", "payload", () -> {
+            throw new SessionNotFoundException("gone");
+        }));
+
+        cache.execute("logout", "10.0.0.1", "key", "payload", this::respond);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void coalescesConcurrentDuplicateOntoInFlightResponse() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(() ->
+                cache.execute("login", "10.0.0.1", "key", "payload", () -> {
+                    started.countDown();
+                    await(release);
+                    return respond();
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<ResponseEntity<String>> duplicate = CompletableFuture.supplyAsync(() ->
+                cache.execute("login", "10.0.0.1", "key", "payload", this::respond));
+        Thread.sleep(50);
+        assertFalse(duplicate.isDone());
+
+        release.countDown();
+        assertEquals(first.get(5, TimeUnit.SECONDS).getBody(), duplicate.get(5, TimeUnit.SECONDS).getBody());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void evictsOldestEntriesBeyondCapacity() {
+        for (int i = 0; i < 5; i++) {
+            cache.execute("login", "10.0.0.1", "key-" + i, "payload", this::respond);
+        }
+
+        assertEquals(3, cache.size());
+        cache.execute("login", "10.0.0.1", "key-0", "payload", this::respond);
+        assertEquals(6, calls.get());
+    }
+
+    @Test
+    void expiredEntriesRunAgain() {
+        IdempotencyCache expiring = new IdempotencyCache(Duration.ZERO, 10);
+        expiring.execute("login", "10.0.0.1", "key", "payload", this::respond);
+        expiring.execute("login", "10.0.0.1", "key", "payload", this::respond);
+
+        assertEquals(2, calls.get());
+    }
+
+    private ResponseEntity<String> respond() {
+        return new ResponseEntity<>("response-" + calls.incrementAndGet(), HttpStatus.OK);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package playerService.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import playerService.dto.KeysetPageDto;
+import playerService.dto.PlayerSummaryDto;
+import playerService.dto.SessionSummaryDto;
+import playerService.exception.InvalidCursorException;
+import playerService.model.Player;
+import playerService.model.Session;
+import playerService.repository.PlayerRepository;
+import playerService.repository.SessionRepository;
+import playerService.service.AdminService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class AdminListingIntegrationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Player> players = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        playerRepository.deleteAll();
+        players.clear();
+        for (int i = 0; i < 7; i++) {
+            Player player = new Player();
+            player.setEmail("admin" + i + "@test.com");
+            player.setPassword("hash");
+            player.setName("Admin");
+            player.setSurname("Test" + i);
+            player.setDateOfBirth(LocalDate.of(1990, 1, 1));
+            player.setAddress("1 Admin St");
+            player.setActive(i % 2 == 0);
+            player.setDailyTimeLimit(i < 3 ? 60 : null);
+            // Players 2 and 3 share a timestamp so the id tie-breaker is exercised.
+            player.setRegisteredAt(BASE.plusDays(i == 3 ? 2 : i));
+            players.add(playerRepository.save(player));
+        }
+    }
+
+    @Test
+    void walksAllPlayersInRegistrationOrder() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            KeysetPageDto<PlayerSummaryDto> page = adminService.listPlayers(null, null, null, null, cursor, 3);
+            page.getItems().forEach(player -> seen.add(player.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(players.stream().map(Player::getId).toList(), seen);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void appliesFilters() {
+        KeysetPageDto<PlayerSummaryDto> activeWithLimit = adminService.listPlayers(true, true, null, null, null, 50);
+        assertEquals(List.of(players.get(0).getId(), players.get(2).getId()),
+                activeWithLimit.getItems().stream().map(PlayerSummaryDto::getId).toList());
+        assertNull(activeWithLimit.getNextCursor());
+
+        KeysetPageDto<PlayerSummaryDto> window = adminService.listPlayers(null, false,
+                BASE.plusDays(2), BASE.plusDays(5), null, 50);
+        assertEquals(List.of(players.get(3).getId(), players.get(4).getId()),
+                window.getItems().stream().map(PlayerSummaryDto::getId).toList());
+    }
+
+    @Test
+    void pagesSessionHistoryNewestFirst() {
+        Player player = players.get(0);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Session session = new Session();
+            session.setPlayer(player);
+            session.setCreatedAt(BASE.plusHours(i));
+            expected.add(0, sessionRepository.save(session).getId());
+        }
+
+        KeysetPageDto<SessionSummaryDto> first = adminService.listSessions(player.getId(), null, 2);
+        KeysetPageDto<SessionSummaryDto> second = adminService.listSessions(player.getId(), first.getNextCursor(), 2);
+        KeysetPageDto<SessionSummaryDto> third = adminService.listSessions(player.getId(), second.getNextCursor(), 2);
+
+        List<String> seen = new ArrayList<>();
+        for (KeysetPageDto<SessionSummaryDto> page : List.of(first, second, third)) {
+            page.getItems().forEach(session -> seen.add(session.getSessionId()));
+        }
+        assertEquals(expected, seen);
+        assertNull(third.getNextCursor());
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> adminService.listPlayers(null, null, null, null, "not-a-cursor", 10));
+    }
+
+    @Test
+    void listingIndexesExist() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = 'PUBLIC'", String.class);
+
+        assertTrue(indexes.contains("IDX_PLAYER_REGISTERED"), indexes.toString());
+        assertTrue(indexes.contains("IDX_PLAYER_ACTIVE_REGISTERED"), indexes.toString());
+        assertTrue(indexes.contains("IDX_SESSION_PLAYER_CREATED"), indexes.toString());
+    }
+}
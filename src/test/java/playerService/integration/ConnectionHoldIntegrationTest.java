@@ -0,0 +1,97 @@
+package playerService.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import playerService.datasource.ConnectionHoldTimer;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.repository.PlayerRepository;
+import playerService.repository.SessionRepository;
+import playerService.service.PlayerService;
+import playerService.service.SessionService;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs with a production-like BCrypt cost so that a connection held across a hash would show up
+ * as a hold time of at least one hash.
+ */
+@SpringBootTest(properties = "player-service.password.bcrypt.cost=12")
+@DirtiesContext
+public class ConnectionHoldIntegrationTest {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        playerRepository.deleteAll();
+    }
+
+    @Test
+    void registrationAndLoginHoldNoConnectionWhileHashing() {
+        // The first write and login pay for class loading and cache setup; measure warm calls.
+        registerAndLogin("warmup@test.com");
+        double registerBefore = heldMillis("PlayerService.registerPlayer");
+        double loginBefore = heldMillis("SessionService.login");
+        long registerCount = holds("PlayerService.registerPlayer");
+        long loginCount = holds("SessionService.login");
+
+        registerAndLogin("hold@test.com");
+
+        double hashMillis = meterRegistry.get("player.password.hash").tag("operation", "encode").timer()
+                .mean(TimeUnit.MILLISECONDS);
+        assertTrue(hashMillis >= 20, "hash took " + hashMillis + " ms, too fast to tell holds apart");
+        double registerHold = (heldMillis("PlayerService.registerPlayer") - registerBefore)
+                / (holds("PlayerService.registerPlayer") - registerCount);
+        double loginHold = (heldMillis("SessionService.login") - loginBefore)
+                / (holds("SessionService.login") - loginCount);
+        assertTrue(registerHold < hashMillis / 2, "registration held a connection for " + registerHold + " ms");
+        assertTrue(loginHold < hashMillis / 2, "login held a connection for " + loginHold + " ms");
+    }
+
+    private void registerAndLogin(String email) {
+        playerService.registerPlayer(new PlayerRegistrationDto(
+                email,
+                "holdpassword",
+                "Hold",
+                "Time",
+                LocalDate.of(1990, 1, 1),
+                "1 Pool St, Test City"
+        ));
+        sessionService.login(new LoginRequestDto(email, "holdpassword"));
+    }
+
+    private Timer hold(String method) {
+        return meterRegistry.get(ConnectionHoldTimer.METRIC).tag("method", method).timer();
+    }
+
+    private double heldMillis(String method) {
+        return hold(method).totalTime(TimeUnit.MILLISECONDS);
+    }
+
+    private long holds(String method) {
+        return hold(method).count();
+    }
+}
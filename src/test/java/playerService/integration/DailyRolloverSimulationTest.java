@@ -0,0 +1,176 @@
+package playerService.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import playerService.model.Player;
+import playerService.service.DailyRolloverService;
+import playerService.service.PlayerService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replays a midnight crossing on a simulated clock. Half the players live in UTC and half in
+ * Asia/Kolkata, every one of them used up their limit the day before, and the clock steps through
+ * both midnights. Run with {@code -Drollover.simulation.players=1000000} for a full-size replay.
+ */
+@SpringBootTest(properties = "player-service.rollover.chunk-size=" + DailyRolloverSimulationTest.CHUNK_SIZE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class DailyRolloverSimulationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyRolloverSimulationTest.class);
+    static final int CHUNK_SIZE = 1000;
+    private static final long FIRST_ID = 1_000_000_000L;
+    private static final int PLAYERS = Integer.getInteger("rollover.simulation.players", 20_000);
+    private static final int SAMPLE = 200;
+
+    @Autowired
+    private SimulatedClock clock;
+
+    @Autowired
+    private DailyRolloverService dailyRolloverService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM player WHERE id >= ?", FIRST_ID);
+    }
+
+    @Test
+    void midnightIsOneBulkResetPerZoneAndNoWritesFromChecks() {
+        clock.set(Instant.parse("2024-03-10T18:20:00Z"));
+        insertPlayers(LocalDateTime.of(2024, 3, 10, 8, 0));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        assertEquals(0, dailyRolloverService.rollover(), "nobody has reached midnight yet");
+        assertEquals(SAMPLE * 2, countExceeded(0, SAMPLE * 2));
+
+        // 00:01 in Kolkata, 18:31 in UTC.
+        clock.set(Instant.parse("2024-03-10T18:31:00Z"));
+        long updatesBefore = statistics.getEntityUpdateCount();
+        assertEquals(SAMPLE, countExceeded(0, SAMPLE * 2), "Kolkata players start over, UTC players do not");
+        assertEquals(updatesBefore, statistics.getEntityUpdateCount(), "checks after midnight must not write");
+
+        Burst kolkata = measureRollover();
+        assertEquals(PLAYERS / 2, kolkata.rows);
+
+        // 00:00:30 in UTC.
+        clock.set(Instant.parse("2024-03-11T00:00:30Z"));
+        updatesBefore = statistics.getEntityUpdateCount();
+        assertEquals(0, countExceeded(0, SAMPLE * 2));
+        assertEquals(updatesBefore, statistics.getEntityUpdateCount(), "checks after midnight must not write");
+
+        Burst utc = measureRollover();
+        assertEquals(PLAYERS - PLAYERS / 2, utc.rows);
+        assertEquals(0, dailyRolloverService.rollover(), "a second run finds nothing to reset");
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM player WHERE id >= ? AND today_session_time > 0", Long.class, FIRST_ID));
+
+        log.info("Rollover of {} players: Kolkata {} rows in {} updates, {} ms; UTC {} rows in {} updates, {} ms; "
+                        + "lazy resets would have been {} single-row updates",
+                PLAYERS, kolkata.rows, kolkata.updates(), kolkata.millis, utc.rows, utc.updates(), utc.millis, PLAYERS);
+    }
+
+    private Burst measureRollover() {
+        long started = System.nanoTime();
+        long rows = dailyRolloverService.rollover();
+        return new Burst(rows, Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    private int countExceeded(int fromIndex, int toIndex) {
+        int exceeded = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            Player player = playerService.getPlayerById(FIRST_ID + i);
+            if (playerService.hasExceededTimeLimit(player)) {
+                exceeded++;
+            }
+        }
+        return exceeded;
+    }
+
+    private void insertPlayers(LocalDateTime lastReset) {
+        String sql = "INSERT INTO player (id, email, password, name, surname, date_of_birth, address, daily_time_limit,"
+                + " active, today_session_time, last_daily_reset, registered_at, time_zone)"
+                + " VALUES (?, ?, 'x', 'Sim', 'Player', ?, 'Nowhere', 30, TRUE, 1800, ?, ?, ?)";
+        int batch = 5_000;
+        for (int from = 0; from < PLAYERS; from += batch) {
+            List<Object[]> rows = new ArrayList<>(batch);
+            for (int i = from; i < Math.min(from + batch, PLAYERS); i++) {
+                long id = FIRST_ID + i;
+                rows.add(new Object[]{id, "sim" + id + "@test.com", LocalDate.of(1990, 1, 1), lastReset, lastReset,
+                        i % 2 == 0 ? null : "Asia/Kolkata"});
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    private record Burst(long rows, long millis) {
+
+        long updates() {
+            return (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        }
+    }
+
+    static final class SimulatedClock extends Clock {
+
+        private volatile Instant instant = Instant.now();
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return Clock.fixed(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @TestConfiguration
+    static class SimulatedClockConfig {
+
+        @Bean
+        @Primary
+        SimulatedClock simulatedClock() {
+            return new SimulatedClock();
+        }
+    }
+}
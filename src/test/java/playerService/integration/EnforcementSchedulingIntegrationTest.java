@@ -0,0 +1,87 @@
+package playerService.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.dto.TimeLimitDto;
+import playerService.model.Player;
+import playerService.model.Session;
+import playerService.repository.PlayerRepository;
+import playerService.repository.SessionRepository;
+import playerService.service.PlayerService;
+import playerService.service.SessionService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs with the scheduler on, unlike the rest of the suite, to check the sweep is actually
+ * scheduled rather than only callable.
+ */
+@SpringBootTest(properties = {
+        "player-service.scheduling.enabled=true",
+        "player-service.enforcement.interval=PT0.2S",
+        "player-service.enforcement.jitter=PT0S"
+})
+@DirtiesContext
+public class EnforcementSchedulingIntegrationTest {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String sessionId;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        playerRepository.deleteAll();
+        Player player = playerService.registerPlayer(new PlayerRegistrationDto(
+                "sweep@test.com",
+                "sweeppassword",
+                "Sweep",
+                "Job",
+                LocalDate.of(1990, 1, 1),
+                "1 Sweep St, Test City"
+        ));
+        playerService.setTimeLimit(new TimeLimitDto(player.getId(), 10));
+        sessionId = sessionService.login(new LoginRequestDto("sweep@test.com", "sweeppassword")).getSessionId();
+
+        // Eleven minutes into a ten minute allowance.
+        Player started = playerRepository.findById(player.getId()).orElseThrow();
+        started.setLastSessionStart(LocalDateTime.now().minusMinutes(11));
+        playerRepository.save(started);
+    }
+
+    @Test
+    void scheduledSweepLogsOutPlayerOverLimit() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        Session session = sessionRepository.findById(sessionId).orElseThrow();
+        while (session.getLoggedOutAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            session = sessionRepository.findById(sessionId).orElseThrow();
+        }
+
+        assertNotNull(session.getLoggedOutAt(), "session was not closed by the scheduled sweep");
+        assertTrue(meterRegistry.get("player.scheduler.duration").tag("job", "time-limit-sweep").timer().count() > 0);
+        assertNotNull(meterRegistry.get("player.scheduler.lag").tag("job", "time-limit-sweep").timer());
+    }
+}
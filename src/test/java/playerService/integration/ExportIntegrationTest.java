@@ -0,0 +1,194 @@
+package playerService.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import playerService.controller.AdminController;
+import playerService.model.Player;
+import playerService.model.Session;
+import playerService.repository.PlayerRepository;
+import playerService.repository.SessionRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "player-service.export.fetch-size=2",
+        "player-service.admin.password=" + ExportIntegrationTest.PASSWORD
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class ExportIntegrationTest {
+
+    static final String PASSWORD = "export-secret";
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Player> players = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        playerRepository.deleteAll();
+        players.clear();
+        for (int i = 0; i < 5; i++) {
+            Player player = new Player();
+            player.setEmail("export" + i + "@test.com");
+            player.setPassword("hash");
+            player.setName("Export");
+            player.setSurname(i == 0 ? "Comma, \"Quoted\"" : "Test" + i);
+            player.setDateOfBirth(LocalDate.of(1990, 1, 1));
+            player.setAddress("1 Export St");
+            player.setActive(true);
+            player.setDailyTimeLimit(i == 0 ? null : 60);
+            players.add(playerRepository.save(player));
+        }
+        jdbcTemplate.update("UPDATE player SET updated_at = ? WHERE id <> ?", BASE, players.get(4).getId());
+        jdbcTemplate.update("UPDATE player SET updated_at = ? WHERE id = ?", BASE.plusDays(1), players.get(4).getId());
+
+        for (int i = 0; i < 3; i++) {
+            Session session = new Session();
+            session.setPlayer(players.get(i));
+            session.setCreatedAt(BASE.plusHours(i));
+            if (i == 0) {
+                // Closed later with a logout time backdated to its last heartbeat.
+                session.setLoggedOutAt(BASE.plusMinutes(30));
+            }
+            Session saved = sessionRepository.save(session);
+            jdbcTemplate.update("UPDATE session SET updated_at = ? WHERE id = ?",
+                    i == 0 ? BASE.plusDays(2) : session.getCreatedAt(), saved.getId());
+        }
+    }
+
+    @Test
+    void exportsAllPlayersAsNdjsonWithoutPasswords() throws Exception {
+        MvcResult result = export("/api/admin/export/players", null, null);
+
+        List<String> lines = lines(result);
+        assertEquals(5, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(players.get(0).getId(), first.get("id").asLong());
+        assertEquals("Comma, \"Quoted\"", first.get("surname").asText());
+        assertTrue(first.get("daily_time_limit").isNull());
+        assertTrue(first.get("active").asBoolean());
+        assertEquals("1990-01-01", first.get("date_of_birth").asText());
+        assertFalse(first.has("password"));
+        assertNotNull(result.getResponse().getHeader(AdminController.WATERMARK_HEADER));
+    }
+
+    @Test
+    void incrementalExportOnlyReturnsChangedRows() throws Exception {
+        List<String> players = lines(export("/api/admin/export/players", BASE.plusHours(1), null));
+        assertEquals(1, players.size());
+        assertTrue(players.get(0).contains("export4@test.com"));
+
+        List<String> sessions = lines(export("/api/admin/export/sessions", BASE.plusHours(1), null));
+        assertEquals(3, sessions.size(), "two created after the watermark and one closed after it");
+    }
+
+    @Test
+    void incrementalExportIncludesDailyResets() throws Exception {
+        jdbcTemplate.update("UPDATE player SET today_session_time = 600 WHERE id = ?", players.get(1).getId());
+        LocalDateTime since = LocalDateTime.now().minusSeconds(1);
+
+        transactionTemplate.executeWithoutResult(status -> playerRepository.resetDailyUsage("",
+                LocalDateTime.now(), players.get(1).getId(), players.get(1).getId(), LocalDateTime.now()));
+
+        List<String> players = lines(export("/api/admin/export/players", since, null));
+        assertEquals(1, players.size());
+        assertTrue(players.get(0).contains("export1@test.com"));
+    }
+
+    @Test
+    void exportsRequireAdminCredentials() throws Exception {
+        mockMvc.perform(get("/api/admin/export/players"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/admin/export/sessions"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void exportsSessionsAsCsv() throws Exception {
+        MvcResult result = export("/api/admin/export/sessions", null, "CSV");
+
+        List<String> lines = lines(result);
+        assertEquals("id,player_id,created_at,expires_at,logged_out_at,updated_at", lines.get(0));
+        assertEquals(4, lines.size());
+        assertTrue(lines.stream().anyMatch(line -> line.endsWith("," + BASE.plusMinutes(30) + "," + BASE.plusDays(2))));
+        assertTrue(result.getResponse().getHeader("Content-Disposition").contains("sessions.csv.gz"));
+    }
+
+    @Test
+    void csvQuotesFieldsThatNeedIt() throws Exception {
+        List<String> lines = lines(export("/api/admin/export/players", null, "CSV"));
+
+        assertTrue(lines.get(1).contains(",\"Comma, \"\"Quoted\"\"\","), lines.get(1));
+    }
+
+    private MvcResult export(String path, LocalDateTime since, String format) throws Exception {
+        var request = get(path).header(HttpHeaders.AUTHORIZATION, "Basic "
+                + Base64.getEncoder().encodeToString(("admin:" + PASSWORD).getBytes(StandardCharsets.UTF_8)));
+        if (since != null) {
+            request.param("since", since.toString());
+        }
+        if (format != null) {
+            request.param("format", format);
+        }
+        MvcResult started = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andReturn();
+    }
+
+    private static List<String> lines(MvcResult result) throws IOException {
+        byte[] gzipped = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+}
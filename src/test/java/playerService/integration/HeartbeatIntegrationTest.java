@@ -0,0 +1,153 @@
+package playerService.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.dto.SessionResponseDto;
+import playerService.exception.SessionNotFoundException;
+import playerService.model.Player;
+import playerService.model.Session;
+import playerService.repository.PlayerRepository;
+import playerService.repository.SessionRepository;
+import playerService.scheduler.HeartbeatScheduler;
+import playerService.service.HeartbeatService;
+import playerService.service.PlayerService;
+import playerService.service.SessionService;
+import playerService.time.PlayerCalendar;
+import playerService.usage.UsageTable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "player-service.heartbeat.idle-timeout=PT0S")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class HeartbeatIntegrationTest {
+
+    @Autowired
+    private HeartbeatService heartbeatService;
+
+    @Autowired
+    private HeartbeatScheduler heartbeatScheduler;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private UsageTable usageTable;
+
+    @Autowired
+    private PlayerCalendar calendar;
+
+    private Player player;
+    private String sessionId;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        playerRepository.deleteAll();
+        player = playerService.registerPlayer(new PlayerRegistrationDto(
+                "heartbeat@test.com",
+                "heartbeatpass",
+                "Heart",
+                "Beat",
+                LocalDate.of(1990, 1, 1),
+                "1 Beat St, Test City"
+        ));
+        SessionResponseDto session = sessionService.login(new LoginRequestDto("heartbeat@test.com", "heartbeatpass"));
+        sessionId = session.getSessionId();
+
+        // Pretend the session has been running for ten minutes.
+        Player started = playerRepository.findById(player.getId()).orElseThrow();
+        started.setLastSessionStart(LocalDateTime.now().minusMinutes(10));
+        playerRepository.save(started);
+    }
+
+    @Test
+    void flushCreditsUsageWithoutDoubleCountingAtLogout() {
+        heartbeatService.beat(sessionId);
+        LocalDateTime flushedAt = LocalDateTime.now();
+        heartbeatService.flush();
+
+        Player credited = playerService.getPlayerById(player.getId());
+        assertFalse(credited.getUpdatedAt().isBefore(flushedAt.minusSeconds(1)), "credit moves updatedAt for the export");
+        assertTrue(credited.getTodaySessionTime() >= 599 && credited.getTodaySessionTime() <= 602,
+                "credited " + credited.getTodaySessionTime());
+        assertTrue(credited.getLastSessionStart().isAfter(LocalDateTime.now().minusSeconds(5)));
+
+        sessionService.logout(sessionId);
+
+        long total = playerService.getPlayerById(player.getId()).getTodaySessionTime();
+        assertTrue(total >= 599 && total <= 605, "total " + total);
+        assertEquals(0, heartbeatService.trackedSessions());
+    }
+
+    @Test
+    void flushKeepsTrackedUsageSlotCurrent() {
+        Player loaded = playerService.getPlayerById(player.getId());
+        playerService.limitState(player.getId(), ZoneId.systemDefault(), loaded.getUpdatedAt());
+        assertTrue(usageTable.isCurrent(player.getId(), calendar.toEpochMicros(loaded.getUpdatedAt())));
+
+        heartbeatService.beat(sessionId);
+        heartbeatService.flush();
+
+        Player credited = playerService.getPlayerById(player.getId());
+        assertTrue(usageTable.isCurrent(player.getId(), calendar.toEpochMicros(credited.getUpdatedAt())),
+                "slot follows the credit's updatedAt");
+        assertEquals(credited.getTodaySessionTime(),
+                usageTable.secondsUsed(player.getId(), LocalDate.now().toEpochDay()));
+    }
+
+    @Test
+    void idleSessionIsClosedAtLastHeartbeat() throws InterruptedException {
+        heartbeatService.beat(sessionId);
+        LocalDateTime beatAt = LocalDateTime.now();
+        Thread.sleep(1100);
+
+        heartbeatScheduler.flushHeartbeats();
+
+        Session closed = sessionRepository.findById(sessionId).orElseThrow();
+        assertNotNull(closed.getLoggedOutAt());
+        assertFalse(closed.getLoggedOutAt().isAfter(beatAt));
+        assertTrue(closed.getUpdatedAt().isAfter(closed.getLoggedOutAt()), "updatedAt records the write, not the logout");
+        long total = playerService.getPlayerById(player.getId()).getTodaySessionTime();
+        assertTrue(total >= 599 && total <= 602, "total " + total);
+    }
+
+    @Test
+    void overlappingSessionsAreCreditedOnce() {
+        String secondId = sessionService.login(new LoginRequestDto("heartbeat@test.com", "heartbeatpass")).getSessionId();
+        heartbeatService.beat(sessionId);
+        heartbeatService.beat(secondId);
+        heartbeatService.flush();
+
+        long credited = playerService.getPlayerById(player.getId()).getTodaySessionTime();
+        assertTrue(credited >= 599 && credited <= 602, "credited " + credited);
+
+        sessionService.logout(sessionId);
+        sessionService.logout(secondId);
+
+        long total = playerService.getPlayerById(player.getId()).getTodaySessionTime();
+        assertTrue(total >= 599 && total <= 605, "total " + total);
+    }
+
+    @Test
+    void heartbeatForUnknownSessionIsRejected() {
+        assertThrows(SessionNotFoundException.class, () -> heartbeatService.beat("missing"));
+    }
+}
@@ -0,0 +1,61 @@
+package playerService.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import playerService.dto.LoginRequestDto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs against the embedded server, since forwarded headers are applied by Tomcat rather than by
+ * anything MockMvc goes through.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "player-service.login-rate-limit.ip.capacity=2",
+        "player-service.admin.password=" + LoginRateLimitIntegrationTest.PASSWORD
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class LoginRateLimitIntegrationTest {
+
+    static final String PASSWORD = "metrics-secret";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void ipBucketsFollowTheForwardedClientAddress() {
+        for (int client = 1; client <= 3; client++) {
+            assertEquals(HttpStatus.NOT_FOUND, login("203.0.113." + client, "nobody" + client + "@test.com"));
+        }
+
+        assertEquals(HttpStatus.NOT_FOUND, login("198.51.100.7", "a@test.com"));
+        assertEquals(HttpStatus.NOT_FOUND, login("198.51.100.7", "b@test.com"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, login("198.51.100.7", "c@test.com"));
+    }
+
+    @Test
+    void metricsRequireAdminCredentials() {
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/actuator/health", String.class).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, restTemplate.getForEntity("/actuator/metrics", String.class).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED,
+                restTemplate.getForEntity("/actuator/metrics/jvm.memory.used", String.class).getStatusCode());
+        assertEquals(HttpStatus.OK, restTemplate.withBasicAuth("admin", PASSWORD)
+                .getForEntity("/actuator/metrics/jvm.memory.used", String.class).getStatusCode());
+    }
+
+    private HttpStatusCode login(String forwardedFor, String email) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", forwardedFor);
+        return restTemplate.postForEntity("/api/sessions/login",
+                new HttpEntity<>(new LoginRequestDto(email, "password"), headers), String.class).getStatusCode();
+    }
+}
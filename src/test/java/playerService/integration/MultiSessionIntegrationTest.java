@@ -0,0 +1,137 @@
+package playerService.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.model.Player;
+import playerService.model.Session;
+import playerService.repository.PlayerRepository;
+import playerService.repository.SessionRepository;
+import playerService.service.PlayerService;
+import playerService.service.SessionService;
+import playerService.session.SessionRegistry;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "player-service.sessions.max-concurrent=2",
+        "player-service.sessions.on-limit=evict-oldest"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class MultiSessionIntegrationTest {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private SessionRegistry sessionRegistry;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    private Player player;
+    private final LoginRequestDto login = new LoginRequestDto("devices@test.com", "devicespass");
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        playerRepository.deleteAll();
+        player = playerService.registerPlayer(new PlayerRegistrationDto(
+                "devices@test.com",
+                "devicespass",
+                "Many",
+                "Devices",
+                LocalDate.of(1990, 1, 1),
+                "2 Device St, Test City"
+        ));
+    }
+
+    @Test
+    void sessionsUpToTheLimitStayOpenAndTheOldestIsEvicted() {
+        String phone = sessionService.login(login).getSessionId();
+        String desktop = sessionService.login(login).getSessionId();
+
+        assertNull(sessionRepository.findById(phone).orElseThrow().getLoggedOutAt());
+        assertEquals(2, sessionRegistry.sessionIds(player.getId()).size());
+
+        String tablet = sessionService.login(login).getSessionId();
+
+        assertNotNull(sessionRepository.findById(phone).orElseThrow().getLoggedOutAt());
+        assertNull(sessionRepository.findById(desktop).orElseThrow().getLoggedOutAt());
+        assertEquals(List.of(desktop, tablet), sessionRegistry.sessionIds(player.getId()));
+    }
+
+    @Test
+    void overlappingSessionsAreChargedForWallClockTime() {
+        String phone = sessionService.login(login).getSessionId();
+        backdateSessionStart(10);
+        String desktop = sessionService.login(login).getSessionId();
+
+        sessionService.logout(phone);
+        assertEquals(0L, playerService.getPlayerById(player.getId()).getTodaySessionTime());
+
+        sessionService.logout(desktop);
+        long total = playerService.getPlayerById(player.getId()).getTodaySessionTime();
+        assertTrue(total >= 599 && total <= 602, "total " + total);
+        assertEquals(0, sessionRegistry.trackedPlayers());
+    }
+
+    @Test
+    void evictionWithoutGapKeepsAccruingFromTheFirstSession() {
+        sessionService.login(login);
+        backdateSessionStart(10);
+        sessionService.login(login);
+        String last = sessionService.login(login).getSessionId();
+
+        sessionService.logout(sessionRepository.findAll().stream()
+                .filter(session -> session.getLoggedOutAt() == null && !session.getId().equals(last))
+                .map(Session::getId)
+                .findFirst()
+                .orElseThrow());
+        sessionService.logout(last);
+
+        long total = playerService.getPlayerById(player.getId()).getTodaySessionTime();
+        assertTrue(total >= 599 && total <= 602, "total " + total);
+    }
+
+    @Test
+    void sessionsOpenedOnAnotherNodeCountTowardsTheLimitAndTheUnion() {
+        String phone = sessionService.login(login).getSessionId();
+        Session elsewhere = new Session();
+        elsewhere.setPlayer(playerRepository.findById(player.getId()).orElseThrow());
+        elsewhere.setCreatedAt(LocalDateTime.now());
+        String desktop = sessionRepository.save(elsewhere).getId();
+
+        String tablet = sessionService.login(login).getSessionId();
+        assertNotNull(sessionRepository.findById(phone).orElseThrow().getLoggedOutAt());
+        assertEquals(List.of(desktop, tablet), sessionRegistry.sessionIds(player.getId()));
+
+        backdateSessionStart(10);
+        sessionService.logout(tablet);
+        assertEquals(0L, playerService.getPlayerById(player.getId()).getTodaySessionTime());
+
+        sessionService.logout(desktop);
+        long total = playerService.getPlayerById(player.getId()).getTodaySessionTime();
+        assertTrue(total >= 599 && total <= 602, "total " + total);
+    }
+
+    private void backdateSessionStart(long minutes) {
+        Player started = playerRepository.findById(player.getId()).orElseThrow();
+        started.setLastSessionStart(LocalDateTime.now().minusMinutes(minutes));
+        playerRepository.save(started);
+    }
+}
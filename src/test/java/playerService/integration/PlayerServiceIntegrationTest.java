@@ -6,6 +6,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import playerService.config.SecurityConfig;
 import playerService.dto.LoginRequestDto;
 import playerService.dto.PlayerRegistrationDto;
@@ -20,6 +22,7 @@ import playerService.service.SessionService;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,6 +43,9 @@ public class PlayerServiceIntegrationTest {
     @Autowired
     private SessionRepository sessionRepository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
 
     @BeforeEach
     void setUp() {
@@ -113,4 +119,24 @@ public class PlayerServiceIntegrationTest {
             sessionService.login(loginRequest);
         });
     }
+
+    @Test
+    void bulkWithoutLimitFilterIsAppliedUnderTheLock() {
+        Player unset = playerService.registerPlayer(new PlayerRegistrationDto("unset@test.com", "unsetpass",
+                "Un", "Set", LocalDate.of(1990, 1, 1), "1 Bulk St, Test City"));
+        Player limited = playerService.registerPlayer(new PlayerRegistrationDto("limited@test.com", "limitedpass",
+                "Lim", "Ited", LocalDate.of(1990, 1, 1), "2 Bulk St, Test City"));
+        List<Long> chosenByKeyset = List.of(unset.getId(), limited.getId());
+        // Set after the keyset read chose both players, before the chunk locks them.
+        playerService.setTimeLimit(new TimeLimitDto(limited.getId(), 120));
+
+        int updated = new TransactionTemplate(transactionManager).execute(status -> {
+            assertEquals(List.of(unset.getId()), playerRepository.lockActiveIds(chosenByKeyset, true));
+            return playerRepository.setDailyTimeLimit(chosenByKeyset, 30, true);
+        });
+
+        assertEquals(1, updated);
+        assertEquals(30, playerRepository.findById(unset.getId()).orElseThrow().getDailyTimeLimit());
+        assertEquals(120, playerRepository.findById(limited.getId()).orElseThrow().getDailyTimeLimit());
+    }
 }
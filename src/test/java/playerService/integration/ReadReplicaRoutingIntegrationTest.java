@@ -0,0 +1,93 @@
+package playerService.integration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.model.Player;
+import playerService.service.PlayerService;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "player-service.datasource.replica.jdbc-url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "player-service.datasource.replica.username=sa",
+        "player-service.datasource.replica.maximum-pool-size=2",
+        "player-service.datasource.replica.max-lag=200ms",
+        "player-service.email-filter.enabled=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@DirtiesContext
+public class ReadReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Test
+    void poolsAreSizedIndependently() {
+        assertEquals(4, primaryDataSource.getMaximumPoolSize());
+        assertEquals(2, replicaDataSource.getMaximumPoolSize());
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        String readOnlyDatabase = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+        String readWriteDatabase = readWrite.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+
+        assertEquals("ROUTING-REPLICA", readOnlyDatabase);
+        assertEquals("ROUTING-PRIMARY", readWriteDatabase);
+    }
+
+    @Test
+    void recentWritesAreReadFromPrimary() throws InterruptedException {
+        Player registered = playerService.registerPlayer(new PlayerRegistrationDto(
+                "routing@test.com",
+                "routingpass",
+                "Routing",
+                "Test",
+                LocalDate.of(1990, 1, 1),
+                "123 Routing St, Test City"
+        ));
+
+        Player readBack = playerService.getPlayerById(registered.getId());
+        assertEquals("routing@test.com", readBack.getEmail());
+
+        Thread.sleep(300);
+
+        // The replica in this test is never populated, so once the lag window has passed the read
+        // reaching it proves the routing switched over.
+        assertThrows(InvalidDataAccessResourceUsageException.class, () -> playerService.getPlayerById(registered.getId()));
+    }
+}
@@ -0,0 +1,107 @@
+package playerService.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import playerService.cache.SecondLevelCacheMetrics;
+import playerService.config.SecondLevelCacheConfig;
+import playerService.dto.BulkTimeLimitDto;
+import playerService.dto.BulkTimeLimitStatusDto;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.dto.TimeLimitDto;
+import playerService.model.Player;
+import playerService.repository.PlayerRepository;
+import playerService.repository.SessionRepository;
+import playerService.service.BulkTimeLimitService;
+import playerService.service.PlayerService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private BulkTimeLimitService bulkTimeLimitService;
+
+    @Autowired
+    private SecondLevelCacheMetrics cacheMetrics;
+
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        playerRepository.deleteAll();
+        player = playerService.registerPlayer(new PlayerRegistrationDto(
+                "cache@test.com",
+                "cachepass",
+                "Cache",
+                "Test",
+                LocalDate.of(1992, 3, 4),
+                "1 Cache St, Test City"
+        ));
+    }
+
+    @Test
+    void readsAreServedFromSecondLevelCache() {
+        playerService.getPlayerById(player.getId());
+        playerService.getPlayerByEmail(player.getEmail());
+        long playerHits = cacheMetrics.hits(SecondLevelCacheConfig.PLAYER_REGION);
+        long queryHits = cacheMetrics.hits(SecondLevelCacheConfig.QUERY_RESULTS_REGION);
+
+        playerService.getPlayerById(player.getId());
+        playerService.getPlayerByEmail(player.getEmail());
+
+        assertTrue(cacheMetrics.hits(SecondLevelCacheConfig.PLAYER_REGION) > playerHits);
+        assertTrue(cacheMetrics.hits(SecondLevelCacheConfig.QUERY_RESULTS_REGION) > queryHits);
+        assertTrue(cacheMetrics.hitRatio(SecondLevelCacheConfig.PLAYER_REGION) > 0.0);
+    }
+
+    @Test
+    void cachedReadsNeverReturnStaleLimitAfterSetTimeLimit() {
+        for (int limit = 10; limit <= 50; limit += 10) {
+            playerService.getPlayerById(player.getId());
+            playerService.getPlayerByEmail(player.getEmail());
+
+            playerService.setTimeLimit(new TimeLimitDto(player.getId(), limit));
+
+            assertEquals(limit, playerService.getPlayerById(player.getId()).getDailyTimeLimit());
+            assertEquals(limit, playerService.getPlayerByEmail(player.getEmail()).getDailyTimeLimit());
+        }
+        assertTrue(cacheMetrics.hits(SecondLevelCacheConfig.PLAYER_REGION) > 0);
+    }
+
+    @Test
+    void bulkUpdateInvalidatesCachedPlayers() throws InterruptedException {
+        playerService.getPlayerById(player.getId());
+        playerService.getPlayerByEmail(player.getEmail());
+
+        BulkTimeLimitStatusDto status = bulkTimeLimitService.start(
+                new BulkTimeLimitDto(List.of(player.getId()), null, 75));
+        for (int i = 0; i < 100 && status.getFinishedAt() == null; i++) {
+            Thread.sleep(50);
+            status = bulkTimeLimitService.getStatus(status.getJobId());
+        }
+
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(1, status.getUpdatedPlayers());
+        assertEquals(75, playerService.getPlayerById(player.getId()).getDailyTimeLimit());
+        assertEquals(75, playerService.getPlayerByEmail(player.getEmail()).getDailyTimeLimit());
+    }
+}
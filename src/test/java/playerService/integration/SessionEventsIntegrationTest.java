@@ -0,0 +1,78 @@
+package playerService.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.dto.SessionResponseDto;
+import playerService.dto.TimeLimitDto;
+import playerService.model.Player;
+import playerService.notification.SessionLimitNotifier;
+import playerService.service.PlayerService;
+import playerService.service.SessionService;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class SessionEventsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private SessionLimitNotifier sessionLimitNotifier;
+
+    @Test
+    void pushesStatusAndForcedLogout() throws Exception {
+        Player player = playerService.registerPlayer(new PlayerRegistrationDto(
+                "events@test.com",
+                "eventspass",
+                "Events",
+                "Test",
+                LocalDate.of(1990, 1, 1),
+                "123 Events St, Test City"
+        ));
+        playerService.setTimeLimit(new TimeLimitDto(player.getId(), 1));
+        SessionResponseDto session = sessionService.login(new LoginRequestDto("events@test.com", "eventspass"));
+        playerService.updatePlayerSessionTime(playerService.getPlayerById(player.getId()), 30);
+
+        MvcResult events = mockMvc.perform(get("/api/sessions/{sessionId}/events", session.getSessionId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String initial = events.getResponse().getContentAsString();
+        assertTrue(initial.contains("event:" + SessionLimitNotifier.LIMIT_STATUS), initial);
+        assertEquals(1, sessionLimitNotifier.openChannels());
+
+        playerService.updatePlayerSessionTime(playerService.getPlayerById(player.getId()), 40);
+        sessionService.checkAndLogoutTimeLimitExceededPlayers();
+
+        String afterEnforcement = events.getResponse().getContentAsString();
+        assertTrue(afterEnforcement.contains("event:" + SessionLimitNotifier.FORCED_LOGOUT), afterEnforcement);
+        assertEquals(0, sessionLimitNotifier.openChannels());
+    }
+
+    @Test
+    void unknownSessionIsRejected() throws Exception {
+        mockMvc.perform(get("/api/sessions/{sessionId}/events", "non-existent-session"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,117 @@
+package playerService.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.dto.TimeLimitDto;
+import playerService.model.Player;
+import playerService.repository.PlayerRepository;
+import playerService.repository.SessionRepository;
+import playerService.service.PlayerService;
+import playerService.service.SessionService;
+import playerService.webhook.WebhookEvent;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DirtiesContext
+public class WebhookIntegrationTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final BlockingQueue<JsonNode> received = new LinkedBlockingQueue<>();
+    private static final HttpServer receiver = startReceiver();
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @DynamicPropertySource
+    static void webhookProperties(DynamicPropertyRegistry registry) {
+        registry.add("player-service.webhooks.endpoints",
+                () -> "http://localhost:" + receiver.getAddress().getPort() + "/hook");
+        registry.add("player-service.webhooks.linger", () -> "PT0.05S");
+    }
+
+    @AfterAll
+    static void stopReceiver() {
+        receiver.stop(0);
+    }
+
+    @Test
+    void enforcementLogoutIsPostedToReceiver() throws Exception {
+        sessionRepository.deleteAll();
+        playerRepository.deleteAll();
+        Player player = playerService.registerPlayer(new PlayerRegistrationDto(
+                "webhook@test.com",
+                "webhookpass",
+                "Web",
+                "Hook",
+                LocalDate.of(1990, 1, 1),
+                "1 Hook St, Test City"
+        ));
+        playerService.setTimeLimit(new TimeLimitDto(player.getId(), 10));
+        String sessionId = sessionService.login(new LoginRequestDto("webhook@test.com", "webhookpass")).getSessionId();
+        Player started = playerRepository.findById(player.getId()).orElseThrow();
+        started.setLastSessionStart(LocalDateTime.now().minusMinutes(11));
+        playerRepository.save(started);
+
+        sessionService.checkAndLogoutTimeLimitExceededPlayers();
+
+        JsonNode forcedLogout = null;
+        long deadline = System.currentTimeMillis() + 5000;
+        while (forcedLogout == null && System.currentTimeMillis() < deadline) {
+            JsonNode batch = received.poll(100, TimeUnit.MILLISECONDS);
+            if (batch == null) {
+                continue;
+            }
+            for (JsonNode event : batch.get("events")) {
+                if (event.get("type").asText().equals(WebhookEvent.FORCED_LOGOUT)) {
+                    forcedLogout = event;
+                }
+            }
+        }
+        assertNotNull(forcedLogout, "no forced logout was posted");
+        assertEquals(player.getId(), forcedLogout.get("playerId").asLong());
+        assertEquals(sessionId, forcedLogout.get("sessionId").asText());
+    }
+
+    private static HttpServer startReceiver() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/hook", exchange -> {
+                received.add(objectMapper.readTree(exchange.getRequestBody()));
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
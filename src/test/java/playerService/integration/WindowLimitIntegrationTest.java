@@ -0,0 +1,116 @@
+package playerService.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.dto.TimeLimitDto;
+import playerService.dto.WindowLimitDto;
+import playerService.exception.TimeLimitExceededException;
+import playerService.model.DailyUsage;
+import playerService.model.LimitWindow;
+import playerService.model.Player;
+import playerService.policy.DailyUsageRecorder;
+import playerService.repository.DailyUsageRepository;
+import playerService.repository.PlayerRepository;
+import playerService.repository.SessionRepository;
+import playerService.repository.WindowLimitRepository;
+import playerService.service.PlayerService;
+import playerService.service.SessionService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class WindowLimitIntegrationTest {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private DailyUsageRecorder dailyUsageRecorder;
+
+    @Autowired
+    private DailyUsageRepository dailyUsageRepository;
+
+    @Autowired
+    private WindowLimitRepository windowLimitRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    private Player player;
+    private final LoginRequestDto login = new LoginRequestDto("window@test.com", "windowpass");
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        dailyUsageRepository.deleteAll();
+        windowLimitRepository.deleteAll();
+        playerRepository.deleteAll();
+        player = playerService.registerPlayer(new PlayerRegistrationDto(
+                "window@test.com",
+                "windowpass",
+                "Window",
+                "Limit",
+                LocalDate.of(1990, 1, 1),
+                "1 Window St, Test City"
+        ));
+    }
+
+    @Test
+    void weeklyLimitCountsEarlierDaysAndBlocksLogin() {
+        LocalDate today = LocalDate.now();
+        dailyUsageRecorder.record(player.getId(), today.minusDays(2), 3000);
+        dailyUsageRecorder.record(player.getId(), today.minusDays(10), 100_000);
+
+        TimeLimitDto limits = new TimeLimitDto(player.getId(), 600);
+        limits.setWindowLimits(List.of(new WindowLimitDto(LimitWindow.WEEK, null, 60)));
+        playerService.setTimeLimit(limits);
+
+        sessionService.login(login);
+        dailyUsageRecorder.record(player.getId(), today.minusDays(1), 600);
+
+        assertThrows(TimeLimitExceededException.class, () -> sessionService.login(login));
+    }
+
+    @Test
+    void removingWindowLimitsLiftsTheBlock() {
+        dailyUsageRecorder.record(player.getId(), LocalDate.now().minusDays(1), 7200);
+        TimeLimitDto limits = new TimeLimitDto(player.getId(), 600);
+        limits.setWindowLimits(List.of(new WindowLimitDto(LimitWindow.MONTH, null, 60)));
+        playerService.setTimeLimit(limits);
+        assertThrows(TimeLimitExceededException.class, () -> sessionService.login(login));
+
+        limits.setWindowLimits(List.of());
+        playerService.setTimeLimit(limits);
+
+        assertNotNull(sessionService.login(login).getSessionId());
+        assertTrue(windowLimitRepository.findByPlayerId(player.getId()).isEmpty());
+    }
+
+    @Test
+    void sessionTimeIsRecordedPerDay() {
+        sessionService.login(login);
+        Player loggedIn = playerRepository.findById(player.getId()).orElseThrow();
+        loggedIn.setLastSessionStart(loggedIn.getLastSessionStart().minusMinutes(5));
+        playerRepository.save(loggedIn);
+
+        sessionService.logout(sessionRepository.findAll().get(0).getId());
+
+        DailyUsage usage = dailyUsageRepository.findById(new DailyUsage.Key(player.getId(), LocalDate.now())).orElseThrow();
+        assertTrue(usage.getSeconds() >= 300 && usage.getSeconds() <= 302, "recorded " + usage.getSeconds());
+    }
+}
@@ -0,0 +1,112 @@
+package playerService.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.PlayerRegistrationDto;
+import playerService.dto.SessionResponseDto;
+import playerService.exception.InvalidCredentialsException;
+import playerService.model.Player;
+import playerService.repository.PlayerRepository;
+import playerService.repository.SessionRepository;
+import playerService.service.PlayerService;
+import playerService.service.SessionService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DirtiesContext
+public class JfrEventsTest {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        playerRepository.deleteAll();
+    }
+
+    @Test
+    void loginLogoutAndSweepAreRecordedAndSummarised() throws Exception {
+        Player player = playerService.registerPlayer(new PlayerRegistrationDto(
+                "jfr@test.com",
+                "jfrpassword",
+                "Flight",
+                "Recorder",
+                LocalDate.of(1990, 1, 1),
+                "1 Recording St, Test City"
+        ));
+        Path file = tempDir.resolve("events.jfr");
+        SessionResponseDto session;
+
+        try (Recording recording = new Recording()) {
+            Stream.of(LoginEvent.NAME, LoginStageEvent.NAME, LogoutEvent.NAME, SessionTimeEvent.NAME,
+                    EnforcementSweepEvent.NAME).forEach(recording::enable);
+            recording.start();
+            session = sessionService.login(new LoginRequestDto("jfr@test.com", "jfrpassword"));
+            assertThrows(InvalidCredentialsException.class,
+                    () -> sessionService.login(new LoginRequestDto("jfr@test.com", "wrongpassword")));
+            sessionService.checkAndLogoutTimeLimitExceededPlayers();
+            sessionService.logout(session.getSessionId());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> logins = events.stream().filter(e -> e.getEventType().getName().equals(LoginEvent.NAME)).toList();
+        assertEquals(2, logins.size());
+        assertTrue(logins.stream().anyMatch(e -> e.getBoolean("success") && e.getLong("playerId") == player.getId()));
+        assertTrue(logins.stream().anyMatch(e -> !e.getBoolean("success")
+                && LoginStageEvent.VERIFY.equals(e.getString("stage"))));
+        assertEquals(List.of(LoginStageEvent.LOOKUP, LoginStageEvent.VERIFY, LoginStageEvent.OPEN, LoginStageEvent.LOOKUP),
+                events.stream().filter(e -> e.getEventType().getName().equals(LoginStageEvent.NAME))
+                        .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                        .map(e -> e.getString("stage")).toList());
+        RecordedEvent logout = single(events, LogoutEvent.NAME);
+        assertEquals(session.getSessionId(), logout.getString("sessionId"));
+        assertFalse(logout.getBoolean("forced"));
+        assertEquals(player.getId(), single(events, SessionTimeEvent.NAME).getLong("playerId"));
+        assertEquals(1, single(events, EnforcementSweepEvent.NAME).getInt("sessionsChecked"));
+
+        ByteArrayOutputStream summary = new ByteArrayOutputStream();
+        JfrSummary.summarize(file, new PrintStream(summary, true, StandardCharsets.UTF_8));
+        String text = summary.toString(StandardCharsets.UTF_8);
+        assertTrue(text.contains("LoginStage/verify  count=1"), text);
+        assertTrue(text.contains("Login failed at verify  count=1"), text);
+        assertTrue(text.contains("EnforcementSweep  count=1"), text);
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,49 @@
+package playerService.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import playerService.dto.SessionResponseDto;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionResponseJsonSerializerTest {
+
+    private final ObjectMapper defaultMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectMapper optimizedMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new SimpleModule()
+                    .addSerializer(new LocalDateTimeJsonSerializer())
+                    .addSerializer(new SessionResponseJsonSerializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void matchesDefaultSerialization() throws Exception {
+        LocalDateTime[] times = {
+                LocalDateTime.of(2024, 1, 2, 3, 4, 5),
+                LocalDateTime.of(2024, 12, 31, 23, 59, 59, 500_000_000),
+                LocalDateTime.of(2024, 6, 15, 12, 0, 0, 123_456_789),
+                LocalDateTime.of(2024, 6, 15, 12, 0, 0, 1_000),
+                LocalDateTime.of(10000, 1, 1, 0, 0)
+        };
+
+        for (LocalDateTime time : times) {
+            SessionResponseDto dto = new SessionResponseDto("session-1", "a@example.com", time, time.plusHours(1));
+            assertThat(optimizedMapper.writeValueAsString(dto)).isEqualTo(defaultMapper.writeValueAsString(dto));
+        }
+    }
+
+    @Test
+    void writesNullsLikeDefault() throws Exception {
+        SessionResponseDto dto = new SessionResponseDto(null, null, null, null);
+
+        assertThat(optimizedMapper.writeValueAsString(dto)).isEqualTo(defaultMapper.writeValueAsString(dto));
+    }
+}
@@ -0,0 +1,100 @@
+package playerService.notification;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import playerService.model.Player;
+import playerService.model.Session;
+import playerService.policy.LimitPolicyEngine;
+import playerService.service.PlayerService;
+import playerService.time.PlayerCalendar;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SessionLimitNotifierTest {
+
+    @Mock
+    private PlayerService playerService;
+
+    @Mock
+    private LimitPolicyEngine limitPolicyEngine;
+
+    private final List<String> senderThreads = new CopyOnWriteArrayList<>();
+    private final CountDownLatch sent = new CountDownLatch(1);
+    private final Executor sender = task -> new Thread(() -> {
+        senderThreads.add(Thread.currentThread().getName());
+        task.run();
+        sent.countDown();
+    }, "test-sender").start();
+
+    private SessionLimitNotifier notifier;
+
+    @AfterEach
+    void tearDown() {
+        notifier.shutdown();
+    }
+
+    @Test
+    void warningsAreSentFromTheSenderExecutor() throws InterruptedException {
+        PlayerCalendar calendar = calendarAt("2024-03-01T12:00:00Z");
+        notifier = new SessionLimitNotifier(playerService, calendar, limitPolicyEngine, sender, new long[]{1});
+        // 61 seconds left, so the one-minute warning is due a second from now.
+        Player player = player(calendar, 2, 59);
+
+        notifier.subscribe(session(calendar, player));
+
+        assertTrue(sent.await(5, TimeUnit.SECONDS));
+        assertEquals("test-sender", senderThreads.get(0));
+    }
+
+    @Test
+    void exhaustedLimitIsRearmedAtThePlayersMidnight() {
+        PlayerCalendar calendar = calendarAt("2024-03-01T23:59:59Z");
+        notifier = new SessionLimitNotifier(playerService, calendar, limitPolicyEngine, sender, new long[]{1});
+        Player player = player(calendar, 1, 60);
+        when(playerService.getPlayerById(1L)).thenReturn(player);
+
+        notifier.subscribe(session(calendar, player));
+
+        verify(playerService, timeout(5_000)).getPlayerById(1L);
+    }
+
+    private PlayerCalendar calendarAt(String instant) {
+        return new PlayerCalendar(Clock.fixed(Instant.parse(instant), ZoneOffset.UTC), "");
+    }
+
+    private Player player(PlayerCalendar calendar, int limitMinutes, long secondsUsed) {
+        Player player = new Player();
+        player.setId(1L);
+        player.setDailyTimeLimit(limitMinutes);
+        player.setTodaySessionTime(secondsUsed);
+        player.setLastDailyReset(calendar.now());
+        player.setLastSessionStart(calendar.now());
+        return player;
+    }
+
+    private Session session(PlayerCalendar calendar, Player player) {
+        Session session = new Session();
+        session.setId("session-1");
+        session.setPlayer(player);
+        session.setCreatedAt(calendar.now());
+        session.setExpiresAt(calendar.now().plusHours(1));
+        return session;
+    }
+}
@@ -0,0 +1,80 @@
+package playerService.overload;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import playerService.exception.ServerOverloadedException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ConcurrencyLimitFilterTest {
+
+    private final HandlerExceptionResolver resolver = mock(HandlerExceptionResolver.class);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            new GradientLimit(10, 10, 10, 1.5, 0.2, 50), resolver, Duration.ofSeconds(2));
+
+    @Test
+    void lowerPrioritiesAreShedFirst() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(filter.tryAcquire(RequestPriority.LOW) > 0);
+        }
+        assertEquals(-1, filter.tryAcquire(RequestPriority.LOW));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(filter.tryAcquire(RequestPriority.NORMAL) > 0);
+        }
+        assertEquals(-1, filter.tryAcquire(RequestPriority.NORMAL));
+
+        assertEquals(10, filter.tryAcquire(RequestPriority.CRITICAL));
+        assertEquals(-1, filter.tryAcquire(RequestPriority.CRITICAL));
+    }
+
+    @Test
+    void rejectsWithRetryAfterWhenOverLimit() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            filter.tryAcquire(RequestPriority.LOW);
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/players");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNull(chain.getRequest());
+        verify(resolver).resolveException(any(), any(), isNull(),
+                argThat(ex -> ex instanceof ServerOverloadedException overloaded && overloaded.getRetryAfterSeconds() == 2));
+    }
+
+    @Test
+    void logoutStillAdmittedWhenOthersAreShed() throws Exception {
+        for (int i = 0; i < 9; i++) {
+            filter.tryAcquire(RequestPriority.NORMAL);
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/sessions/logout/abc");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(9, filter.inflight());
+        verify(resolver, never()).resolveException(any(), any(), any(), any());
+    }
+
+    @Test
+    void classifiesEndpoints() {
+        assertEquals(RequestPriority.CRITICAL, RequestPriority.of(new MockHttpServletRequest("POST", "/api/sessions/s1/heartbeat")));
+        assertEquals(RequestPriority.CRITICAL, RequestPriority.of(new MockHttpServletRequest("POST", "/api/sessions/async/logout/s1")));
+        assertEquals(RequestPriority.NORMAL, RequestPriority.of(new MockHttpServletRequest("POST", "/api/sessions/login")));
+        assertEquals(RequestPriority.LOW, RequestPriority.of(new MockHttpServletRequest("POST", "/api/players/time-limit/bulk")));
+        assertEquals(RequestPriority.LOW, RequestPriority.of(new MockHttpServletRequest("GET", "/api/admin/players")));
+    }
+}
@@ -0,0 +1,66 @@
+package playerService.overload;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GradientLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void growsWhileLatencyHoldsAndPermitsAreUsed() {
+        GradientLimit limit = new GradientLimit(20, 10, 200, 1.5, 0.2, 10);
+
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(10 * MS, limit.getLimit());
+        }
+
+        assertTrue(limit.getLimit() > 40, "limit " + limit.getLimit());
+    }
+
+    @Test
+    void doesNotGrowWhenMostPermitsAreIdle() {
+        GradientLimit limit = new GradientLimit(20, 10, 200, 1.5, 0.2, 10);
+
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(10 * MS, 2);
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void shrinksWhenLatencyClimbsAndRecoversAfterwards() {
+        GradientLimit limit = new GradientLimit(100, 10, 200, 1.5, 0.2, 10);
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(10 * MS, limit.getLimit());
+        }
+        int healthy = limit.getLimit();
+
+        for (int i = 0; i < 300; i++) {
+            limit.onSample(200 * MS, limit.getLimit());
+        }
+        int degraded = limit.getLimit();
+        assertTrue(degraded < healthy / 2, "healthy " + healthy + ", degraded " + degraded);
+
+        for (int i = 0; i < 2000; i++) {
+            limit.onSample(10 * MS, limit.getLimit());
+        }
+        assertTrue(limit.getLimit() > degraded, "recovered " + limit.getLimit() + ", degraded " + degraded);
+    }
+
+    @Test
+    void staysWithinBounds() {
+        GradientLimit limit = new GradientLimit(50, 10, 60, 1.5, 0.5, 5);
+        for (int i = 0; i < 1000; i++) {
+            limit.onSample(MS, limit.getLimit());
+        }
+        assertEquals(60, limit.getLimit());
+
+        for (int i = 0; i < 1000; i++) {
+            limit.onSample(1000 * MS, limit.getLimit());
+        }
+        assertEquals(10, limit.getLimit());
+    }
+}
@@ -0,0 +1,100 @@
+package playerService.policy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import playerService.model.DailyUsage;
+import playerService.model.LimitWindow;
+import playerService.model.Player;
+import playerService.model.WindowLimit;
+import playerService.repository.DailyUsageRepository;
+import playerService.repository.WindowLimitRepository;
+import playerService.time.PlayerCalendar;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cost of one window-limit check once policies and usage histories are in memory, for a player
+ * with weekday, week and month limits and a player without any. Prints nanoseconds per check;
+ * the bound only catches a check that has started to hit the database or allocate heavily.
+ */
+public class LimitPolicyEngineBenchmarkTest {
+
+    private static final int PLAYERS = 1_000;
+    private static final int WARMUP_CHECKS = 2_000_000;
+    private static final int MEASURED_CHECKS = 5_000_000;
+
+    @Test
+    void evaluationCostPerCheck() {
+        PlayerCalendar calendar = new PlayerCalendar(Clock.systemDefaultZone(), "");
+        LocalDate today = calendar.today(calendar.zoneOf(new Player()));
+        WindowLimitRepository windowLimitRepository = mock(WindowLimitRepository.class);
+        DailyUsageRepository dailyUsageRepository = mock(DailyUsageRepository.class);
+        List<WindowLimit> limits = new ArrayList<>();
+        for (long id = 1; id <= PLAYERS; id++) {
+            limits.add(new WindowLimit(id, LimitWindow.WEEKDAY, today.getDayOfWeek(), 240));
+            limits.add(new WindowLimit(id, LimitWindow.WEEK, null, 900));
+            limits.add(new WindowLimit(id, LimitWindow.MONTH, null, 3000));
+        }
+        when(windowLimitRepository.findAll()).thenReturn(limits);
+        when(dailyUsageRepository.findSince(anyLong(), any())).thenAnswer(invocation -> IntStream.range(1, 30)
+                .mapToObj(age -> usage(invocation.getArgument(0), today.minusDays(age), 1800))
+                .toList());
+        LimitPolicyEngine engine = new LimitPolicyEngine(windowLimitRepository, dailyUsageRepository, calendar,
+                mock(PlatformTransactionManager.class));
+        engine.loadPolicies();
+
+        Player[] limited = players(1, PLAYERS);
+        Player[] unlimited = players(PLAYERS + 1, PLAYERS);
+        run(engine, limited, WARMUP_CHECKS);
+        run(engine, unlimited, WARMUP_CHECKS);
+
+        double limitedNanos = run(engine, limited, MEASURED_CHECKS);
+        double unlimitedNanos = run(engine, unlimited, MEASURED_CHECKS);
+        System.out.printf("Window limit check: %.1f ns with weekday+week+month limits, %.1f ns without%n",
+                limitedNanos, unlimitedNanos);
+
+        assertTrue(limitedNanos < 2_000, "limited check took " + limitedNanos + " ns");
+        assertTrue(unlimitedNanos < 2_000, "unlimited check took " + unlimitedNanos + " ns");
+    }
+
+    private static double run(LimitPolicyEngine engine, Player[] players, int checks) {
+        long overLimit = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < checks; i++) {
+            if (engine.isOverLimit(players[i % players.length], i & 0x3FFF)) {
+                overLimit++;
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        // Keeps the JIT from dropping the checks as dead code.
+        assertTrue(overLimit >= 0);
+        return (double) elapsed / checks;
+    }
+
+    private static Player[] players(long firstId, int count) {
+        Player[] players = new Player[count];
+        for (int i = 0; i < count; i++) {
+            players[i] = new Player();
+            players[i].setId(firstId + i);
+        }
+        return players;
+    }
+
+    private static DailyUsage usage(long playerId, LocalDate day, long seconds) {
+        DailyUsage usage = new DailyUsage();
+        usage.setPlayerId(playerId);
+        usage.setUsageDay(day);
+        usage.setSeconds(seconds);
+        return usage;
+    }
+}
@@ -0,0 +1,105 @@
+package playerService.policy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import playerService.model.DailyUsage;
+import playerService.model.LimitWindow;
+import playerService.model.Player;
+import playerService.model.WindowLimit;
+import playerService.repository.DailyUsageRepository;
+import playerService.repository.WindowLimitRepository;
+import playerService.time.PlayerCalendar;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LimitPolicyEngineTest {
+
+    @Mock
+    private WindowLimitRepository windowLimitRepository;
+
+    @Mock
+    private DailyUsageRepository dailyUsageRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final PlayerCalendar calendar = new PlayerCalendar(Clock.systemDefaultZone(), "");
+    private LimitPolicyEngine engine;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        engine = new LimitPolicyEngine(windowLimitRepository, dailyUsageRepository, calendar, transactionManager);
+        player = new Player();
+        player.setId(1L);
+    }
+
+    @Test
+    void refresh_PicksUpPoliciesChangedElsewhere() {
+        when(windowLimitRepository.findAll())
+                .thenReturn(List.of())
+                .thenReturn(List.of(new WindowLimit(1L, LimitWindow.WEEKDAY, calendar.today(calendar.zoneOf(player)).getDayOfWeek(), 10)))
+                .thenReturn(List.of());
+        engine.loadPolicies();
+        assertFalse(engine.hasPolicy(1L));
+
+        engine.refresh();
+        assertTrue(engine.isOverLimit(player, 600));
+
+        engine.refresh();
+        assertFalse(engine.hasPolicy(1L));
+    }
+
+    @Test
+    void refresh_DropsHistoriesSoOtherNodesUsageIsReloaded() {
+        LocalDate yesterday = calendar.today(calendar.zoneOf(player)).minusDays(1);
+        when(windowLimitRepository.findAll()).thenReturn(List.of(new WindowLimit(1L, LimitWindow.WEEK, null, 60)));
+        when(dailyUsageRepository.findSince(eq(1L), any()))
+                .thenReturn(List.of(usage(yesterday, 600)))
+                .thenReturn(List.of(usage(yesterday, 1800)));
+        engine.loadPolicies();
+        assertEquals(3000, engine.remainingSeconds(player, 0));
+
+        engine.refresh();
+
+        assertEquals(1800, engine.remainingSeconds(player, 0));
+    }
+
+    @Test
+    void creditCommittedWhileHistoryLoadsIsCountedOnce() {
+        LocalDate yesterday = calendar.today(calendar.zoneOf(player)).minusDays(1);
+        when(windowLimitRepository.findAll()).thenReturn(List.of(new WindowLimit(1L, LimitWindow.WEEK, null, 60)));
+        when(dailyUsageRepository.findSince(eq(1L), any()))
+                .thenAnswer(invocation -> {
+                    // The credit commits after this read and reports itself before the ring is cached.
+                    engine.recordUsage(1L, yesterday, 600);
+                    return List.of();
+                })
+                .thenReturn(List.of(usage(yesterday, 600)));
+        engine.loadPolicies();
+
+        assertEquals(3000, engine.remainingSeconds(player, 0));
+        engine.recordUsage(1L, yesterday, 300);
+        assertEquals(2700, engine.remainingSeconds(player, 0));
+    }
+
+    private static DailyUsage usage(LocalDate day, long seconds) {
+        DailyUsage usage = new DailyUsage();
+        usage.setPlayerId(1L);
+        usage.setUsageDay(day);
+        usage.setSeconds(seconds);
+        return usage;
+    }
+}
@@ -0,0 +1,48 @@
+package playerService.policy;
+
+import org.junit.jupiter.api.Test;
+import playerService.model.LimitWindow;
+import playerService.model.WindowLimit;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LimitPolicyTest {
+
+    // A Saturday.
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 16);
+
+    @Test
+    void noLimitsMeansNoPolicy() {
+        assertNull(LimitPolicy.of(List.of()));
+    }
+
+    @Test
+    void weekdayLimitOnlyAppliesOnThatDay() {
+        LimitPolicy policy = LimitPolicy.of(List.of(
+                new WindowLimit(1L, LimitWindow.WEEKDAY, DayOfWeek.SATURDAY, 60),
+                new WindowLimit(1L, LimitWindow.WEEKDAY, DayOfWeek.MONDAY, 10)));
+
+        assertFalse(policy.needsHistory());
+        assertEquals(600, policy.remainingSeconds(null, TODAY, 3000));
+        assertEquals(Long.MAX_VALUE, policy.remainingSeconds(null, TODAY.plusDays(1), 3000));
+        assertEquals(-2400, policy.remainingSeconds(null, TODAY.plusDays(2), 3000));
+    }
+
+    @Test
+    void tightestWindowWins() {
+        UsageRing history = new UsageRing(TODAY.toEpochDay());
+        history.add(TODAY.minusDays(3).toEpochDay(), 3600);
+        history.add(TODAY.minusDays(20).toEpochDay(), 7200);
+        LimitPolicy policy = LimitPolicy.of(List.of(
+                new WindowLimit(1L, LimitWindow.WEEK, null, 120),
+                new WindowLimit(1L, LimitWindow.MONTH, null, 200)));
+
+        assertTrue(policy.needsHistory());
+        // Week: 7200 - 600 - 3600 = 3000; month: 12000 - 600 - 10800 = 600.
+        assertEquals(600, policy.remainingSeconds(history, TODAY, 600));
+    }
+}
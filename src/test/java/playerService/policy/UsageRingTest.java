@@ -0,0 +1,69 @@
+package playerService.policy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UsageRingTest {
+
+    private static final long DAY = 20_000;
+
+    @Test
+    void sumsOnlyDaysBeforeToday() {
+        UsageRing ring = new UsageRing(DAY);
+        ring.add(DAY, 100);
+        ring.add(DAY - 1, 10);
+        ring.add(DAY - 6, 20);
+        ring.add(DAY - 7, 40);
+        ring.add(DAY - 29, 80);
+        ring.add(DAY - 30, 160);
+
+        assertEquals(30, ring.pastWeek(DAY));
+        assertEquals(150, ring.pastMonth(DAY));
+    }
+
+    @Test
+    void rollingForwardMovesTodayIntoThePastAndDropsExpiredDays() {
+        UsageRing ring = new UsageRing(DAY);
+        ring.add(DAY - 6, 20);
+        ring.add(DAY - 29, 80);
+        ring.add(DAY, 100);
+
+        assertEquals(100, ring.pastWeek(DAY + 1));
+        assertEquals(120, ring.pastMonth(DAY + 1));
+        assertEquals(100, ring.pastWeek(DAY + 6));
+        assertEquals(0, ring.pastWeek(DAY + 7));
+        assertEquals(100, ring.pastMonth(DAY + 29));
+        assertEquals(0, ring.pastMonth(DAY + 30));
+    }
+
+    @Test
+    void matchesRecomputedSumsOverManyDays() {
+        UsageRing ring = new UsageRing(DAY);
+        long[] history = new long[400];
+        for (int offset = 0; offset < history.length; offset++) {
+            long day = DAY + offset;
+            history[offset] = (offset * 37L) % 500;
+            ring.add(day, history[offset]);
+            long week = 0;
+            long month = 0;
+            for (int back = 1; back <= 29 && offset - back >= 0; back++) {
+                month += history[offset - back];
+                if (back <= 6) {
+                    week += history[offset - back];
+                }
+            }
+            assertEquals(week, ring.pastWeek(day), "week at offset " + offset);
+            assertEquals(month, ring.pastMonth(day), "month at offset " + offset);
+        }
+    }
+
+    @Test
+    void longGapClearsHistory() {
+        UsageRing ring = new UsageRing(DAY);
+        ring.add(DAY, 100);
+
+        assertEquals(0, ring.pastMonth(DAY + 40));
+        assertEquals(0, ring.pastWeek(DAY + 40));
+    }
+}
@@ -0,0 +1,114 @@
+package playerService.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import playerService.exception.TooManyLoginAttemptsException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginRateLimiterTest {
+
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        loginRateLimiter = new LoginRateLimiter(3, Duration.ofMinutes(1), 10, Duration.ofMinutes(1),
+                2, Duration.ofMinutes(15), 100);
+    }
+
+    @Test
+    void checkLogin_AllowsBurstThenRejectsEmail() {
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.checkLogin("test@example.com", "10.0.0.1");
+        }
+
+        TooManyLoginAttemptsException ex = assertThrows(TooManyLoginAttemptsException.class,
+                () -> loginRateLimiter.checkLogin("test@example.com", "10.0.0.1"));
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+
+        assertDoesNotThrow(() -> loginRateLimiter.checkLogin("other@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void checkLogin_RejectsIpAcrossEmails() {
+        for (int i = 0; i < 10; i++) {
+            loginRateLimiter.checkLogin("user" + i + "@example.com", "10.0.0.2");
+        }
+
+        assertThrows(TooManyLoginAttemptsException.class,
+                () -> loginRateLimiter.checkLogin("fresh@example.com", "10.0.0.2"));
+        assertDoesNotThrow(() -> loginRateLimiter.checkLogin("fresh@example.com", "10.0.0.3"));
+    }
+
+    @Test
+    void recordFailure_BacksOffProgressively() {
+        TokenBucketMap buckets = new TokenBucketMap(1, TimeUnit.MINUTES.toNanos(1), 0, TimeUnit.HOURS.toNanos(1), 100);
+
+        assertEquals(TokenBucketMap.PERMITTED, buckets.tryAcquire("key", 0));
+        buckets.recordFailure("key", 0);
+        long firstWait = buckets.tryAcquire("key", 0);
+        buckets.recordFailure("key", 0);
+        long secondWait = buckets.tryAcquire("key", 0);
+
+        assertTrue(firstWait > TimeUnit.MINUTES.toNanos(1));
+        assertTrue(secondWait > firstWait);
+    }
+
+    @Test
+    void recordSuccess_ResetsBackoff() {
+        TokenBucketMap buckets = new TokenBucketMap(5, TimeUnit.MINUTES.toNanos(1), 1, TimeUnit.HOURS.toNanos(1), 100);
+
+        buckets.tryAcquire("key", 0);
+        buckets.recordFailure("key", 0);
+        buckets.recordSuccess("key");
+        buckets.recordFailure("key", 0);
+
+        assertEquals(TokenBucketMap.PERMITTED, buckets.tryAcquire("key", 0));
+    }
+
+    @Test
+    void trackedKeysAreBounded() {
+        TokenBucketMap buckets = new TokenBucketMap(5, TimeUnit.MINUTES.toNanos(1), 3, TimeUnit.HOURS.toNanos(1), 100);
+
+        for (int i = 0; i < 1000; i++) {
+            buckets.tryAcquire("key-" + i, 0);
+        }
+
+        assertTrue(buckets.size() <= 100);
+    }
+
+    @Test
+    void penalisedBucketsSurviveEviction() {
+        TokenBucketMap buckets = new TokenBucketMap(1, TimeUnit.MINUTES.toNanos(1), 0, TimeUnit.HOURS.toNanos(1), 100);
+        buckets.tryAcquire("attacker", 0);
+        buckets.recordFailure("attacker", 0);
+        long penalty = buckets.tryAcquire("attacker", 0);
+
+        for (int i = 0; i < 1000; i++) {
+            buckets.tryAcquire("key-" + i, 0);
+        }
+
+        assertTrue(penalty > 0);
+        assertTrue(buckets.size() <= 100);
+        assertEquals(penalty, buckets.tryAcquire("attacker", 0));
+    }
+
+    @Test
+    void bindTo_RegistersRejectionCounters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        loginRateLimiter.bindTo(registry);
+
+        for (int i = 0; i < 4; i++) {
+            try {
+                loginRateLimiter.checkLogin("test@example.com", "10.0.0.4");
+            } catch (TooManyLoginAttemptsException ignored) {
+            }
+        }
+
+        assertEquals(1.0, registry.get("player.login.rate_limit.rejected").tag("key", "email").functionCounter().count());
+    }
+}
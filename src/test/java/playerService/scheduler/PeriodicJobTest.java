@@ -0,0 +1,69 @@
+package playerService.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PeriodicJobTest {
+
+    private static final Instant START = Instant.parse("2026-01-05T10:00:00Z");
+
+    @Test
+    void runsAtFixedRateWithinJitter() {
+        PeriodicJob job = new PeriodicJob("test", () -> { }, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+        Instant first = job.nextExecution(contextAt(START));
+        assertWithin(START, first, Duration.ofSeconds(5));
+
+        Instant second = job.nextExecution(contextAt(first.plusSeconds(2)));
+        assertWithin(START.plusSeconds(60), second, Duration.ofSeconds(5));
+        assertEquals(0, job.skippedRuns());
+    }
+
+    @Test
+    void skipsSlotsOverrunBySlowRun() {
+        PeriodicJob job = new PeriodicJob("test", () -> { }, Duration.ofMinutes(1), Duration.ZERO);
+        job.nextExecution(contextAt(START));
+
+        Instant next = job.nextExecution(contextAt(START.plusSeconds(150)));
+
+        assertEquals(START.plusSeconds(180), next);
+        assertEquals(2, job.skippedRuns());
+    }
+
+    @Test
+    void recordsLagAndDuration() {
+        PeriodicJob job = new PeriodicJob("test", () -> { }, Duration.ofMinutes(1), Duration.ZERO);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        job.bindTo(registry);
+        job.nextExecution(contextAt(Instant.now().minusMillis(200)));
+
+        job.run();
+
+        assertEquals(1, registry.get("player.scheduler.duration").tag("job", "test").timer().count());
+        assertTrue(registry.get("player.scheduler.lag").tag("job", "test").timer().max(TimeUnit.MILLISECONDS) >= 200);
+    }
+
+    @Test
+    void rejectsJitterOfWholePeriod() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PeriodicJob("test", () -> { }, Duration.ofSeconds(10), Duration.ofSeconds(10)));
+    }
+
+    private static SimpleTriggerContext contextAt(Instant now) {
+        return new SimpleTriggerContext(Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static void assertWithin(Instant slot, Instant actual, Duration jitter) {
+        assertFalse(actual.isBefore(slot), actual + " before " + slot);
+        assertFalse(actual.isAfter(slot.plus(jitter)), actual + " after " + slot.plus(jitter));
+    }
+}
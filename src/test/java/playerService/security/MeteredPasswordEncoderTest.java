@@ -0,0 +1,65 @@
+package playerService.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteredPasswordEncoderTest {
+
+    private final MeteredPasswordEncoder encoder = new MeteredPasswordEncoder(5, Duration.ofMillis(2));
+
+    @Test
+    void newHashesArePrefixedAndCurrent() {
+        String hash = encoder.encode("secret");
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void legacyUnprefixedHashMatchesAndNeedsUpgrade() {
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertTrue(encoder.matches("secret", legacy));
+        assertFalse(encoder.matches("wrong", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    void weakerPrefixedHashNeedsUpgrade() {
+        String weaker = new MeteredPasswordEncoder(4, Duration.ZERO).encode("secret");
+
+        assertTrue(encoder.matches("secret", weaker));
+        assertTrue(encoder.upgradeEncoding(weaker));
+    }
+
+    @Test
+    void exposesCostAndHashTimes() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        encoder.matches("secret", encoder.encode("secret"));
+
+        assertEquals(5, registry.get("player.password.bcrypt.cost").gauge().value());
+        assertEquals(2, registry.get("player.password.bcrypt.calibrated").timeGauge().value(
+                TimeUnit.MILLISECONDS));
+        assertEquals(1, registry.get("player.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(1, registry.get("player.password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void calibrationStaysWithinBounds() {
+        BcryptCalibrator.Calibration generous = BcryptCalibrator.calibrate(Duration.ofSeconds(10), 4, 6);
+        BcryptCalibrator.Calibration tight = BcryptCalibrator.calibrate(Duration.ZERO, 4, 6);
+
+        assertEquals(6, generous.cost());
+        assertEquals(4, tight.cost());
+        assertTrue(tight.hashLatency().compareTo(Duration.ZERO) > 0);
+    }
+}
@@ -0,0 +1,106 @@
+package playerService.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import playerService.dto.LoginRequestDto;
+import playerService.dto.SessionResponseDto;
+import playerService.exception.InvalidCredentialsException;
+import playerService.model.Player;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncSessionServiceTest {
+
+    @Mock
+    private SessionService sessionService;
+
+    private AsyncSessionService asyncSessionService;
+
+    private LoginRequestDto validLoginRequest;
+    private Player validPlayer;
+
+    @BeforeEach
+    void setUp() {
+        asyncSessionService = new AsyncSessionService(sessionService,
+                Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor(), Duration.ofMillis(500));
+
+        validLoginRequest = new LoginRequestDto("test@example.com", "password123");
+
+        validPlayer = new Player();
+        validPlayer.setId(1L);
+        validPlayer.setEmail("test@example.com");
+        validPlayer.setPassword("encoded_password");
+    }
+
+    @Test
+    void login_Success() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        SessionResponseDto sessionResponse = new SessionResponseDto("session-123", "test@example.com", now, now.plusHours(24));
+
+        when(sessionService.lookupPlayer(anyString())).thenReturn(validPlayer);
+        when(sessionService.verifyPassword(validPlayer, "password123")).thenReturn(null);
+        when(sessionService.openSession(validPlayer, null)).thenReturn(sessionResponse);
+
+        SessionResponseDto result = asyncSessionService.login(validLoginRequest).get();
+
+        assertEquals("session-123", result.getSessionId());
+    }
+
+    @Test
+    void login_InvalidCredentials() {
+        when(sessionService.lookupPlayer(anyString())).thenReturn(validPlayer);
+        when(sessionService.verifyPassword(validPlayer, "password123")).thenThrow(InvalidCredentialsException.INSTANCE);
+
+        CompletableFuture<SessionResponseDto> result = asyncSessionService.login(validLoginRequest);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(InvalidCredentialsException.class, ex.getCause());
+        verify(sessionService, never()).openSession(any(Player.class), any());
+    }
+
+    @Test
+    void login_TimedOutBeforeOpeningDoesNotOpenSession() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(sessionService.lookupPlayer(anyString())).thenReturn(validPlayer);
+        when(sessionService.verifyPassword(validPlayer, "password123")).thenAnswer(invocation -> {
+            release.await();
+            return null;
+        });
+
+        CompletableFuture<SessionResponseDto> result = asyncSessionService.login(validLoginRequest);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+        release.countDown();
+        verify(sessionService, after(200).never()).openSession(any(Player.class), any());
+    }
+
+    @Test
+    void logout_TimesOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(sessionService).logout(anyString());
+
+        CompletableFuture<Void> result = asyncSessionService.logout("session-123");
+
+        ExecutionException ex = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+        release.countDown();
+    }
+}
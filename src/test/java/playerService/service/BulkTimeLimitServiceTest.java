@@ -0,0 +1,143 @@
+package playerService.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import playerService.datasource.ReadYourWritesGuard;
+import playerService.dto.BulkTimeLimitDto;
+import playerService.dto.BulkTimeLimitStatusDto;
+import playerService.event.TimeLimitChangedEvent;
+import playerService.exception.BulkJobNotFoundException;
+import playerService.repository.PlayerRepository;
+import playerService.usage.UsageTable;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkTimeLimitServiceTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReadYourWritesGuard readYourWritesGuard;
+
+    @Mock
+    private UsageTable usageTable;
+
+    private BulkTimeLimitService bulkTimeLimitService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        bulkTimeLimitService = new BulkTimeLimitService(playerRepository, transactionManager, eventPublisher,
+                readYourWritesGuard, usageTable, Runnable::run, 2, Duration.ofHours(1));
+    }
+
+    @Test
+    void explicitIdsAreUpdatedInChunks() {
+        when(playerRepository.lockActiveIds(List.of(1L, 2L), false)).thenReturn(List.of(1L, 2L));
+        when(playerRepository.lockActiveIds(List.of(3L), false)).thenReturn(List.of(3L));
+        when(playerRepository.setDailyTimeLimit(anyCollection(), eq(45), eq(false))).thenReturn(2, 1);
+
+        BulkTimeLimitStatusDto status = bulkTimeLimitService.start(
+                new BulkTimeLimitDto(List.of(1L, 2L, 3L), null, 45));
+
+        verify(playerRepository).setDailyTimeLimit(List.of(1L, 2L), 45, false);
+        verify(playerRepository).setDailyTimeLimit(List.of(3L), 45, false);
+        verify(transactionManager, times(2)).commit(any());
+        verify(eventPublisher, times(3)).publishEvent(any(TimeLimitChangedEvent.class));
+        verify(usageTable).evict(3L);
+
+        BulkTimeLimitStatusDto finished = bulkTimeLimitService.getStatus(status.getJobId());
+        assertEquals("COMPLETED", finished.getState());
+        assertEquals(3, finished.getTotalPlayers());
+        assertEquals(3, finished.getProcessedPlayers());
+        assertEquals(3, finished.getUpdatedPlayers());
+        assertNotNull(finished.getFinishedAt());
+    }
+
+    @Test
+    void onlyUpdatedPlayersGetEvents() {
+        when(playerRepository.lockActiveIds(List.of(1L, 2L), false)).thenReturn(List.of(2L));
+        when(playerRepository.lockActiveIds(List.of(3L), false)).thenReturn(List.of());
+
+        BulkTimeLimitStatusDto status = bulkTimeLimitService.start(
+                new BulkTimeLimitDto(List.of(1L, 2L, 3L), null, 45));
+
+        verify(playerRepository).setDailyTimeLimit(List.of(2L), 45, false);
+        verify(playerRepository, never()).setDailyTimeLimit(List.of(3L), 45, false);
+        verify(eventPublisher).publishEvent(new TimeLimitChangedEvent(2L));
+        verify(eventPublisher, times(1)).publishEvent(any(TimeLimitChangedEvent.class));
+        verify(readYourWritesGuard, never()).recordWrite(1L);
+        verify(usageTable, never()).evict(3L);
+
+        BulkTimeLimitStatusDto finished = bulkTimeLimitService.getStatus(status.getJobId());
+        assertEquals(3, finished.getProcessedPlayers());
+        assertEquals(1, finished.getUpdatedPlayers());
+    }
+
+    @Test
+    void filterWalksIdKeyset() {
+        when(playerRepository.countByActiveTrueAndDailyTimeLimitIsNull()).thenReturn(3L);
+        when(playerRepository.findActiveIdsWithoutLimitAfter(Long.MIN_VALUE, Limit.of(2))).thenReturn(List.of(4L, 7L));
+        when(playerRepository.findActiveIdsWithoutLimitAfter(7L, Limit.of(2))).thenReturn(List.of(9L));
+        when(playerRepository.findActiveIdsWithoutLimitAfter(9L, Limit.of(2))).thenReturn(List.of());
+        when(playerRepository.lockActiveIds(anyCollection(), eq(true))).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+        BulkTimeLimitStatusDto status = bulkTimeLimitService.start(
+                new BulkTimeLimitDto(null, BulkTimeLimitDto.PlayerFilter.ACTIVE_WITHOUT_LIMIT, 60));
+
+        verify(playerRepository).setDailyTimeLimit(List.of(4L, 7L), 60, true);
+        verify(playerRepository).setDailyTimeLimit(List.of(9L), 60, true);
+        verify(eventPublisher).publishEvent(new TimeLimitChangedEvent(9L));
+        assertEquals(3, bulkTimeLimitService.getStatus(status.getJobId()).getUpdatedPlayers());
+    }
+
+    @Test
+    void failedChunkMarksJobFailed() {
+        when(playerRepository.lockActiveIds(List.of(1L), false)).thenReturn(List.of(1L));
+        when(playerRepository.setDailyTimeLimit(anyCollection(), anyInt(), eq(false))).thenThrow(new IllegalStateException("db down"));
+
+        BulkTimeLimitService service = new BulkTimeLimitService(playerRepository, transactionManager,
+                eventPublisher, readYourWritesGuard, usageTable, task -> {
+                    try {
+                        task.run();
+                    } catch (IllegalStateException ignored) {
+                    }
+                }, 2, Duration.ofHours(1));
+
+        BulkTimeLimitStatusDto status = service.start(new BulkTimeLimitDto(List.of(1L), null, 30));
+
+        assertEquals("FAILED", service.getStatus(status.getJobId()).getState());
+    }
+
+    @Test
+    void unknownJobIsNotFound() {
+        assertThrows(BulkJobNotFoundException.class, () -> bulkTimeLimitService.getStatus("missing"));
+    }
+}
@@ -5,22 +5,43 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import playerService.cache.RegisteredEmailFilter;
+import playerService.datasource.ReadYourWritesGuard;
 import playerService.dto.PlayerRegistrationDto;
 import playerService.dto.TimeLimitDto;
+import playerService.dto.WindowLimitDto;
 import playerService.exception.PlayerAlreadyExistsException;
 import playerService.exception.PlayerInactiveException;
 import playerService.exception.PlayerNotFoundException;
+import playerService.model.LimitWindow;
 import playerService.model.Player;
+import playerService.policy.DailyUsageRecorder;
+import playerService.policy.LimitPolicyEngine;
 import playerService.repository.PlayerRepository;
+import playerService.repository.WindowLimitRepository;
+import playerService.time.PlayerCalendar;
+import playerService.usage.UsageTable;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +53,33 @@ public class PlayerServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ReadYourWritesGuard readYourWritesGuard;
+
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private UsageTable usageTable = new UsageTable(1 << 16);
+
+    @Mock
+    private WindowLimitRepository windowLimitRepository;
+
+    @Mock
+    private LimitPolicyEngine limitPolicyEngine;
+
+    @Mock
+    private DailyUsageRecorder dailyUsageRecorder;
+
+    @Spy
+    private PlayerCalendar calendar = new PlayerCalendar(Clock.systemDefaultZone(), "");
+
     @InjectMocks
     private PlayerService playerService;
 
@@ -41,6 +89,8 @@ public class PlayerServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(registeredEmailFilter.mightContain(anyString())).thenReturn(true);
+
         validRegistration = new PlayerRegistrationDto(
                 "test@example.com",
                 "password123",
@@ -88,6 +138,46 @@ public class PlayerServiceTest {
         });
     }
 
+    @Test
+    void registerPlayer_UnknownEmailSkipsExistsQuery() {
+        when(registeredEmailFilter.mightContain(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
+        when(playerRepository.save(any(Player.class))).thenReturn(validPlayer);
+
+        playerService.registerPlayer(validRegistration);
+
+        verify(playerRepository, never()).existsByEmail(anyString());
+        verify(registeredEmailFilter).add("test@example.com");
+    }
+
+    @Test
+    void registerPlayer_DuplicateMissedByFilterIsConflict() {
+        when(registeredEmailFilter.mightContain(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
+        when(playerRepository.save(any(Player.class))).thenThrow(new DataIntegrityViolationException("uk_player_email"));
+        when(playerRepository.existsByEmail("test@example.com")).thenReturn(true);
+
+        assertThrows(PlayerAlreadyExistsException.class, () -> playerService.registerPlayer(validRegistration));
+        verify(registeredEmailFilter, never()).add(anyString());
+    }
+
+    @Test
+    void rehashIfOutdated_RehashesWeakHash() {
+        when(passwordEncoder.upgradeEncoding("encoded_password")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("{bcrypt}rehashed");
+
+        assertEquals("{bcrypt}rehashed", playerService.rehashIfOutdated(validPlayer, "password123"));
+        verify(playerRepository, never()).save(any(Player.class));
+    }
+
+    @Test
+    void rehashIfOutdated_KeepsCurrentHash() {
+        when(passwordEncoder.upgradeEncoding("encoded_password")).thenReturn(false);
+
+        assertNull(playerService.rehashIfOutdated(validPlayer, "password123"));
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
     @Test
     void getPlayerById_Success() {
         when(playerRepository.findById(anyLong())).thenReturn(Optional.of(validPlayer));
@@ -126,6 +216,17 @@ public class PlayerServiceTest {
         });
     }
 
+    @Test
+    void getPlayerByEmail_FilterMissSkipsQuery() {
+        when(registeredEmailFilter.mightContain(anyString())).thenReturn(false);
+
+        assertThrows(PlayerNotFoundException.class, () -> {
+            playerService.getPlayerByEmail("unknown@example.com");
+        });
+
+        verify(playerRepository, never()).findByEmail(anyString());
+    }
+
     @Test
     void setTimeLimit_Success() {
         when(playerRepository.findById(anyLong())).thenReturn(Optional.of(validPlayer));
@@ -137,6 +238,46 @@ public class PlayerServiceTest {
         assertEquals(validTimeLimit.getDailyLimitMinutes(), result.getDailyTimeLimit());
     }
 
+    @Test
+    void setTimeLimit_RolledBackWriteNeverReachesUsageTable() {
+        when(playerRepository.findById(anyLong())).thenReturn(Optional.of(validPlayer));
+        when(playerRepository.save(any(Player.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(windowLimitRepository.saveAll(anyList())).thenThrow(new IllegalStateException("db down"));
+        validTimeLimit.setWindowLimits(List.of(new WindowLimitDto(LimitWindow.WEEK, null, 600)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThrows(IllegalStateException.class, () -> playerService.setTimeLimit(validTimeLimit));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(usageTable.isTracked(1L));
+    }
+
+    @Test
+    void setTimeLimit_LoadsFlushedVersionAfterCommit() {
+        when(playerRepository.findById(anyLong())).thenReturn(Optional.of(validPlayer));
+        when(playerRepository.save(any(Player.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            playerService.setTimeLimit(validTimeLimit);
+            assertFalse(usageTable.isTracked(1L));
+            // The flush runs @PreUpdate, which moves updatedAt before the commit.
+            validPlayer.setUpdatedAt(LocalDateTime.now());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        LocalDateTime flushed = validPlayer.getUpdatedAt();
+        assertTrue(usageTable.isCurrent(1L, calendar.toEpochSecond(flushed) * 1_000_000 + flushed.getNano() / 1_000));
+        assertEquals(120, usageTable.dailyLimitMinutes(1L));
+    }
+
     @Test
     void setTimeLimit_PlayerInactive() {
         Player inactivePlayer = validPlayer;
@@ -171,6 +312,26 @@ public class PlayerServiceTest {
         assertFalse(result);
     }
 
+    @Test
+    void hasExceededTimeLimit_NewDayCountsAsZeroWithoutWriting() {
+        validPlayer.setDailyTimeLimit(60);
+        validPlayer.setTodaySessionTime(3601L);
+        validPlayer.setLastDailyReset(LocalDateTime.now().minusDays(1));
+
+        assertFalse(playerService.hasExceededTimeLimit(validPlayer));
+        assertEquals(3601L, validPlayer.getTodaySessionTime());
+        verify(playerRepository, never()).save(any(Player.class));
+    }
+
+    @Test
+    void hasExceededTimeLimit_WindowLimitReached() {
+        validPlayer.setDailyTimeLimit(null);
+        validPlayer.setTodaySessionTime(1200L);
+        when(limitPolicyEngine.isOverLimit(validPlayer, 1200L)).thenReturn(true);
+
+        assertTrue(playerService.hasExceededTimeLimit(validPlayer));
+    }
+
     @Test
     void hasExceededTimeLimit_NoLimit() {
         Player playerWithoutTimeLimit = validPlayer;
@@ -181,6 +342,66 @@ public class PlayerServiceTest {
         assertFalse(result);
     }
 
+    @Test
+    void hasExceededTimeLimit_ReadsUsageTableWhenTracked() {
+        validPlayer.setDailyTimeLimit(60);
+        validPlayer.setTodaySessionTime(0L);
+        usageTable.load(1L, 60, LocalDate.now().toEpochDay(), 3600, 0, 0);
+
+        assertTrue(playerService.hasExceededTimeLimit(validPlayer));
+    }
+
+    @Test
+    void limitState_ReadsCurrentSlotWithoutLoadingPlayer() {
+        LocalDateTime updatedAt = LocalDateTime.now().withNano(0);
+        usageTable.load(1L, 60, LocalDate.now().toEpochDay(), 1200, 0, calendar.toEpochMicros(updatedAt));
+
+        PlayerService.LimitState state = playerService.limitState(1L, ZoneId.systemDefault(), updatedAt);
+
+        assertEquals(60, state.dailyLimitMinutes());
+        assertEquals(1200, state.secondsUsedToday());
+        assertNull(state.lastSessionStart());
+        verify(playerRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void limitState_LoadsPlayerWhenSlotIsStale() {
+        usageTable.load(1L, 60, LocalDate.now().toEpochDay(), 1200, 0, 0);
+        validPlayer.setDailyTimeLimit(120);
+        validPlayer.setTodaySessionTime(600L);
+        validPlayer.setUpdatedAt(LocalDateTime.now());
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(validPlayer));
+
+        PlayerService.LimitState state = playerService.limitState(1L, ZoneId.systemDefault(), validPlayer.getUpdatedAt());
+
+        assertEquals(120, state.dailyLimitMinutes());
+        assertEquals(600, state.secondsUsedToday());
+        assertEquals(120, usageTable.dailyLimitMinutes(1L));
+    }
+
+    @Test
+    void hasExceededTimeLimit_ReloadsSlotOlderThanEntity() {
+        usageTable.load(1L, 60, LocalDate.now().toEpochDay(), 3600, 0, 0);
+        // Another node raised the limit after this node loaded the slot.
+        validPlayer.setDailyTimeLimit(120);
+        validPlayer.setTodaySessionTime(3600L);
+        validPlayer.setUpdatedAt(LocalDateTime.now());
+
+        assertFalse(playerService.hasExceededTimeLimit(validPlayer));
+        assertEquals(120, usageTable.dailyLimitMinutes(1L));
+    }
+
+    @Test
+    void updatePlayerSessionTime_RefreshesUsageTable() {
+        validPlayer.setDailyTimeLimit(5);
+        when(playerRepository.save(any(Player.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        playerService.updatePlayerSessionTime(validPlayer, 300);
+
+        assertEquals(300, usageTable.secondsUsed(1L, LocalDate.now().toEpochDay()));
+        assertTrue(usageTable.hasExceeded(1L, LocalDate.now().toEpochDay()));
+    }
+
     @Test
     void updatePlayerSessionTime_Success() {
         when(playerRepository.save(any(Player.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -5,8 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 import playerService.dto.LoginRequestDto;
 import playerService.dto.SessionResponseDto;
 import playerService.exception.InvalidCredentialsException;
@@ -14,8 +17,13 @@ import playerService.exception.SessionNotFoundException;
 import playerService.exception.TimeLimitExceededException;
 import playerService.model.Player;
 import playerService.model.Session;
+import playerService.policy.LimitPolicyEngine;
 import playerService.repository.SessionRepository;
+import playerService.session.OpenSession;
+import playerService.session.SessionRegistry;
+import playerService.time.PlayerCalendar;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -38,6 +46,24 @@ public class SessionServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private HeartbeatService heartbeatService;
+
+    @Mock
+    private LimitPolicyEngine limitPolicyEngine;
+
+    @Spy
+    private SessionRegistry sessionRegistry = new SessionRegistry(1, SessionRegistry.OnLimit.EVICT_OLDEST);
+
+    @Spy
+    private PlayerCalendar calendar = new PlayerCalendar(Clock.systemDefaultZone(), "");
+
     @InjectMocks
     private SessionService sessionService;
 
@@ -72,6 +98,7 @@ public class SessionServiceTest {
     @Test
     void login_Success() {
         when(playerService.getPlayerByEmail(anyString())).thenReturn(validPlayer);
+        when(playerService.getPlayerById(1L)).thenReturn(validPlayer);
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
         when(playerService.hasExceededTimeLimit(any(Player.class))).thenReturn(false);
         when(sessionRepository.findByPlayerAndLoggedOutAtIsNull(any(Player.class))).thenReturn(new ArrayList<>());
@@ -83,6 +110,91 @@ public class SessionServiceTest {
         assertNotNull(result);
         assertEquals(validSession.getId(), result.getSessionId());
         assertEquals(validPlayer.getEmail(), result.getPlayerEmail());
+        verify(playerService).rehashIfOutdated(validPlayer, validLoginRequest.getPassword());
+        verify(playerService, never()).updatePassword(any(Player.class), anyString());
+    }
+
+    @Test
+    void login_StoresRehashedPassword() {
+        when(playerService.getPlayerByEmail(anyString())).thenReturn(validPlayer);
+        when(playerService.getPlayerById(1L)).thenReturn(validPlayer);
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(playerService.rehashIfOutdated(validPlayer, "password123")).thenReturn("{bcrypt}rehashed");
+        when(playerService.hasExceededTimeLimit(any(Player.class))).thenReturn(false);
+        when(sessionRepository.findByPlayerAndLoggedOutAtIsNull(any(Player.class))).thenReturn(new ArrayList<>());
+        when(sessionRepository.save(any(Session.class))).thenReturn(validSession);
+
+        sessionService.login(validLoginRequest);
+
+        verify(playerService).updatePassword(validPlayer, "{bcrypt}rehashed");
+    }
+
+    @Test
+    void login_WritesFreshlyLoadedPlayerNotTheVerifiedCopy() {
+        Player current = new Player();
+        current.setId(1L);
+        current.setEmail("test@example.com");
+        current.setPassword("changed_meanwhile");
+        current.setDailyTimeLimit(30);
+        when(playerService.getPlayerByEmail(anyString())).thenReturn(validPlayer);
+        when(playerService.getPlayerById(1L)).thenReturn(current);
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(playerService.rehashIfOutdated(validPlayer, "password123")).thenReturn("{bcrypt}rehashed");
+        when(playerService.hasExceededTimeLimit(current)).thenReturn(false);
+        when(sessionRepository.findByPlayerAndLoggedOutAtIsNull(current)).thenReturn(new ArrayList<>());
+        when(sessionRepository.save(any(Session.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        sessionService.login(validLoginRequest);
+
+        verify(playerService).updateSessionStartTime(current);
+        verify(playerService, never()).updateSessionStartTime(validPlayer);
+        verify(playerService, never()).updatePassword(any(Player.class), anyString());
+    }
+
+    @Test
+    void login_EvictsOldestSessionAtLimit() {
+        Session previous = validSession;
+        previous.setCreatedAt(LocalDateTime.now().minusMinutes(30));
+        Session opened = new Session();
+        opened.setId("session-456");
+        opened.setPlayer(validPlayer);
+        opened.setCreatedAt(LocalDateTime.now());
+        opened.setExpiresAt(LocalDateTime.now().plusHours(24));
+
+        when(playerService.getPlayerByEmail(anyString())).thenReturn(validPlayer);
+        when(playerService.getPlayerById(1L)).thenReturn(validPlayer);
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(playerService.hasExceededTimeLimit(any(Player.class))).thenReturn(false);
+        when(sessionRepository.save(any(Session.class))).thenReturn(opened, previous);
+        when(sessionRepository.findByPlayerAndLoggedOutAtIsNull(any(Player.class))).thenReturn(List.of(previous));
+        when(sessionRepository.findByIdAndLoggedOutAtIsNull("session-123")).thenReturn(Optional.of(previous));
+
+        SessionResponseDto result = sessionService.login(validLoginRequest);
+
+        assertEquals("session-456", result.getSessionId());
+        assertNotNull(previous.getLoggedOutAt());
+        verify(heartbeatService).forget("session-123");
+        // The new session continues the evicted one, so nothing is credited or restarted yet.
+        verify(playerService, never()).updatePlayerSessionTime(any(Player.class), anyLong());
+        verify(playerService, never()).updateSessionStartTime(any(Player.class));
+    }
+
+    @Test
+    void logout_WithAnotherSessionOpenCreditsNothing() {
+        Session other = new Session();
+        other.setId("session-456");
+        other.setPlayer(validPlayer);
+        other.setCreatedAt(LocalDateTime.now());
+        other.setExpiresAt(LocalDateTime.now().plusHours(24));
+
+        when(sessionRepository.findByIdAndLoggedOutAtIsNull(anyString())).thenReturn(Optional.of(validSession));
+        when(sessionRepository.findByPlayerAndLoggedOutAtIsNull(any(Player.class))).thenReturn(List.of(validSession, other));
+        when(sessionRepository.existsByIdAndLoggedOutAtIsNull("session-123")).thenReturn(true);
+
+        sessionService.logout("session-123");
+
+        verify(playerService, never()).updatePlayerSessionTime(any(Player.class), anyLong());
+        assertEquals(List.of("session-456"), sessionRegistry.sessionIds(validPlayer.getId()));
     }
 
     @Test
@@ -93,11 +205,13 @@ public class SessionServiceTest {
         assertThrows(InvalidCredentialsException.class, () -> {
             sessionService.login(validLoginRequest);
         });
+        verify(playerService, never()).rehashIfOutdated(any(Player.class), anyString());
     }
 
     @Test
     void login_TimeLimitExceeded() {
         when(playerService.getPlayerByEmail(anyString())).thenReturn(validPlayer);
+        when(playerService.getPlayerById(1L)).thenReturn(validPlayer);
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
         when(playerService.hasExceededTimeLimit(any(Player.class))).thenReturn(true);
 
@@ -112,15 +226,28 @@ public class SessionServiceTest {
         when(sessionRepository.findByIdAndLoggedOutAtIsNull(anyString())).thenReturn(Optional.of(validSession));
         when(sessionRepository.save(any(Session.class))).thenReturn(validSession);
         doNothing().when(playerService).updatePlayerSessionTime(any(Player.class), anyLong());
+        when(sessionRepository.existsByIdAndLoggedOutAtIsNull("session-123")).thenReturn(true);
 
         assertDoesNotThrow(() -> {
             sessionService.logout("session-123");
         });
 
+        verify(playerService).lockForSessionChange(1L);
         verify(sessionRepository).save(any(Session.class));
         verify(playerService).updatePlayerSessionTime(eq(validPlayer), anyLong());
     }
 
+    @Test
+    void logout_ClosedOnAnotherNodeWhileWaitingForTheLock() {
+        when(sessionRepository.findByIdAndLoggedOutAtIsNull(anyString())).thenReturn(Optional.of(validSession));
+        when(sessionRepository.existsByIdAndLoggedOutAtIsNull("session-123")).thenReturn(false);
+
+        assertThrows(SessionNotFoundException.class, () -> sessionService.logout("session-123"));
+
+        verify(sessionRepository, never()).save(any(Session.class));
+        verify(playerService, never()).updatePlayerSessionTime(any(Player.class), anyLong());
+    }
+
     @Test
     void logout_SessionNotFound() {
         when(sessionRepository.findByIdAndLoggedOutAtIsNull(anyString())).thenReturn(Optional.empty());
@@ -140,13 +267,32 @@ public class SessionServiceTest {
         Session session = validSession;
         session.setPlayer(playerWithTimeLimit);
 
-        when(sessionRepository.findAll()).thenReturn(List.of(session));
+        LocalDateTime sessionStart = LocalDateTime.now().minusMinutes(5);
+        when(sessionRepository.findOpenSessions()).thenReturn(List.of(
+                new OpenSession("session-123", 1L, session.getCreatedAt(), null, LocalDateTime.now())));
+        when(playerService.limitState(eq(1L), any(), any()))
+                .thenReturn(new PlayerService.LimitState(60, 3500L, sessionStart));
         when(sessionRepository.findByIdAndLoggedOutAtIsNull(anyString())).thenReturn(Optional.of(session));
         when(sessionRepository.save(any(Session.class))).thenReturn(session);
+        when(sessionRepository.existsByIdAndLoggedOutAtIsNull("session-123")).thenReturn(true);
         doNothing().when(playerService).updatePlayerSessionTime(any(Player.class), anyLong());
 
         sessionService.checkAndLogoutTimeLimitExceededPlayers();
 
         verify(sessionRepository).save(any(Session.class));
+        verify(sessionRepository, never()).findAll();
+    }
+
+    @Test
+    void checkAndLogoutTimeLimitExceededPlayers_SkipsPlayersUnderTheirLimit() {
+        when(sessionRepository.findOpenSessions()).thenReturn(List.of(
+                new OpenSession("session-123", 1L, LocalDateTime.now(), null, LocalDateTime.now())));
+        when(playerService.limitState(eq(1L), any(), any()))
+                .thenReturn(new PlayerService.LimitState(60, 60L, LocalDateTime.now().minusMinutes(5)));
+
+        sessionService.checkAndLogoutTimeLimitExceededPlayers();
+
+        verify(sessionRepository, never()).findByIdAndLoggedOutAtIsNull(anyString());
+        verify(playerService, never()).getPlayerById(anyLong());
     }
 }
@@ -0,0 +1,125 @@
+package playerService.session;
+
+import org.junit.jupiter.api.Test;
+import playerService.exception.TooManySessionsException;
+import playerService.model.Player;
+import playerService.model.Session;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionRegistryTest {
+
+    private final Player player = player(1L);
+    private final LocalDateTime now = LocalDateTime.of(2024, 3, 16, 12, 0);
+
+    @Test
+    void countsSessionsOpenedOnOtherNodes() {
+        SessionRegistry registry = new SessionRegistry(3, SessionRegistry.OnLimit.EVICT_OLDEST);
+        AtomicInteger loads = new AtomicInteger();
+        Session first = session("a", now.minusHours(1));
+        Session elsewhere = session("x", now.minusMinutes(30));
+        Session second = session("b", now);
+
+        registry.admit(first, now, () -> {
+            loads.incrementAndGet();
+            return List.of(first);
+        });
+        SessionRegistry.Admission admission = registry.admit(second, now, () -> {
+            loads.incrementAndGet();
+            return List.of(first, elsewhere, second);
+        });
+
+        assertEquals(2, loads.get());
+        assertTrue(admission.closing().isEmpty());
+        assertTrue(admission.othersOpen());
+        assertEquals(List.of("a", "x", "b"), registry.sessionIds(1L));
+    }
+
+    @Test
+    void evictsTheOldestAtTheLimit() {
+        SessionRegistry registry = new SessionRegistry(2, SessionRegistry.OnLimit.EVICT_OLDEST);
+        Session newest = session("c", now);
+
+        SessionRegistry.Admission admission = registry.admit(newest, now, () -> List.of(
+                session("b", now.minusMinutes(5)), session("a", now.minusMinutes(10))));
+
+        assertEquals(List.of("a"), admission.closing());
+        assertTrue(admission.othersOpen());
+        assertEquals(List.of("b", "c"), registry.sessionIds(1L));
+    }
+
+    @Test
+    void rejectsAtTheLimitWithoutChangingTheSet() {
+        SessionRegistry registry = new SessionRegistry(1, SessionRegistry.OnLimit.REJECT);
+        Session first = session("a", now.minusMinutes(10));
+        registry.admit(first, now, List::of);
+
+        assertThrows(TooManySessionsException.class, () -> registry.admit(session("b", now), now, () -> List.of(first)));
+        assertEquals(List.of("a"), registry.sessionIds(1L));
+    }
+
+    @Test
+    void expiredSessionsDoNotCountTowardsTheLimit() {
+        SessionRegistry registry = new SessionRegistry(1, SessionRegistry.OnLimit.REJECT);
+        Session expired = session("a", now.minusDays(2));
+
+        SessionRegistry.Admission admission = registry.admit(session("b", now), now, () -> List.of(expired));
+
+        assertEquals(List.of("a"), admission.closing());
+        assertFalse(admission.othersOpen());
+    }
+
+    @Test
+    void removingTheLastSessionForgetsThePlayer() {
+        SessionRegistry registry = new SessionRegistry(2, SessionRegistry.OnLimit.EVICT_OLDEST);
+        Session first = session("a", now.minusMinutes(1));
+        Session second = session("b", now);
+        registry.admit(first, now, List::of);
+        registry.admit(second, now, () -> List.of(first, second));
+
+        assertEquals(1, registry.remove(first, () -> List.of(first, second)));
+        assertEquals(0, registry.remove(second, () -> List.of(second)));
+        assertEquals(0, registry.trackedPlayers());
+    }
+
+    @Test
+    void removeGoesByTheDatabaseNotTheHeldSet() {
+        SessionRegistry registry = new SessionRegistry(2, SessionRegistry.OnLimit.EVICT_OLDEST);
+        Session first = session("a", now.minusMinutes(1));
+        Session second = session("b", now);
+        registry.admit(first, now, List::of);
+        registry.admit(second, now, () -> List.of(first, second));
+
+        // "b" was closed on another node, so closing "a" here ends the player's last session.
+        assertEquals(0, registry.remove(first, () -> List.of(first)));
+        assertEquals(List.of(), registry.sessionIds(1L));
+    }
+
+    @Test
+    void removeLoadsOtherSessionsWhenTheSetIsNotHeld() {
+        SessionRegistry registry = new SessionRegistry(2, SessionRegistry.OnLimit.EVICT_OLDEST);
+        Session closing = session("a", now.minusMinutes(1));
+
+        assertEquals(1, registry.remove(closing, () -> List.of(closing, session("b", now))));
+        assertEquals(List.of("b"), registry.sessionIds(1L));
+    }
+
+    private Session session(String id, LocalDateTime createdAt) {
+        Session session = new Session();
+        session.setId(id);
+        session.setPlayer(player);
+        session.setCreatedAt(createdAt);
+        session.setExpiresAt(createdAt.plusHours(24));
+        return session;
+    }
+
+    private static Player player(long id) {
+        Player player = new Player();
+        player.setId(id);
+        return player;
+    }
+}
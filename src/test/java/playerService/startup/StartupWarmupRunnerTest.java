@@ -0,0 +1,33 @@
+package playerService.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.net.http.HttpClient;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class StartupWarmupRunnerTest {
+
+    @Autowired
+    private StartupWarmupRunner warmupRunner;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void warmUp_ReportsFailedRoundTrip() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        String baseUrl = "http://localhost:" + port;
+
+        assertTrue(warmupRunner.warmUp(client, baseUrl, "warmup-test@warmup.local", "warmup-password"));
+        // Registering the same email again is rejected, so the round trip stops there.
+        assertFalse(warmupRunner.warmUp(client, baseUrl, "warmup-test@warmup.local", "warmup-password"));
+    }
+}
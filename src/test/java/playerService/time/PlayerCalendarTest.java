@@ -0,0 +1,58 @@
+package playerService.time;
+
+import org.junit.jupiter.api.Test;
+import playerService.model.Player;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerCalendarTest {
+
+    // 00:30 on 11 March in Kolkata, still 10 March in UTC.
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-10T19:00:00Z"), ZoneOffset.UTC);
+    private final PlayerCalendar calendar = new PlayerCalendar(clock, "");
+
+    @Test
+    void dayBoundaryFollowsPlayerZone() {
+        Player local = player(null);
+        Player kolkata = player("Asia/Kolkata");
+
+        assertFalse(calendar.isNewDay(local));
+        assertTrue(calendar.isNewDay(kolkata));
+        assertEquals(1800, calendar.secondsUsedToday(local));
+        assertEquals(0, calendar.secondsUsedToday(kolkata));
+        assertEquals(LocalDate.of(2024, 3, 11), calendar.today(ZoneId.of("Asia/Kolkata")));
+    }
+
+    @Test
+    void sessionAcrossMidnightOnlyCountsFromMidnight() {
+        Player kolkata = player("Asia/Kolkata");
+        LocalDateTime sessionStart = LocalDateTime.of(2024, 3, 10, 18, 0);
+
+        assertEquals(LocalDateTime.of(2024, 3, 10, 18, 30), calendar.startOfToday(ZoneId.of("Asia/Kolkata")));
+        assertEquals(1800, calendar.secondsToday(kolkata, sessionStart, calendar.now()));
+        assertEquals(3600, calendar.secondsToday(player(null), sessionStart, calendar.now()));
+    }
+
+    @Test
+    void defaultZoneAppliesToPlayersWithoutOne() {
+        PlayerCalendar kolkataDefault = new PlayerCalendar(clock, "Asia/Kolkata");
+
+        assertTrue(kolkataDefault.isNewDay(player(null)));
+        assertEquals(ZoneOffset.UTC, kolkataDefault.zoneOf("UTC").normalized());
+    }
+
+    private static Player player(String timeZone) {
+        Player player = new Player();
+        player.setTimeZone(timeZone);
+        player.setTodaySessionTime(1800L);
+        player.setLastDailyReset(LocalDateTime.of(2024, 3, 10, 8, 0));
+        return player;
+    }
+}
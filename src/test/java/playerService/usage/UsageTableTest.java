@@ -0,0 +1,142 @@
+package playerService.usage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UsageTableTest {
+
+    private static final long TODAY = 20_000;
+
+    private final UsageTable table = new UsageTable(1 << 20);
+
+    @Test
+    void untrackedPlayersAreReportedAsSuch() {
+        assertFalse(table.isTracked(42));
+        assertFalse(table.hasExceeded(42, TODAY));
+        assertEquals(0, table.footprintBytes() - (long) (1 << 20) / UsageTable.PAGE_SLOTS * Integer.BYTES);
+    }
+
+    @Test
+    void loadedStateIsReadBack() {
+        table.load(42, 30, TODAY, 1200, 1_700_000_000L, 0);
+
+        assertTrue(table.isTracked(42));
+        assertEquals(30, table.dailyLimitMinutes(42));
+        assertEquals(1200, table.secondsUsed(42, TODAY));
+        assertEquals(1_700_000_000L, table.sessionStartEpochSecond(42));
+        assertFalse(table.hasExceeded(42, TODAY));
+
+        table.addSeconds(42, 600, TODAY);
+        assertTrue(table.hasExceeded(42, TODAY));
+    }
+
+    @Test
+    void noLimitNeverExceeds() {
+        table.load(7, null, TODAY, 1_000_000, 0, 0);
+
+        assertEquals(UsageTable.NO_LIMIT, table.dailyLimitMinutes(7));
+        assertFalse(table.hasExceeded(7, TODAY));
+    }
+
+    @Test
+    void usageRollsOverOnNewDay() {
+        table.load(42, 30, TODAY, 1800, 0, 0);
+        assertTrue(table.hasExceeded(42, TODAY));
+
+        assertEquals(0, table.secondsUsed(42, TODAY + 1));
+        assertFalse(table.hasExceeded(42, TODAY + 1));
+        assertEquals(60, table.addSeconds(42, 60, TODAY + 1));
+    }
+
+    @Test
+    void evictedSlotsMustBeReloaded() {
+        table.load(42, 30, TODAY, 0, 0, 0);
+        table.evict(42);
+
+        assertFalse(table.isTracked(42));
+    }
+
+    @Test
+    void idsBeyondCapacityAreIgnored() {
+        table.load(1L << 30, 30, TODAY, 0, 0, 0);
+
+        assertFalse(table.isTracked(1L << 30));
+        assertEquals(0, table.addSeconds(1L << 30, 10, TODAY));
+    }
+
+    @Test
+    void concurrentAdditionsAreNotLost() throws InterruptedException {
+        table.load(42, 600, TODAY, 0, 0, 0);
+        int threads = 8;
+        int additions = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < additions; i++) {
+                    table.addSeconds(42, 1, TODAY);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals((long) threads * additions, table.secondsUsed(42, TODAY));
+    }
+
+    @Test
+    void olderVersionIsNotCurrent() {
+        table.load(42, 30, TODAY, 0, 0, 1_000);
+
+        assertTrue(table.isCurrent(42, 1_000));
+        assertTrue(table.isCurrent(42, 999));
+        assertFalse(table.isCurrent(42, 1_001));
+        assertFalse(table.isCurrent(43, 0));
+    }
+
+    @Test
+    void creditAdvancesVersionOfCurrentSlot() {
+        table.load(42, 30, TODAY, 60, 0, 1_000);
+
+        table.credit(42, 30, TODAY, 5_000, 1_000, 2_000);
+
+        assertEquals(90, table.secondsUsed(42, TODAY));
+        assertEquals(5_000, table.sessionStartEpochSecond(42));
+        assertTrue(table.isCurrent(42, 2_000));
+    }
+
+    @Test
+    void creditSkipsSlotThatMissedAWrite() {
+        table.load(42, 30, TODAY, 60, 0, 1_000);
+
+        table.credit(42, 30, TODAY, 5_000, 1_500, 2_000);
+
+        assertEquals(60, table.secondsUsed(42, TODAY));
+        assertFalse(table.isCurrent(42, 2_000));
+    }
+
+    @Test
+    void footprintIsThirtyTwoBytesPerPlayer() {
+        for (long id = 0; id < 1_000_000; id += UsageTable.PAGE_SLOTS) {
+            table.load(id, 60, TODAY, 0, 0, 0);
+        }
+
+        long pageBytes = table.footprintBytes() - (long) (1 << 20) / UsageTable.PAGE_SLOTS * Integer.BYTES;
+        long slots = pageBytes / (UsageTable.SLOT_WIDTH * Long.BYTES);
+        assertTrue(slots >= 1_000_000 && slots < 1_000_000 + UsageTable.PAGE_SLOTS);
+        assertEquals(32, UsageTable.SLOT_WIDTH * Long.BYTES);
+    }
+}
@@ -0,0 +1,230 @@
+package playerService.webhook;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import playerService.event.SessionClosedEvent;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookDispatcherTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final BlockingQueue<JsonNode> requests = new LinkedBlockingQueue<>();
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private volatile int defaultStatus = 200;
+    private volatile CountDownLatch release = new CountDownLatch(0);
+    private HttpServer receiver;
+    private WebhookDispatcher dispatcher;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void startReceiver() throws IOException {
+        receiver = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        receiver.createContext("/hook", exchange -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            requests.add(objectMapper.readTree(exchange.getRequestBody()));
+            Integer status = statuses.poll();
+            exchange.sendResponseHeaders(status != null ? status : defaultStatus, -1);
+            exchange.close();
+        });
+        receiver.start();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        release.countDown();
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+        receiver.stop(0);
+    }
+
+    @Test
+    void eventsWithinLingerGoOutAsOneBatch() throws Exception {
+        dispatcher = dispatcher(100, 10, Duration.ofMillis(300), 3);
+
+        dispatcher.onSessionClosed(new SessionClosedEvent("s1", 1L, true));
+        dispatcher.onSessionClosed(new SessionClosedEvent("s2", 2L, false));
+        dispatcher.publish(WebhookEvent.LIMIT_CHANGED, 3L, null);
+
+        JsonNode batch = requests.poll(5, TimeUnit.SECONDS);
+        assertNotNull(batch);
+        assertEquals(2, batch.get("events").size());
+        JsonNode forced = batch.get("events").get(0);
+        assertEquals(WebhookEvent.FORCED_LOGOUT, forced.get("type").asText());
+        assertEquals(1, forced.get("playerId").asLong());
+        assertEquals("s1", forced.get("sessionId").asText());
+        assertFalse(forced.get("id").asText().isEmpty());
+        assertTrue(forced.get("occurredAt").isTextual());
+        assertNull(requests.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void fullBatchIsSentWithoutWaitingForLinger() throws Exception {
+        dispatcher = dispatcher(100, 2, Duration.ofSeconds(30), 3);
+
+        for (long player = 1; player <= 3; player++) {
+            dispatcher.publish(WebhookEvent.LIMIT_CHANGED, player, null);
+        }
+
+        JsonNode first = requests.poll(5, TimeUnit.SECONDS);
+        assertNotNull(first);
+        assertEquals(2, first.get("events").size());
+    }
+
+    @Test
+    void serverErrorsAreRetriedWithBackoff() throws Exception {
+        statuses.add(503);
+        statuses.add(429);
+        dispatcher = dispatcher(100, 10, Duration.ofMillis(10), 3);
+
+        dispatcher.publish(WebhookEvent.LIMIT_CHANGED, 1L, null);
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertNotNull(requests.poll(5, TimeUnit.SECONDS), "attempt " + attempt);
+        }
+        awaitCount("delivered", 1);
+        assertEquals(2, registry.get("player.webhooks.retries").functionCounter().count());
+        assertFalse(Files.exists(deadLetterFile()));
+    }
+
+    @Test
+    void exhaustedBatchIsDeadLettered() throws Exception {
+        defaultStatus = 500;
+        dispatcher = dispatcher(100, 10, Duration.ofMillis(10), 2);
+
+        dispatcher.publish(WebhookEvent.LIMIT_CHANGED, 7L, null);
+
+        awaitCount("dead-lettered", 1);
+        assertEquals(2, requests.size());
+        List<String> lines = Files.readAllLines(deadLetterFile());
+        assertEquals(1, lines.size());
+        JsonNode deadLetter = objectMapper.readTree(lines.get(0));
+        assertEquals(2, deadLetter.get("attempts").asInt());
+        assertEquals("HTTP 500", deadLetter.get("error").asText());
+        assertEquals(7, deadLetter.get("event").get("playerId").asLong());
+    }
+
+    @Test
+    void clientErrorsAreNotRetried() throws Exception {
+        defaultStatus = 400;
+        dispatcher = dispatcher(100, 10, Duration.ofMillis(10), 5);
+
+        dispatcher.publish(WebhookEvent.LIMIT_CHANGED, 1L, null);
+
+        awaitCount("dead-lettered", 1);
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void publishingNeverWaitsForSlowReceiver() throws Exception {
+        release = new CountDownLatch(1);
+        dispatcher = dispatcher(2, 1, Duration.ZERO, 1);
+
+        long started = System.nanoTime();
+        for (long player = 0; player < 1000; player++) {
+            dispatcher.publish(WebhookEvent.LIMIT_CHANGED, player, null);
+        }
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 1000);
+        assertTrue(registry.get("player.webhooks.events").tag("outcome", "dropped").functionCounter().count() >= 997);
+    }
+
+    @Test
+    void limitChangeFloodNeverCrowdsOutForcedLogouts() throws Exception {
+        release = new CountDownLatch(1);
+        dispatcher = dispatcher(2, 1, Duration.ZERO, 1);
+        for (long player = 0; player < 1000; player++) {
+            dispatcher.publish(WebhookEvent.LIMIT_CHANGED, player, null);
+        }
+        double dropped = registry.get("player.webhooks.events").tag("outcome", "dropped").functionCounter().count();
+
+        dispatcher.onSessionClosed(new SessionClosedEvent("s1", 1L, true));
+        release.countDown();
+
+        assertEquals(dropped, registry.get("player.webhooks.events").tag("outcome", "dropped").functionCounter().count());
+        assertEquals(WebhookEvent.LIMIT_CHANGED, requests.poll(5, TimeUnit.SECONDS).get("events").get(0).get("type").asText());
+        JsonNode next = requests.poll(5, TimeUnit.SECONDS);
+        assertNotNull(next);
+        assertEquals(WebhookEvent.FORCED_LOGOUT, next.get("events").get(0).get("type").asText());
+    }
+
+    @Test
+    void queuedEventsAreDeadLetteredAtShutdown() throws Exception {
+        release = new CountDownLatch(1);
+        dispatcher = dispatcher(100, 1, Duration.ZERO, 1);
+        for (long player = 0; player < 5; player++) {
+            dispatcher.publish(WebhookEvent.LIMIT_CHANGED, player, null);
+        }
+
+        dispatcher.shutdown();
+        dispatcher = null;
+
+        assertTrue(Files.readAllLines(deadLetterFile()).size() >= 4);
+    }
+
+    @Test
+    void backoffDoublesUpToCap() {
+        WebhookDispatcher backoff = new WebhookDispatcher(objectMapper, Clock.systemUTC(), List.of(), 1, 1,
+                Duration.ZERO, 6, Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(1), deadLetterFile());
+
+        assertEquals(Duration.ofSeconds(1), backoff.backoff(1));
+        assertEquals(Duration.ofSeconds(2), backoff.backoff(2));
+        assertEquals(Duration.ofSeconds(4), backoff.backoff(3));
+        assertEquals(Duration.ofSeconds(5), backoff.backoff(4));
+    }
+
+    private WebhookDispatcher dispatcher(int queueCapacity, int batchSize, Duration linger, int maxAttempts) {
+        String url = "http://localhost:" + receiver.getAddress().getPort() + "/hook";
+        WebhookDispatcher created = new WebhookDispatcher(objectMapper, Clock.systemUTC(), List.of(url), queueCapacity,
+                batchSize, linger, maxAttempts, Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofSeconds(2),
+                deadLetterFile());
+        created.bindTo(registry);
+        return created;
+    }
+
+    private Path deadLetterFile() {
+        return tempDir.resolve("dead-letters.ndjson");
+    }
+
+    private void awaitCount(String outcome, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (registry.get("player.webhooks.events").tag("outcome", outcome).functionCounter().count() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, registry.get("player.webhooks.events").tag("outcome", outcome).functionCounter().count());
+    }
+}